@@ -0,0 +1,45 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown if a requested byte range does not overlap the available data.
+ */
+@Getter
+public class RangeNotSatisfiableException extends RuntimeException {
+
+    /**
+     * Default serial version uid.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The size of the available data.
+     */
+    private final long size;
+
+    /**
+     * Construct a RangeNotSatisfiableException for data of the given size.
+     *
+     * @param dataSize The size of the available data.
+     */
+    public RangeNotSatisfiableException(final long dataSize) {
+        super("Range not satisfiable.");
+        this.size = dataSize;
+    }
+}
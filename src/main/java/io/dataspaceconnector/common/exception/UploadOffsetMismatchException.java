@@ -0,0 +1,45 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown if a part of an upload does not continue the data received so far.
+ */
+@Getter
+public class UploadOffsetMismatchException extends RuntimeException {
+
+    /**
+     * Default serial version uid.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The offset at which the next part is expected.
+     */
+    private final long offset;
+
+    /**
+     * Construct an UploadOffsetMismatchException with the expected offset.
+     *
+     * @param expectedOffset The offset at which the next part is expected.
+     */
+    public UploadOffsetMismatchException(final long expectedOffset) {
+        super("Upload offset mismatch.");
+        this.offset = expectedOffset;
+    }
+}
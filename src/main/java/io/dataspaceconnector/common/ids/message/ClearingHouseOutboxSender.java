@@ -0,0 +1,256 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.ids.message;
+
+import io.dataspaceconnector.model.message.ClearingHouseLogEntry;
+import io.dataspaceconnector.repository.ClearingHouseOutboxRepository;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Sends the items stored for the Clearing House in the background. Due items are read in
+ * batches and sent grouped by process, in the order they have been stored. If an item could not
+ * be sent, it is retried with exponential backoff and the following items of its process wait
+ * for it. After too many failed attempts, the item is given up and kept as failed.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class ClearingHouseOutboxSender {
+
+    /**
+     * The maximum delay between two attempts in milliseconds.
+     */
+    private static final long MAX_RETRY_DELAY = 3_600_000;
+
+    /**
+     * The maximum exponent of the backoff.
+     */
+    private static final int MAX_BACKOFF_EXPONENT = 20;
+
+    /**
+     * Service for communication with the clearing house.
+     */
+    private final @NonNull ClearingHouseService clearingHouseSvc;
+
+    /**
+     * Repository for items that should be logged.
+     */
+    private final @NonNull ClearingHouseOutboxRepository outboxRepository;
+
+    /**
+     * The maximum number of items read at once.
+     */
+    @Value("${clearing.house.outbox.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * The delay before the first retry in milliseconds.
+     */
+    @Value("${clearing.house.outbox.retry-delay:1000}")
+    private long retryDelay;
+
+    /**
+     * The number of failed attempts after which an item is given up.
+     */
+    @Value("${clearing.house.outbox.max-attempts:30}")
+    private int maxAttempts;
+
+    /**
+     * The delay between two runs of the sender in milliseconds.
+     */
+    @Value("${clearing.house.outbox.interval:1000}")
+    private long interval;
+
+    /**
+     * The thread sending the items. Sending waits for the Clearing House, so it does not run on
+     * the shared scheduling thread.
+     */
+    private ScheduledExecutorService executor;
+
+    /**
+     * Starts sending due items periodically.
+     */
+    @PostConstruct
+    public void init() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+        executor.scheduleWithFixedDelay(this::run, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops sending items.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Send all due items.
+     */
+    public void flush() {
+        if (!clearingHouseSvc.isClearingHouseEnabled()) {
+            return;
+        }
+
+        final var now = ZonedDateTime.now(ZoneOffset.UTC);
+        List<ClearingHouseLogEntry> due;
+        do {
+            due = outboxRepository.findAllDue(now, PageRequest.of(0, batchSize));
+            sendBatch(due, now);
+        } while (due.size() == batchSize);
+    }
+
+    /**
+     * Send all due items. Failures are logged, so that later runs are still carried out. Errors
+     * are caught as well, as any throwable escaping the task cancels the periodic execution.
+     */
+    private void run() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to send log items to clearing house. [exception=({})]",
+                        e.getMessage());
+            }
+        } catch (Error e) {
+            if (log.isErrorEnabled()) {
+                log.error("Failed to send log items to clearing house. [error=({})]",
+                        e.toString(), e);
+            }
+        }
+    }
+
+    /**
+     * Get the number of items that have not been sent yet.
+     *
+     * @return The number of items.
+     */
+    public long getPending() {
+        return outboxRepository.countByFailed(false);
+    }
+
+    /**
+     * Get the number of items that have been given up.
+     *
+     * @return The number of items.
+     */
+    public long getFailed() {
+        return outboxRepository.countByFailed(true);
+    }
+
+    /**
+     * Get the age of the oldest item that has not been sent yet.
+     *
+     * @return The age, zero if all items have been sent.
+     */
+    public Duration getLag() {
+        final var oldest = outboxRepository.findOldestCreationDate();
+        if (oldest == null) {
+            return Duration.ZERO;
+        }
+
+        return Duration.between(oldest, ZonedDateTime.now(ZoneOffset.UTC));
+    }
+
+    /**
+     * Send a batch of items grouped by process and remove the items that have been sent.
+     *
+     * @param entries The items.
+     * @param now     The current time.
+     */
+    private void sendBatch(final List<ClearingHouseLogEntry> entries, final ZonedDateTime now) {
+        final var processes = entries.stream().collect(Collectors.groupingBy(
+                ClearingHouseLogEntry::getProcessId, LinkedHashMap::new, Collectors.toList()));
+
+        final var sent = new ArrayList<UUID>();
+        for (final var process : processes.values()) {
+            sendProcess(process, sent, now);
+        }
+
+        if (!sent.isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(sent);
+        }
+    }
+
+    /**
+     * Send the items of a process in order. Stops at the first item that could not be sent and
+     * postpones it, the remaining items are held back until it has been sent or given up. Every
+     * failure counts as an attempt, so an item can not hold back its process forever.
+     *
+     * @param entries The items of the process.
+     * @param sent    The ids of the items that have been sent.
+     * @param now     The current time.
+     */
+    private void sendProcess(final List<ClearingHouseLogEntry> entries, final List<UUID> sent,
+                             final ZonedDateTime now) {
+        for (final var entry : entries) {
+            try {
+                clearingHouseSvc.sendLog(entry.getProcessId(), entry.getPayload());
+                sent.add(entry.getId());
+            } catch (RuntimeException e) {
+                if (entry.getAttempts() + 1 >= maxAttempts) {
+                    outboxRepository.markFailed(List.of(entry.getId()));
+                    if (log.isErrorEnabled()) {
+                        log.error("Gave up sending log item to clearing house. [process=({}), "
+                                        + "item=({}), attempts=({}), exception=({})]",
+                                entry.getProcessId(), entry.getId(), entry.getAttempts() + 1,
+                                e.getMessage());
+                    }
+                    continue;
+                }
+
+                final var next = now.plus(getRetryDelay(entry.getAttempts()));
+                outboxRepository.postpone(List.of(entry.getId()), next);
+                if (log.isWarnEnabled()) {
+                    log.warn("Failed to send log item to clearing house. [process=({}), "
+                                    + "item=({}), retry=({}), exception=({})]",
+                            entry.getProcessId(), entry.getId(), next, e.getMessage());
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Get the delay before the next attempt.
+     *
+     * @param attempts The number of failed attempts.
+     * @return The delay.
+     */
+    private Duration getRetryDelay(final int attempts) {
+        final var factor = 1L << Math.min(attempts, MAX_BACKOFF_EXPONENT);
+        return Duration.ofMillis(Math.min(retryDelay * factor, MAX_RETRY_DELAY));
+    }
+}
@@ -16,6 +16,8 @@
 package io.dataspaceconnector.common.ids.message;
 
 import java.net.URI;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.UUID;
 
@@ -28,7 +30,9 @@ import io.dataspaceconnector.common.exception.PolicyExecutionException;
 import io.dataspaceconnector.common.exception.UUIDFormatException;
 import io.dataspaceconnector.common.util.UUIDUtils;
 import io.dataspaceconnector.config.ConnectorConfig;
+import io.dataspaceconnector.model.message.ClearingHouseLogEntry;
 import io.dataspaceconnector.model.message.ProcessCreationMessageDesc;
+import io.dataspaceconnector.repository.ClearingHouseOutboxRepository;
 import io.dataspaceconnector.service.message.builder.type.LogMessageService;
 import io.dataspaceconnector.service.message.builder.type.ProcessCreationRequestService;
 import lombok.NonNull;
@@ -74,26 +78,32 @@ public class ClearingHouseService {
      */
     private final @NonNull ProcessCreationRequestService requestService;
 
+    /**
+     * Repository for items that should be logged.
+     */
+    private final @NonNull ClearingHouseOutboxRepository outboxRepository;
+
     /**
      * Object mapper for mapping to JSON.
      */
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
-     * Send contract agreement to clearing house.
+     * Store an item that should be logged under an agreement's process in the Clearing House.
+     * The item is sent in the background.
      *
      * @param agreementId The agreement's id.
      * @param logItem   The item that should be logged.
      */
     public void sendToClearingHouse(final URI agreementId, final Object logItem) {
         if (isClearingHouseEnabled()) {
-            final var url = buildDestination(agreementId);
-            logMessageSvc.sendMessage(url, logItem);
+            enqueue(UUIDUtils.uuidFromUri(agreementId), logItem);
         }
     }
 
     /**
-     * Creates a LogMessage with the IDS message as payload, then sends to the Clearing House.
+     * Stores the IDS message for being logged in the Clearing House. The message is sent in the
+     * background as payload of a LogMessage.
      *
      * @param idsMessage the message that should be logged.
      */
@@ -102,9 +112,8 @@ public class ClearingHouseService {
             try {
                 final var transferContractId =
                                     UUIDUtils.uuidFromUri(idsMessage.getTransferContract());
-                final var url = buildDestination(URI.create(transferContractId.toString()));
-                logMessageSvc.sendMessage(url, idsMessage.toRdf());
-            } catch (UUIDFormatException | PolicyExecutionException exception) {
+                enqueue(transferContractId, idsMessage.toRdf());
+            } catch (UUIDFormatException exception) {
                 if (log.isWarnEnabled()) {
                     log.warn("Failed to log message to clearing house. [exception=({})]",
                             exception.getMessage());
@@ -113,6 +122,18 @@ public class ClearingHouseService {
         }
     }
 
+    /**
+     * Send an item to the Clearing House.
+     *
+     * @param processId The process the item is logged under.
+     * @param logItem   The item that should be logged.
+     * @throws PolicyExecutionException if the item could not be logged.
+     */
+    public void sendLog(final UUID processId, final String logItem)
+            throws PolicyExecutionException {
+        logMessageSvc.sendMessage(buildDestination(processId), logItem);
+    }
+
     /**
      * Creates a process at the Clearing House using a contract agreement's UUID, where both the
      * provider and the consumer of the agreement are registered as process owners. This is
@@ -170,14 +191,25 @@ public class ClearingHouseService {
         return payload;
     }
 
-    private boolean isClearingHouseEnabled() {
+    /**
+     * Check whether a Clearing House has been configured.
+     *
+     * @return True if items should be logged in the Clearing House.
+     */
+    public boolean isClearingHouseEnabled() {
         return !connectorConfig.getClearingHouse().toString().isBlank();
     }
 
-    private URI buildDestination(final URI agreementId) {
+    private void enqueue(final UUID processId, final Object logItem) {
+        final var now = ZonedDateTime.now(ZoneOffset.UTC);
+        outboxRepository.save(new ClearingHouseLogEntry(UUID.randomUUID(), processId,
+                String.valueOf(logItem), now, 0, now, false));
+    }
+
+    private URI buildDestination(final UUID processId) {
         final var clearingHouse = connectorConfig.getClearingHouse();
         final var uriBuilder = UriComponentsBuilder.fromHttpUrl(clearingHouse.toString());
-        uriBuilder.pathSegment(logPath, UUIDUtils.uuidFromUri(agreementId).toString());
+        uriBuilder.pathSegment(logPath, processId.toString());
         return uriBuilder.build().toUri();
     }
 }
@@ -36,6 +36,8 @@ import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
 
 /**
  * Class providing common methods for message utility.
@@ -43,6 +45,29 @@ import java.util.Map;
 @Log4j2
 public final class MessageUtils {
 
+    /**
+     * Message property requesting, or announcing, the payload of an artifact response in raw
+     * binary form instead of Base64.
+     */
+    public static final String PAYLOAD_ENCODING_PROPERTY
+            = "https://w3id.org/idsa/dsc/payloadEncoding";
+
+    /**
+     * Value of the payload encoding property for raw binary payloads.
+     */
+    public static final String BINARY_PAYLOAD = "binary";
+
+    /**
+     * Message property announcing that the payload of an artifact response covers only a range
+     * of the data. The value is formatted like a Content-Range header.
+     */
+    public static final String CONTENT_RANGE_PROPERTY = "https://w3id.org/idsa/dsc/contentRange";
+
+    /**
+     * Pattern of the content range value.
+     */
+    private static final Pattern CONTENT_RANGE = Pattern.compile("bytes \\d+-\\d+/(\\d+|\\*)");
+
     /**
      * Class constructor without params.
      */
@@ -280,4 +305,76 @@ public final class MessageUtils {
 
         return content;
     }
+
+    /**
+     * Mark a message as requesting or carrying a raw binary payload.
+     *
+     * @param message The ids message.
+     * @throws IllegalArgumentException If the message is null.
+     */
+    public static void setBinaryPayload(final Message message) {
+        Utils.requireNonNull(message, ErrorMessage.MESSAGE_NULL);
+        message.setProperty(PAYLOAD_ENCODING_PROPERTY, BINARY_PAYLOAD);
+    }
+
+    /**
+     * Remove the mark of a raw binary payload, e.g. if the payload has to be sent Base64
+     * encoded after all.
+     *
+     * @param message The ids message.
+     * @throws IllegalArgumentException If the message is null.
+     */
+    public static void removeBinaryPayload(final Message message) {
+        Utils.requireNonNull(message, ErrorMessage.MESSAGE_NULL);
+        if (message.getProperties() != null) {
+            message.getProperties().remove(PAYLOAD_ENCODING_PROPERTY);
+        }
+    }
+
+    /**
+     * Check if a message requests or carries a raw binary payload. Messages of connectors not
+     * supporting binary payloads never do.
+     *
+     * @param message The ids message.
+     * @return True if the payload is binary.
+     */
+    public static boolean hasBinaryPayload(final Message message) {
+        if (message == null || message.getProperties() == null) {
+            return false;
+        }
+
+        // The value may be wrapped in a typed literal after deserialization.
+        final var value = message.getProperties().get(PAYLOAD_ENCODING_PROPERTY);
+        return value != null && value.toString().contains(BINARY_PAYLOAD);
+    }
+
+    /**
+     * Mark a message as carrying only a range of the requested data.
+     *
+     * @param message      The ids message.
+     * @param contentRange The range, formatted like a Content-Range header.
+     * @throws IllegalArgumentException If the message is null.
+     */
+    public static void setContentRange(final Message message, final String contentRange) {
+        Utils.requireNonNull(message, ErrorMessage.MESSAGE_NULL);
+        message.setProperty(CONTENT_RANGE_PROPERTY, contentRange);
+    }
+
+    /**
+     * Extract the range of the data carried by a message.
+     *
+     * @param message The ids message.
+     * @return The range formatted like a Content-Range header, if the payload is partial.
+     */
+    public static Optional<String> extractContentRange(final Message message) {
+        if (message == null || message.getProperties() == null
+                || message.getProperties().get(CONTENT_RANGE_PROPERTY) == null) {
+            return Optional.empty();
+        }
+
+        // The value may be wrapped in a typed literal after deserialization.
+        final var matcher = CONTENT_RANGE.matcher(
+                message.getProperties().get(CONTENT_RANGE_PROPERTY).toString());
+        return matcher.find() ? Optional.of(matcher.group()) : Optional.empty();
+    }
 }
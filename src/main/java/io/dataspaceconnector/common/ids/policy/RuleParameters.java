@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.ids.policy;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Embeddable;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+/**
+ * The policy pattern of an ids rule and the parameters of its constraints, extracted once when
+ * the rule is stored so policies can be enforced without parsing the rule again. Parameters the
+ * pattern does not use, or that could not be read, are null.
+ */
+@Data
+@Embeddable
+@NoArgsConstructor
+public class RuleParameters implements Serializable {
+
+    /**
+     * Serial version uid.
+     **/
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The recognized policy pattern, null if the rule matches no known pattern.
+     */
+    @Enumerated(EnumType.STRING)
+    private PolicyPattern pattern;
+
+    /**
+     * The maximum number of accesses (N_TIMES_USAGE).
+     */
+    private Integer maxAccess;
+
+    /**
+     * The start of the allowed time interval (USAGE_DURING_INTERVAL, USAGE_UNTIL_DELETION).
+     */
+    private ZonedDateTime intervalStart;
+
+    /**
+     * The end of the allowed time interval (USAGE_DURING_INTERVAL, USAGE_UNTIL_DELETION).
+     */
+    private ZonedDateTime intervalEnd;
+
+    /**
+     * The allowed usage duration (DURATION_USAGE).
+     */
+    private Duration duration;
+
+    /**
+     * The allowed connector (CONNECTOR_RESTRICTED_USAGE) or the recipient of access
+     * notifications (USAGE_NOTIFICATION).
+     */
+    private String endpoint;
+
+    /**
+     * The required security profile (SECURITY_PROFILE_RESTRICTED_USAGE).
+     */
+    private String securityProfile;
+}
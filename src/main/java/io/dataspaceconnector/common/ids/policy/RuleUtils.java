@@ -27,6 +27,7 @@ import de.fraunhofer.iais.eis.Permission;
 import de.fraunhofer.iais.eis.PermissionImpl;
 import de.fraunhofer.iais.eis.Prohibition;
 import de.fraunhofer.iais.eis.Rule;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.dataspaceconnector.common.exception.ContractException;
 import io.dataspaceconnector.common.exception.ErrorMessage;
 import io.dataspaceconnector.common.exception.InvalidInputException;
@@ -110,6 +111,58 @@ public final class RuleUtils {
         return detectedPattern;
     }
 
+    /**
+     * Recognize the policy pattern of an ids rule and read the parameters the pattern is
+     * enforced with. Parameters that can not be read are left empty.
+     *
+     * @param rule The ids rule.
+     * @return The pattern and parameters of the rule.
+     */
+    @SuppressFBWarnings("DCN_NULLPOINTER_EXCEPTION")
+    public static RuleParameters getParameters(final Rule rule) {
+        final var parameters = new RuleParameters();
+        final var pattern = getPatternByRule(rule);
+        parameters.setPattern(pattern);
+        if (pattern == null) {
+            return parameters;
+        }
+
+        try {
+            switch (pattern) {
+                case N_TIMES_USAGE:
+                    parameters.setMaxAccess(getMaxAccess(rule));
+                    break;
+                case USAGE_DURING_INTERVAL:
+                case USAGE_UNTIL_DELETION:
+                    final var interval = getTimeInterval(rule);
+                    parameters.setIntervalStart(interval.getStart());
+                    parameters.setIntervalEnd(interval.getEnd());
+                    break;
+                case DURATION_USAGE:
+                    parameters.setDuration(getDuration(rule));
+                    break;
+                case CONNECTOR_RESTRICTED_USAGE:
+                    parameters.setEndpoint(getEndpoint(rule));
+                    break;
+                case USAGE_NOTIFICATION:
+                    parameters.setEndpoint(getEndpoint(((Permission) rule).getPostDuty().get(0)));
+                    break;
+                case SECURITY_PROFILE_RESTRICTED_USAGE:
+                    parameters.setSecurityProfile(getSecurityProfile(rule));
+                    break;
+                default:
+                    break;
+            }
+        } catch (DateTimeParseException | NumberFormatException | NullPointerException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Could not read rule parameters. [pattern=({}), exception=({})]",
+                        pattern, e.getMessage());
+            }
+        }
+
+        return parameters;
+    }
+
     /**
      * Check rule for post duties.
      *
@@ -148,6 +201,28 @@ public final class RuleUtils {
         return false;
     }
 
+    /**
+     * Get the date after which the data of the rule's target has to be deleted.
+     *
+     * @param rule The ids rule.
+     * @return The date of the first deletion duty of the rule, null if there is none.
+     * @throws DateTimeParseException If the date could not be parsed.
+     */
+    public static ZonedDateTime getDeletionDate(final Rule rule) throws DateTimeParseException {
+        if (rule instanceof PermissionImpl || rule instanceof DutyImpl) {
+            final var postDuties = ((Permission) rule).getPostDuty();
+            if (postDuties != null) {
+                for (final var duty : postDuties) {
+                    if (duty.getAction().contains(Action.DELETE)) {
+                        return getDate(duty);
+                    }
+                }
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Checks if the specified duration since resource creation or the specified maximum date for
      * resource access has already been exceeded.
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.io;
+
+import org.apache.commons.io.input.CharSequenceInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes Base64 data while it is streamed, so that neither the encoded nor the
+ * decoded data has to be held as an additional copy in memory.
+ */
+public final class Base64Codec {
+
+    /**
+     * The number of bytes encoded at once. A multiple of three, so only the last block is padded.
+     */
+    private static final int BLOCK_SIZE = 3 * 4096;
+
+    /**
+     * The number of Base64 characters encoding three bytes.
+     */
+    private static final int QUANTUM_SIZE = 4;
+
+    /**
+     * The number of bytes encoded by one quantum.
+     */
+    private static final int QUANTUM_BYTES = 3;
+
+    private Base64Codec() {
+        // not used
+    }
+
+    /**
+     * Encode data to Base64 while it is read. Only one block of the data and its encoded form
+     * are held in memory at a time. Closing the returned stream closes the data.
+     *
+     * @param data The data.
+     * @return The Base64 encoded data.
+     * @throws IOException if the encoder could not be created.
+     */
+    public static InputStream encode(final InputStream data) throws IOException {
+        return new CompressingInputStream(data, Base64.getEncoder()::wrap);
+    }
+
+    /**
+     * Encode data to a Base64 string. The data is read to its end, but not closed. It is encoded
+     * block by block into a single buffer, which is sized by the number of bytes available
+     * without blocking and only grows if more data follows.
+     *
+     * @param data The data.
+     * @return The Base64 encoded data.
+     * @throws IOException if the data could not be read.
+     */
+    public static String encodeToString(final InputStream data) throws IOException {
+        final var encoder = Base64.getEncoder();
+        final var block = new byte[BLOCK_SIZE];
+        final var encodedBlock = new byte[getEncodedLength(BLOCK_SIZE)];
+        var encoded = new byte[getEncodedLength(Math.max(data.available(), 0))];
+        var length = 0;
+
+        int read;
+        while ((read = data.readNBytes(block, 0, BLOCK_SIZE)) > 0) {
+            // Full blocks are not padded, so they can be concatenated.
+            final var count = encoder.encode(
+                    read == BLOCK_SIZE ? block : Arrays.copyOf(block, read), encodedBlock);
+            if (encoded.length - length < count) {
+                encoded = Arrays.copyOf(encoded, Math.max(length + count, 2 * encoded.length));
+            }
+            System.arraycopy(encodedBlock, 0, encoded, length, count);
+            length += count;
+        }
+
+        return new String(encoded, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Encode data that is already held in memory to a Base64 string. The encoded data is written
+     * to a buffer of its exact size.
+     *
+     * @param data The data.
+     * @return The Base64 encoded data.
+     */
+    public static String encodeToString(final byte[] data) {
+        return Base64.getEncoder().encodeToString(data);
+    }
+
+    /**
+     * Decode Base64 data while it is read. Characters outside of the Base64 alphabet, including
+     * line separators, cause an {@link IOException} when they are read.
+     *
+     * @param base64 The Base64 encoded data.
+     * @return The decoded data.
+     */
+    public static InputStream decode(final CharSequence base64) {
+        return Base64.getDecoder().wrap(
+                new CharSequenceInputStream(base64, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Get the length of the Base64 encoding of data, with padding.
+     *
+     * @param size The number of bytes of the data.
+     * @return The number of Base64 characters.
+     * @throws ArithmeticException if the encoded data is too large for a string.
+     */
+    private static int getEncodedLength(final int size) {
+        return Math.toIntExact((size + QUANTUM_BYTES - 1L) / QUANTUM_BYTES * QUANTUM_SIZE);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.io;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32C;
+
+/**
+ * Calculates the CRC32C checksum and the size of the data while it is being read. Once the
+ * stream has been read to its end, the checksum and size describe the complete data.
+ */
+public class ChecksumInputStream extends FilterInputStream {
+
+    /**
+     * The size of the buffer used for skipping bytes.
+     */
+    private static final int SKIP_BUFFER_SIZE = 8192;
+
+    /**
+     * The checksum of the data read so far.
+     */
+    private final CRC32C checksum = new CRC32C();
+
+    /**
+     * The number of bytes read so far.
+     */
+    private long byteSize;
+
+    /**
+     * Constructor for ChecksumInputStream.
+     *
+     * @param in The stream to read from.
+     */
+    public ChecksumInputStream(final InputStream in) {
+        super(in);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        final var value = super.read();
+        if (value != -1) {
+            checksum.update(value);
+            byteSize++;
+        }
+
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final var count = super.read(b, off, len);
+        if (count > 0) {
+            checksum.update(b, off, count);
+            byteSize += count;
+        }
+
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long skip(final long n) throws IOException {
+        // Skipped bytes have to be read, otherwise they would be missing in the checksum.
+        if (n <= 0) {
+            return 0;
+        }
+
+        final var buffer = new byte[(int) Math.min(n, SKIP_BUFFER_SIZE)];
+        var remaining = n;
+        while (remaining > 0) {
+            final var count = read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (count < 0) {
+                break;
+            }
+            remaining -= count;
+        }
+
+        return n - remaining;
+    }
+
+    /**
+     * Marking is not supported, as a reset would corrupt the checksum.
+     *
+     * @return Always false.
+     */
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void mark(final int readlimit) {
+        // Not supported.
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("Mark/reset not supported.");
+    }
+
+    /**
+     * Get the CRC32C checksum of the data read so far.
+     *
+     * @return The checksum.
+     */
+    public long getChecksum() {
+        return checksum.getValue();
+    }
+
+    /**
+     * Get the number of bytes read so far.
+     *
+     * @return The byte size.
+     */
+    public long getByteSize() {
+        return byteSize;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Compresses data while it is being read. Output stream based encoders are turned into a pull
+ * based stream, so that compressed data can be passed to consumers expecting an input stream.
+ * Only one block of the source and its compressed output are held in memory at a time.
+ */
+public class CompressingInputStream extends InputStream {
+
+    /**
+     * The number of bytes read from the source at once.
+     */
+    private static final int BLOCK_SIZE = 8192;
+
+    /**
+     * The uncompressed data.
+     */
+    private final InputStream source;
+
+    /**
+     * Collects the compressed output until it is read.
+     */
+    private final Sink sink = new Sink();
+
+    /**
+     * The encoder writing into the sink.
+     */
+    private final OutputStream encoder;
+
+    /**
+     * The buffer for reading from the source.
+     */
+    private final byte[] block = new byte[BLOCK_SIZE];
+
+    /**
+     * Whether the source has been consumed and the encoder has been finished.
+     */
+    private boolean finished;
+
+    /**
+     * Creates a new compressing stream.
+     *
+     * @param in      The uncompressed data.
+     * @param factory Creates the encoder writing into a given output stream.
+     * @throws IOException if the encoder could not be created.
+     */
+    public CompressingInputStream(final InputStream in, final EncoderFactory factory)
+            throws IOException {
+        super();
+        this.source = in;
+        this.encoder = factory.create(sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        final var single = new byte[1];
+        return read(single, 0, 1) == -1 ? -1 : Byte.toUnsignedInt(single[0]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        while (sink.available() == 0) {
+            if (finished) {
+                return -1;
+            }
+
+            fill();
+        }
+
+        return sink.read(b, off, len);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int available() {
+        return sink.available();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (!finished) {
+                // Release the resources of the encoder.
+                finished = true;
+                encoder.close();
+            }
+        } finally {
+            source.close();
+        }
+    }
+
+    /**
+     * Pass the next block of the source to the encoder. The encoder is finished once the end
+     * of the source has been reached.
+     *
+     * @throws IOException if the source could not be read or the data could not be encoded.
+     */
+    private void fill() throws IOException {
+        final var length = source.read(block, 0, block.length);
+        if (length == -1) {
+            encoder.close();
+            finished = true;
+        } else {
+            encoder.write(block, 0, length);
+        }
+    }
+
+    /**
+     * Creates an encoder.
+     */
+    @FunctionalInterface
+    public interface EncoderFactory {
+        /**
+         * Create an encoder writing compressed data into the given stream.
+         *
+         * @param out The target of the compressed data.
+         * @return The encoder.
+         * @throws IOException if the encoder could not be created.
+         */
+        OutputStream create(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Buffers written data until it is read.
+     */
+    private static final class Sink extends ByteArrayOutputStream {
+
+        /**
+         * The read position within the buffer.
+         */
+        private int position;
+
+        private int available() {
+            return count - position;
+        }
+
+        private int read(final byte[] b, final int off, final int len) {
+            final var length = Math.min(len, available());
+            System.arraycopy(buf, position, b, off, length);
+            position += length;
+            if (position == count) {
+                reset();
+                position = 0;
+            }
+
+            return length;
+        }
+    }
+}
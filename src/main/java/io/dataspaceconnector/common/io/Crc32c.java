@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.io;
+
+/**
+ * Arithmetic on CRC32C checksums, as calculated by {@link java.util.zip.CRC32C}.
+ */
+public final class Crc32c {
+
+    /**
+     * The reflected Castagnoli polynomial.
+     */
+    private static final int POLYNOMIAL = 0x82F63B78;
+
+    /**
+     * The number of bits of a checksum.
+     */
+    private static final int BITS = 32;
+
+    /**
+     * The polynomial x^0, i.e. one, in reflected bit order.
+     */
+    private static final int ONE = 1 << (BITS - 1);
+
+    /**
+     * The mask for converting checksums to unsigned values.
+     */
+    private static final long UNSIGNED_MASK = 0xFFFFFFFFL;
+
+    /**
+     * The number of bits of a byte.
+     */
+    private static final int BYTE_SHIFT = 3;
+
+    /**
+     * The polynomials x^(2^n) modulo the CRC polynomial.
+     */
+    private static final int[] POWERS = new int[BITS];
+
+    static {
+        var power = ONE >>> 1;
+        for (var n = 0; n < BITS; n++) {
+            POWERS[n] = power;
+            power = multiply(power, power);
+        }
+    }
+
+    /**
+     * Default constructor.
+     */
+    private Crc32c() {
+        // not used
+    }
+
+    /**
+     * Calculate the checksum of two concatenated blocks of data from the checksums of the
+     * blocks, without reading the data again. Runs in O(log n) of the second block's length.
+     *
+     * @param first        The checksum of the first block.
+     * @param second       The checksum of the second block.
+     * @param secondLength The length of the second block in bytes.
+     * @return The checksum of the concatenated blocks.
+     */
+    public static long combine(final long first, final long second, final long secondLength) {
+        final var shifted = multiply(powerOfX(secondLength), (int) first);
+        return (shifted ^ (int) second) & UNSIGNED_MASK;
+    }
+
+    /**
+     * Multiply two polynomials modulo the CRC polynomial.
+     *
+     * @param a The first polynomial.
+     * @param b The second polynomial.
+     * @return The product.
+     */
+    private static int multiply(final int a, final int b) {
+        var multiplier = b;
+        var product = 0;
+        for (var mask = ONE; mask != 0; mask >>>= 1) {
+            if ((a & mask) != 0) {
+                product ^= multiplier;
+            }
+
+            multiplier = (multiplier & 1) != 0
+                    ? (multiplier >>> 1) ^ POLYNOMIAL : multiplier >>> 1;
+        }
+
+        return product;
+    }
+
+    /**
+     * Calculate x^(8 * n) modulo the CRC polynomial, i.e. the shift by n bytes.
+     *
+     * @param n The number of bytes.
+     * @return The polynomial.
+     */
+    private static int powerOfX(final long n) {
+        var result = ONE;
+        var remaining = n;
+        var k = BYTE_SHIFT;
+        while (remaining != 0) {
+            if ((remaining & 1) != 0) {
+                result = multiply(POWERS[k % BITS], result);
+            }
+
+            remaining >>>= 1;
+            k++;
+        }
+
+        return result;
+    }
+}
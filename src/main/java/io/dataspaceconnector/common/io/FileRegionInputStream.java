@@ -0,0 +1,147 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.io;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+
+/**
+ * Reads a region of a file. Transferring the stream to an output stream is done with
+ * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, which lets
+ * the operating system copy the data if the target is backed by a file or socket channel.
+ */
+public class FileRegionInputStream extends InputStream {
+
+    /**
+     * The channel of the file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The position of the next byte to read.
+     */
+    private long position;
+
+    /**
+     * The position behind the last byte of the region.
+     */
+    private final long end;
+
+    /**
+     * Constructor for FileRegionInputStream. The stream takes ownership of the channel.
+     *
+     * @param fileChannel The channel of the file.
+     * @param offset      The offset of the region.
+     * @param length      The length of the region. Bytes behind the end of the file are ignored.
+     * @throws IOException if the size of the file could not be read.
+     */
+    public FileRegionInputStream(final FileChannel fileChannel, final long offset,
+                                 final long length) throws IOException {
+        super();
+        this.channel = fileChannel;
+        this.position = offset;
+        final var size = fileChannel.size();
+        this.end = Math.min(size, offset + Math.min(Math.max(length, 0), size));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        final var buffer = new byte[1];
+        return read(buffer, 0, 1) == -1 ? -1 : Byte.toUnsignedInt(buffer[0]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        final var remaining = end - position;
+        if (remaining <= 0) {
+            return -1;
+        }
+
+        final var buffer = ByteBuffer.wrap(b, off, (int) Math.min(len, remaining));
+        final var count = channel.read(buffer, position);
+        if (count > 0) {
+            position += count;
+        }
+
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long skip(final long n) {
+        final var skipped = Math.max(0, Math.min(n, end - position));
+        position += skipped;
+        return skipped;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int available() {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0, end - position));
+    }
+
+    /**
+     * Transfer the rest of the region to an output stream without copying it through a buffer
+     * on the heap.
+     *
+     * @param out The output stream.
+     * @return The number of bytes transferred.
+     * @throws IOException if the data could not be transferred.
+     */
+    @Override
+    public long transferTo(final OutputStream out) throws IOException {
+        final var target = out instanceof FileOutputStream
+                ? ((FileOutputStream) out).getChannel() : Channels.newChannel(out);
+        final var start = position;
+        while (position < end) {
+            final var count = channel.transferTo(position, end - position, target);
+            if (count <= 0) {
+                // The file has been truncated while being transferred.
+                break;
+            }
+            position += count;
+        }
+
+        return position - start;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
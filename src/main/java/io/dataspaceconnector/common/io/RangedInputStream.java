@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.io;
+
+import io.dataspaceconnector.common.net.ByteRange;
+import lombok.Getter;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Data stream covering only a range of the complete data.
+ */
+@Getter
+public class RangedInputStream extends FilterInputStream {
+
+    /**
+     * The range covered by this stream.
+     */
+    private final ByteRange range;
+
+    /**
+     * The size of the complete data. Negative if unknown.
+     */
+    private final long totalSize;
+
+    /**
+     * Constructor for RangedInputStream.
+     *
+     * @param in        The stream providing the bytes of the range.
+     * @param byteRange The range covered by the stream.
+     * @param size      The size of the complete data. Negative if unknown.
+     */
+    public RangedInputStream(final InputStream in, final ByteRange byteRange, final long size) {
+        super(in);
+        this.range = byteRange;
+        this.totalSize = size;
+    }
+
+    /**
+     * Mark data as covering the range described by a Content-Range header.
+     *
+     * @param data         The data.
+     * @param contentRange The value of the Content-Range header. May be null.
+     * @return The ranged data, or the data itself if the header does not describe a range.
+     */
+    public static InputStream of(final InputStream data, final String contentRange) {
+        final var range = ByteRange.parseContentRange(contentRange);
+        if (range.isEmpty()) {
+            return data;
+        }
+
+        return new RangedInputStream(data, range.get(), ByteRange.parseTotalSize(contentRange));
+    }
+
+    /**
+     * Get the value of the Content-Range header describing this stream.
+     *
+     * @return The header value.
+     */
+    public String getContentRange() {
+        return range.toContentRange(totalSize);
+    }
+
+    /**
+     * Transfer the rest of the range to an output stream, letting the underlying stream choose
+     * the most efficient way.
+     *
+     * @param out The output stream.
+     * @return The number of bytes transferred.
+     * @throws IOException if the data could not be transferred.
+     */
+    @Override
+    public long transferTo(final OutputStream out) throws IOException {
+        return StreamCopier.copy(in, out);
+    }
+}
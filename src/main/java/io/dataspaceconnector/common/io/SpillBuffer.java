@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.io;
+
+import org.apache.commons.io.output.DeferredFileOutputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+/**
+ * Buffers data so that it can be read several times. Small data is kept in memory, data
+ * exceeding the threshold is written to a temporary file, which is deleted once the buffer is
+ * closed.
+ */
+public final class SpillBuffer implements Closeable {
+
+    /**
+     * The default number of bytes up to which data is kept in memory.
+     */
+    public static final int DEFAULT_THRESHOLD = 1024 * 1024;
+
+    /**
+     * The buffered data, if it is kept in memory.
+     */
+    private final byte[] memory;
+
+    /**
+     * The temporary file holding the data, if it exceeded the threshold.
+     */
+    private final File file;
+
+    private SpillBuffer(final byte[] data, final File tmpFile) {
+        this.memory = data;
+        this.file = tmpFile;
+    }
+
+    /**
+     * Read data into a buffer. The data stream is read to its end, but not closed.
+     *
+     * @param data      The data.
+     * @param threshold The number of bytes up to which the data is kept in memory.
+     * @return The buffer.
+     * @throws IOException if the data could not be read or written to the temporary file.
+     */
+    public static SpillBuffer of(final InputStream data, final int threshold)
+            throws IOException {
+        final var output = new DeferredFileOutputStream(threshold, "buffer", ".tmp", null);
+        try (output) {
+            StreamCopier.copy(data, output);
+        } catch (IOException e) {
+            if (output.getFile() != null) {
+                Files.deleteIfExists(output.getFile().toPath());
+            }
+            throw e;
+        }
+
+        return output.isInMemory()
+                ? new SpillBuffer(output.getData(), null)
+                : new SpillBuffer(null, output.getFile());
+    }
+
+    /**
+     * Open a new stream reading the buffered data from the start.
+     *
+     * @return The data.
+     * @throws IOException if the temporary file could not be opened.
+     */
+    public InputStream newInputStream() throws IOException {
+        return file == null
+                ? new ByteArrayInputStream(memory) : Files.newInputStream(file.toPath());
+    }
+
+    /**
+     * Open a stream reading the buffered data from the start, which releases the buffer once it
+     * is closed. The buffer must not be read again afterwards.
+     *
+     * @return The data.
+     * @throws IOException if the temporary file could not be opened.
+     */
+    public InputStream toInputStream() throws IOException {
+        return new FilterInputStream(newInputStream()) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    SpillBuffer.this.close();
+                }
+            }
+        };
+    }
+
+    /**
+     * Release the buffer and delete the temporary file, if any.
+     *
+     * @throws IOException if the temporary file could not be deleted.
+     */
+    @Override
+    public void close() throws IOException {
+        if (file != null) {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+}
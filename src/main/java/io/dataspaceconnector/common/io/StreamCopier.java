@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Copies data from input to output streams. File regions are transferred by the operating
+ * system, all other streams are copied through large buffers that are reused between copies.
+ */
+public final class StreamCopier {
+
+    /**
+     * The size of the copy buffers.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The maximum number of idle buffers kept for reuse.
+     */
+    private static final int MAX_POOLED_BUFFERS = 32;
+
+    /**
+     * The idle buffers.
+     */
+    private static final Queue<byte[]> POOL = new ConcurrentLinkedQueue<>();
+
+    private StreamCopier() {
+        // not used
+    }
+
+    /**
+     * Copy all remaining data of an input stream to an output stream. The streams are not closed.
+     *
+     * @param in  The input stream.
+     * @param out The output stream.
+     * @return The number of bytes copied.
+     * @throws IOException if the data could not be copied.
+     */
+    public static long copy(final InputStream in, final OutputStream out) throws IOException {
+        if (in instanceof FileRegionInputStream || in instanceof RangedInputStream) {
+            return in.transferTo(out);
+        }
+
+        var buffer = POOL.poll();
+        if (buffer == null) {
+            buffer = new byte[BUFFER_SIZE];
+        }
+
+        try {
+            long total = 0;
+            int count;
+            while ((count = in.read(buffer, 0, buffer.length)) != -1) {
+                out.write(buffer, 0, count);
+                total += count;
+            }
+
+            return total;
+        } finally {
+            if (POOL.size() < MAX_POOLED_BUFFERS) {
+                POOL.offer(buffer);
+            }
+        }
+    }
+}
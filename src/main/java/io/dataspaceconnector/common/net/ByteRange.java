@@ -0,0 +1,191 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.net;
+
+import io.dataspaceconnector.common.exception.RangeNotSatisfiableException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * A resolved range of bytes as defined by RFC 7233. Start and end are inclusive.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class ByteRange {
+
+    /**
+     * The range unit supported in Range headers.
+     */
+    private static final String RANGE_PREFIX = "bytes=";
+
+    /**
+     * The range unit used in Content-Range headers.
+     */
+    private static final String CONTENT_RANGE_PREFIX = "bytes ";
+
+    /**
+     * The position of the first byte.
+     */
+    private final long start;
+
+    /**
+     * The position of the last byte.
+     */
+    private final long end;
+
+    /**
+     * Constructor for ByteRange.
+     *
+     * @param first The position of the first byte.
+     * @param last  The position of the last byte.
+     * @throws IllegalArgumentException if the range is invalid.
+     */
+    public ByteRange(final long first, final long last) {
+        if (first < 0 || last < first) {
+            throw new IllegalArgumentException("Invalid byte range.");
+        }
+
+        this.start = first;
+        this.end = last;
+    }
+
+    /**
+     * Get the number of bytes in this range.
+     *
+     * @return The length of the range.
+     */
+    public long getLength() {
+        return end - start + 1;
+    }
+
+    /**
+     * Build the value of a Content-Range header for this range.
+     *
+     * @param size The complete size of the data. A negative value marks an unknown size.
+     * @return The header value.
+     */
+    public String toContentRange(final long size) {
+        return CONTENT_RANGE_PREFIX + start + "-" + end + "/" + (size < 0 ? "*" : size);
+    }
+
+    /**
+     * Resolve the value of a Range header against the size of the data. Only a single range is
+     * supported. Headers that are missing, malformed, or request multiple ranges are ignored, so
+     * that the complete data is returned.
+     *
+     * @param header The value of the Range header.
+     * @param size   The size of the data.
+     * @return The requested range, if any.
+     * @throws RangeNotSatisfiableException if the range does not overlap the data.
+     */
+    public static Optional<ByteRange> parse(final String header, final long size) {
+        if (header == null
+                || !header.trim().toLowerCase(Locale.ROOT).startsWith(RANGE_PREFIX)) {
+            return Optional.empty();
+        }
+
+        final var spec = header.trim().substring(RANGE_PREFIX.length());
+        final var separator = spec.indexOf('-');
+        if (spec.contains(",") || separator < 0) {
+            return Optional.empty();
+        }
+
+        final var first = spec.substring(0, separator).trim();
+        final var last = spec.substring(separator + 1).trim();
+        try {
+            if (first.isEmpty()) {
+                return resolveSuffix(Long.parseLong(last), size);
+            }
+
+            final var start = Long.parseLong(first);
+            final var end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+            if (start < 0 || end < start) {
+                return Optional.empty();
+            }
+
+            if (start >= size) {
+                throw new RangeNotSatisfiableException(size);
+            }
+
+            return Optional.of(new ByteRange(start, Math.min(end, size - 1)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<ByteRange> resolveSuffix(final long suffixLength, final long size) {
+        if (suffixLength < 0) {
+            return Optional.empty();
+        }
+
+        if (suffixLength == 0 || size == 0) {
+            throw new RangeNotSatisfiableException(size);
+        }
+
+        return Optional.of(new ByteRange(Math.max(0, size - suffixLength), size - 1));
+    }
+
+    /**
+     * Read the range from the value of a Content-Range header.
+     *
+     * @param header The value of the Content-Range header.
+     * @return The range, if the header describes one.
+     */
+    public static Optional<ByteRange> parseContentRange(final String header) {
+        if (header == null
+                || !header.trim().toLowerCase(Locale.ROOT).startsWith(CONTENT_RANGE_PREFIX)) {
+            return Optional.empty();
+        }
+
+        final var spec = header.trim().substring(CONTENT_RANGE_PREFIX.length());
+        final var separator = spec.indexOf('-');
+        final var slash = spec.indexOf('/');
+        if (separator < 0 || slash < separator) {
+            return Optional.empty();
+        }
+
+        try {
+            final var start = Long.parseLong(spec.substring(0, separator).trim());
+            final var end = Long.parseLong(spec.substring(separator + 1, slash).trim());
+            return Optional.of(new ByteRange(start, end));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Read the size of the complete data from the value of a Content-Range header.
+     *
+     * @param header The value of the Content-Range header.
+     * @return The size of the complete data. Negative if it is unknown.
+     */
+    public static long parseTotalSize(final String header) {
+        if (header == null || header.indexOf('/') < 0) {
+            return -1;
+        }
+
+        try {
+            return Long.parseLong(header.substring(header.indexOf('/') + 1).trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
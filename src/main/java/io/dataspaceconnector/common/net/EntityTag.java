@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.net;
+
+/**
+ * Builds and compares HTTP entity tags.
+ */
+public final class EntityTag {
+
+    /**
+     * The prefix of weak entity tags.
+     */
+    private static final String WEAK_PREFIX = "W/";
+
+    /**
+     * Default constructor.
+     */
+    private EntityTag() {
+        // not used
+    }
+
+    /**
+     * Build a strong entity tag from the checksum and size of data.
+     *
+     * @param checkSum The CRC32C checksum of the data.
+     * @param byteSize The size of the data.
+     * @return The quoted entity tag.
+     */
+    public static String of(final long checkSum, final long byteSize) {
+        return "\"" + Long.toHexString(checkSum) + "-" + Long.toHexString(byteSize) + "\"";
+    }
+
+    /**
+     * Build the entity tag of the data sent with a content coding. Each content coding is a
+     * different representation and needs its own entity tag.
+     *
+     * @param tag    The quoted entity tag of the unencoded data.
+     * @param coding The content coding.
+     * @return The quoted entity tag of the encoded data.
+     */
+    public static String withCoding(final String tag, final String coding) {
+        return tag.substring(0, tag.length() - 1) + "-" + coding + "\"";
+    }
+
+    /**
+     * Check if an If-None-Match header matches an entity tag. As defined by RFC 7232, the
+     * weak comparison is used and the header may contain a list of tags or a wildcard.
+     *
+     * @param header The value of the If-None-Match header.
+     * @param tag    The entity tag of the current data.
+     * @return True if the header matches the tag.
+     */
+    public static boolean matchesAny(final String header, final String tag) {
+        if (header == null || tag == null) {
+            return false;
+        }
+
+        if ("*".equals(header.trim())) {
+            return true;
+        }
+
+        final var opaqueTag = stripWeakPrefix(tag);
+        for (final var candidate : header.split(",")) {
+            if (opaqueTag.equals(stripWeakPrefix(candidate.trim()))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Check if an If-Range header matches an entity tag. As defined by RFC 7233, the strong
+     * comparison is used, so weak tags never match.
+     *
+     * @param header The value of the If-Range header.
+     * @param tag    The entity tag of the current data.
+     * @return True if the header matches the tag.
+     */
+    public static boolean matchesStrongly(final String header, final String tag) {
+        return header != null && tag != null && !tag.startsWith(WEAK_PREFIX)
+                && tag.equals(header.trim());
+    }
+
+    private static String stripWeakPrefix(final String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+}
@@ -39,4 +39,21 @@ public class HttpResponse implements Response {
      */
     private final @NonNull InputStream data;
 
+    /**
+     * The value of the Content-Range header, if the response contains partial content.
+     */
+    private String contentRange;
+
+    /**
+     * Constructor for a response containing partial content.
+     *
+     * @param responseCode The response code.
+     * @param body         The data.
+     * @param range        The value of the Content-Range header.
+     */
+    public HttpResponse(final int responseCode, final @NonNull InputStream body,
+                        final String range) {
+        this(responseCode, body);
+        this.contentRange = range;
+    }
 }
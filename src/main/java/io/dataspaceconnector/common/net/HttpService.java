@@ -27,7 +27,7 @@ import lombok.RequiredArgsConstructor;
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.Request;
-import okhttp3.RequestBody;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayInputStream;
@@ -107,7 +107,8 @@ public class HttpService implements DataRetrievalService {
     }
 
     /**
-     * Send post requests using the http service of the messaging services.
+     * Send post requests using the http service of the messaging services. The data is sent
+     * with chunked transfer encoding while it is read, but the stream is not closed.
      *
      * @param target The target url.
      * @param args   Request arguments.
@@ -130,8 +131,9 @@ public class HttpService implements DataRetrievalService {
 
         final var targetUrl = urlBuilder.build();
 
-        final var body = RequestBody.create(data.readAllBytes(),
-                MediaType.get("application/octet-stream"));
+        // The data is streamed while sending the request instead of being buffered.
+        final var body = new InputStreamRequestBody(MediaType.get("application/octet-stream"),
+                data);
 
         final var requestBuilder = new Request.Builder().url(targetUrl).post(body);
 
@@ -148,7 +150,8 @@ public class HttpService implements DataRetrievalService {
     }
 
     /**
-     * Perform a get request.
+     * Perform a get request. The body of the response is not buffered, so the data of the
+     * response has to be closed once it has been read.
      *
      * @param target The recipient of the request.
      * @param args   The request arguments.
@@ -186,10 +189,29 @@ public class HttpService implements DataRetrievalService {
             response = httpSvc.getWithHeaders(targetUri, headerCopy);
         }
 
-        final var output = new HttpResponse(response.code(), getBody(response));
-        response.close();
+        try {
+            return new HttpResponse(response.code(), streamBody(response),
+                    response.header(HttpHeaders.CONTENT_RANGE));
+        } catch (RuntimeException e) {
+            response.close();
+            throw e;
+        }
+    }
 
-        return output;
+    /**
+     * Get the body of a response without reading it. The response stays open until the returned
+     * stream is closed.
+     *
+     * @param response The response.
+     * @return The body.
+     */
+    private InputStream streamBody(final okhttp3.Response response) {
+        if (response.body() != null) {
+            return new ResponseBodyInputStream(response);
+        }
+
+        response.close();
+        return InputStream.nullInputStream();
     }
 
     private InputStream getBody(final okhttp3.Response response) throws IOException {
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.net;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.Okio;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Request body writing the data of a stream while the request is sent. As the length is not
+ * known in advance, the body is sent with chunked transfer encoding. The stream can only be read
+ * once, so the request is not retried by the http client.
+ */
+final class InputStreamRequestBody extends RequestBody {
+
+    /**
+     * The content type of the body.
+     */
+    private final MediaType type;
+
+    /**
+     * The data of the body.
+     */
+    private final InputStream data;
+
+    /**
+     * Constructor for InputStreamRequestBody.
+     *
+     * @param mediaType The content type of the body.
+     * @param input     The data of the body.
+     */
+    InputStreamRequestBody(final MediaType mediaType, final InputStream input) {
+        super();
+        this.type = mediaType;
+        this.data = input;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MediaType contentType() {
+        return type;
+    }
+
+    /**
+     * The length is unknown, so the body is sent in chunks.
+     *
+     * @return Always -1.
+     */
+    @Override
+    public long contentLength() {
+        return -1;
+    }
+
+    /**
+     * The data stream cannot be replayed.
+     *
+     * @return Always true.
+     */
+    @Override
+    public boolean isOneShot() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeTo(final BufferedSink sink) throws IOException {
+        sink.writeAll(Okio.source(data));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.net;
+
+import okhttp3.Response;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+
+/**
+ * Streams the body of a http response. The response, and with it the connection, is held open
+ * until the stream is closed.
+ */
+final class ResponseBodyInputStream extends FilterInputStream {
+
+    /**
+     * The response providing the body.
+     */
+    private final Response response;
+
+    /**
+     * Constructor for ResponseBodyInputStream.
+     *
+     * @param httpResponse The response. Its body must not be null.
+     */
+    ResponseBodyInputStream(final Response httpResponse) {
+        super(httpResponse.body().byteStream());
+        this.response = httpResponse;
+    }
+
+    /**
+     * Closes the stream and releases the response.
+     *
+     * @throws IOException if the stream could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            response.close();
+        }
+    }
+}
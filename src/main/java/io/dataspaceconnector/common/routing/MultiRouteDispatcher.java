@@ -0,0 +1,196 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.routing;
+
+import io.dataspaceconnector.common.exception.DataDispatchException;
+import io.dataspaceconnector.common.io.SpillBuffer;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatches data via several Camel routes. The data is buffered once, every route reads it
+ * from the buffer. Depending on the {@link RouteDispatchMode}, the routes are triggered one
+ * after another or at the same time using a bounded thread pool.
+ */
+@Log4j2
+@RequiredArgsConstructor
+@Component
+public class MultiRouteDispatcher {
+
+    /**
+     * Dispatches data via a single route.
+     */
+    private final @NonNull RouteDataDispatcher dispatcher;
+
+    /**
+     * How the routes are triggered.
+     */
+    @Value("${routes.dispatch.mode:SEQUENTIAL}")
+    private RouteDispatchMode mode;
+
+    /**
+     * The number of routes triggered at the same time.
+     */
+    @Value("${routes.dispatch.threads:4}")
+    private int threads;
+
+    /**
+     * The number of dispatches waiting for a thread. Further dispatches run in the calling
+     * thread.
+     */
+    @Value("${routes.dispatch.queue-capacity:100}")
+    private int queueCapacity;
+
+    /**
+     * Triggers the routes in parallel or background mode.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Creates the thread pool for triggering routes.
+     */
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Shuts down the thread pool. Dispatches that are already running are finished.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Dispatches data via all specified routes. The data stream is read to its end and closed.
+     *
+     * @param routeIds The IDs of the routes.
+     * @param data     The data.
+     * @return The data. Closing the stream releases the buffered data.
+     * @throws IOException           if the data cannot be read or buffered.
+     * @throws DataDispatchException if the data could not be dispatched via at least one route.
+     */
+    public InputStream dispatch(final List<URI> routeIds, final InputStream data)
+            throws IOException {
+        final SpillBuffer buffer;
+        try (data) {
+            buffer = SpillBuffer.of(data, SpillBuffer.DEFAULT_THRESHOLD);
+        }
+
+        try {
+            if (mode == RouteDispatchMode.PARALLEL) {
+                sendInParallel(routeIds, buffer);
+            } else if (mode == RouteDispatchMode.BACKGROUND) {
+                sendInBackground(routeIds, buffer);
+            } else {
+                sendInSequence(routeIds, buffer);
+            }
+
+            // Routes still running have opened their streams, so the caller may release it.
+            return buffer.toInputStream();
+        } catch (IOException | RuntimeException e) {
+            buffer.close();
+            throw e;
+        }
+    }
+
+    private void sendInSequence(final List<URI> routeIds, final SpillBuffer buffer)
+            throws IOException {
+        for (final var routeId : routeIds) {
+            send(routeId, buffer.newInputStream());
+        }
+    }
+
+    private void sendInParallel(final List<URI> routeIds, final SpillBuffer buffer)
+            throws IOException {
+        final var tasks = new LinkedHashMap<URI, Future<Void>>();
+        for (final var routeId : routeIds) {
+            final var data = buffer.newInputStream();
+            tasks.put(routeId, executor.submit(() -> send(routeId, data)));
+        }
+
+        final var failures = new ArrayList<Throwable>();
+        final var failedRoutes = new ArrayList<URI>();
+        try {
+            for (final var task : tasks.entrySet()) {
+                try {
+                    task.getValue().get();
+                } catch (ExecutionException e) {
+                    if (log.isWarnEnabled()) {
+                        log.warn("Failed to dispatch data. [route=({}), exception=({})]",
+                                task.getKey(), e.getCause().getMessage());
+                    }
+                    failedRoutes.add(task.getKey());
+                    failures.add(e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while dispatching data.", e);
+        }
+
+        if (!failedRoutes.isEmpty()) {
+            final var exception = new DataDispatchException(
+                    "Failed to dispatch data via routes " + failedRoutes + ".");
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+
+    private void sendInBackground(final List<URI> routeIds, final SpillBuffer buffer)
+            throws IOException {
+        for (final var routeId : routeIds) {
+            final var data = buffer.newInputStream();
+            executor.execute(() -> {
+                try {
+                    send(routeId, data);
+                } catch (IOException | DataDispatchException e) {
+                    if (log.isWarnEnabled()) {
+                        log.warn("Failed to dispatch data. [route=({}), exception=({})]",
+                                routeId, e.getMessage());
+                    }
+                }
+            });
+        }
+    }
+
+    private Void send(final URI routeId, final InputStream data) throws IOException {
+        try (data) {
+            dispatcher.send(routeId, data);
+        }
+        return null;
+    }
+}
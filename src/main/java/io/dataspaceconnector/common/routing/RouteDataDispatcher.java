@@ -28,8 +28,8 @@ import org.apache.camel.builder.ExchangeBuilder;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
 
 /**
  * Dispatches data via Camel routes.
@@ -51,16 +51,17 @@ public class RouteDataDispatcher {
 
     /**
      * Dispatches data via the specified route. The route will be triggered once with the data
-     * as the initial input.
+     * as the initial input. The data is passed on as a stream, which Camel caches (and spools to
+     * disk if it is large) when the route has to read it several times.
      *
      * @param routeId the route ID.
-     * @param bytes the data as byte array.
+     * @param data the data.
      * @throws IOException if the data cannot be read.
      * @throws DataDispatchException if an error occurs during route execution.
      */
-    public void send(final URI routeId, final byte[] bytes) throws IOException,
+    public void send(final URI routeId, final InputStream data) throws IOException,
             DataDispatchException {
-        send(routeId, bytes, null);
+        send(routeId, data, null);
     }
 
     /**
@@ -69,14 +70,13 @@ public class RouteDataDispatcher {
      * backend.
      *
      * @param routeId the route ID.
-     * @param bytes the data as byte array.
+     * @param data the data.
      * @param queryInput the query input for the backend.
      * @throws IOException if the data cannot be read.
      * @throws DataDispatchException if an error occurs during route execution.
      */
-    public void send(final URI routeId, final byte[] bytes, final QueryInput queryInput)
+    public void send(final URI routeId, final InputStream data, final QueryInput queryInput)
             throws IOException, DataDispatchException {
-        final var data = new String(bytes, StandardCharsets.UTF_8);
         final var routeUuid = UUIDUtils.uuidFromUri(routeId);
         final var camelDirect = "direct:" + routeUuid;
 
@@ -15,6 +15,7 @@
  */
 package io.dataspaceconnector.common.routing;
 
+import io.dataspaceconnector.common.io.SpillBuffer;
 import io.dataspaceconnector.common.routing.dataretrieval.DataRetrievalService;
 import io.dataspaceconnector.common.routing.dataretrieval.Response;
 import io.dataspaceconnector.common.exception.DataRetrievalException;
@@ -27,13 +28,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.Ordered;
 import org.apache.camel.ProducerTemplate;
 import org.apache.camel.builder.ExchangeBuilder;
+import org.apache.camel.support.SynchronizationAdapter;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -56,19 +60,22 @@ public class RouteDataRetriever implements DataRetrievalService {
 
     /**
      * Retrieves and returns the data using a Camel route. The route to use is identified by the
-     * access URL, which should be the ID of a route.
+     * access URL, which should be the ID of a route. The data is returned as is, without being
+     * converted to a string, and is kept on disk if it is large.
      *
      * @param accessUrl The route ID.
      * @param input The query input.
      * @return The data returned by the route wrapped in a RouteResponse.
      */
     public Response get(final URL accessUrl, final QueryInput input) throws DataRetrievalException {
+        final var body = new BodyBuffer();
         try {
             final var routeId = UUIDUtils.uuidFromUri(accessUrl.toURI());
             final var camelDirect = "direct:" + routeId;
 
-            final var result = template.send(camelDirect,
-                    ExchangeBuilder.anExchange(context).build());
+            final var exchange = ExchangeBuilder.anExchange(context).build();
+            exchange.adapt(ExtendedExchange.class).addOnCompletion(body);
+            final var result = template.send(camelDirect, exchange);
 
             if (result.getException() != null) {
                 throw result.getException();
@@ -76,10 +83,9 @@ public class RouteDataRetriever implements DataRetrievalService {
                 throw result.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class);
             }
 
-            final var data = result.getIn().getBody(String.class);
-            return new RouteResponse(new ByteArrayInputStream(
-                    data.getBytes(StandardCharsets.UTF_8)));
+            return new RouteResponse(body.getData());
         } catch (Exception e) {
+            body.release();
             if (log.isDebugEnabled()) {
                 log.debug("Failed to retrieve data. [exception=({})]", e.getMessage(), e);
             }
@@ -99,4 +105,70 @@ public class RouteDataRetriever implements DataRetrievalService {
         throw new NotImplemented();
     }
 
+    /**
+     * Buffers the body of a completed exchange. Camel deletes the files to which large stream
+     * bodies are spooled once the exchange is done, so the body has to be read before that.
+     */
+    private static final class BodyBuffer extends SynchronizationAdapter {
+
+        /**
+         * The buffered body.
+         */
+        private SpillBuffer buffer;
+
+        /**
+         * The exception thrown while buffering the body.
+         */
+        private IOException exception;
+
+        @Override
+        public void onComplete(final Exchange exchange) {
+            final var data = exchange.getMessage().getBody(InputStream.class);
+            if (data == null) {
+                return;
+            }
+
+            try (data) {
+                buffer = SpillBuffer.of(data, SpillBuffer.DEFAULT_THRESHOLD);
+            } catch (IOException e) {
+                exception = e;
+            }
+        }
+
+        @Override
+        public int getOrder() {
+            // Run before Camel removes the spooled data.
+            return Ordered.HIGHEST;
+        }
+
+        /**
+         * Get the buffered body, which is released once the returned stream is closed.
+         *
+         * @return The body.
+         * @throws IOException if the body could not be buffered or read.
+         */
+        InputStream getData() throws IOException {
+            if (exception != null) {
+                throw exception;
+            }
+
+            return buffer == null ? InputStream.nullInputStream() : buffer.toInputStream();
+        }
+
+        /**
+         * Release the buffered body, if any.
+         */
+        void release() {
+            try {
+                if (buffer != null) {
+                    buffer.close();
+                }
+            } catch (IOException e) {
+                if (log.isWarnEnabled()) {
+                    log.warn("Failed to release retrieved data. [exception=({})]",
+                            e.getMessage());
+                }
+            }
+        }
+    }
 }
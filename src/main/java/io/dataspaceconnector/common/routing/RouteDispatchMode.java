@@ -0,0 +1,39 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.routing;
+
+/**
+ * Defines how data is dispatched if it is sent via several routes at once.
+ */
+public enum RouteDispatchMode {
+
+    /**
+     * The routes are triggered one after another. Dispatching stops at the first failing route.
+     */
+    SEQUENTIAL,
+
+    /**
+     * The routes are triggered at the same time. The data is returned once all routes are
+     * finished, failures of single routes are reported together.
+     */
+    PARALLEL,
+
+    /**
+     * The routes are triggered at the same time without waiting for them. The data is returned
+     * right away, failures of single routes are only logged.
+     */
+    BACKGROUND
+}
@@ -0,0 +1,403 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.time;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A hierarchical timing wheel for tasks that are due at a certain time. Each level consists of
+ * 64 slots, a slot of the lowest level spans one tick and a slot of every further level spans
+ * all slots of the level below. Tasks are scheduled and cancelled in constant time, tasks of
+ * higher levels are moved down once their slot is reached. Tasks due beyond the highest level
+ * are kept aside until the wheel has turned once completely.
+ *
+ * @param <T> The type of the tasks.
+ */
+public class TimingWheel<T> {
+
+    /**
+     * The number of bits of a slot index.
+     */
+    private static final int SLOT_BITS = 6;
+
+    /**
+     * The number of slots per level.
+     */
+    private static final int SLOTS = 1 << SLOT_BITS;
+
+    /**
+     * The mask for a slot index.
+     */
+    private static final long SLOT_MASK = SLOTS - 1;
+
+    /**
+     * The number of levels.
+     */
+    private static final int LEVELS = 6;
+
+    /**
+     * The duration of a tick in milliseconds.
+     */
+    private final long tickMillis;
+
+    /**
+     * The slots of all levels, level by level.
+     */
+    private final List<Bucket<T>> buckets = new ArrayList<>(LEVELS * SLOTS);
+
+    /**
+     * Tasks due beyond the highest level.
+     */
+    private final Bucket<T> overflow = new Bucket<>();
+
+    /**
+     * Tasks that have been due when they were scheduled.
+     */
+    private final Bucket<T> due = new Bucket<>();
+
+    /**
+     * The last tick that has been processed.
+     */
+    private long currentTick;
+
+    /**
+     * The number of scheduled tasks.
+     */
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param tick  The duration of a tick in milliseconds.
+     * @param start The current time in milliseconds.
+     */
+    public TimingWheel(final long tick, final long start) {
+        if (tick <= 0) {
+            throw new IllegalArgumentException("The tick has to be positive.");
+        }
+
+        this.tickMillis = tick;
+        this.currentTick = Math.floorDiv(start, tick);
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            buckets.add(new Bucket<>());
+        }
+    }
+
+    /**
+     * Schedule a task. The task is returned by the first call to {@link #advance(long)} with a
+     * time at or after the due time.
+     *
+     * @param task    The task.
+     * @param dueTime The time the task is due in milliseconds.
+     * @return The handle for cancelling the task.
+     */
+    public synchronized Timeout<T> schedule(final T task, final long dueTime) {
+        final var timeout = new Timeout<>(this, task, -Math.floorDiv(-dueTime, tickMillis));
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Advance the wheel to the given time.
+     *
+     * @param now The current time in milliseconds.
+     * @return The tasks that became due.
+     */
+    public synchronized List<T> advance(final long now) {
+        final var expired = new ArrayList<T>();
+        drain(due, expired);
+
+        final var nowTick = Math.floorDiv(now, tickMillis);
+        while (currentTick < nowTick) {
+            if (size == overflow.count) {
+                // Only the next turn of the whole wheel can make a task due.
+                final var turn = LEVELS * SLOT_BITS;
+                currentTick = Math.min(nowTick, (((currentTick >> turn) + 1) << turn) - 1);
+                if (currentTick == nowTick) {
+                    break;
+                }
+            }
+            currentTick++;
+            cascade();
+            drain(bucket(0, currentTick), expired);
+            drain(due, expired);
+        }
+
+        return expired;
+    }
+
+    /**
+     * Get the number of scheduled tasks.
+     *
+     * @return The number of tasks.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Cancel a scheduled task.
+     *
+     * @param timeout The handle of the task.
+     * @return True if the task has been cancelled, false if it has already been due or cancelled.
+     */
+    private synchronized boolean cancel(final Timeout<T> timeout) {
+        if (timeout.bucket == null) {
+            return false;
+        }
+
+        timeout.bucket.remove(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Put a task into the slot of the lowest level that covers its due tick.
+     *
+     * @param timeout The task.
+     */
+    private void place(final Timeout<T> timeout) {
+        final var delta = timeout.dueTick - currentTick;
+        if (delta <= 0) {
+            due.add(timeout);
+            return;
+        }
+
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << (SLOT_BITS * (level + 1))) {
+                bucket(level, timeout.dueTick).add(timeout);
+                return;
+            }
+        }
+
+        overflow.add(timeout);
+    }
+
+    /**
+     * Move the tasks of all slots of higher levels that are reached with the current tick down.
+     */
+    private void cascade() {
+        if ((currentTick & ((1L << (SLOT_BITS * LEVELS)) - 1)) == 0) {
+            reinsert(overflow);
+        }
+
+        for (int level = LEVELS - 1; level > 0; level--) {
+            if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                reinsert(bucket(level, currentTick));
+            }
+        }
+    }
+
+    /**
+     * Place all tasks of a slot again.
+     *
+     * @param bucket The slot.
+     */
+    private void reinsert(final Bucket<T> bucket) {
+        var timeout = bucket.clear();
+        while (timeout != null) {
+            final var next = timeout.detach();
+            place(timeout);
+            timeout = next;
+        }
+    }
+
+    /**
+     * Remove all tasks of a slot.
+     *
+     * @param bucket  The slot.
+     * @param expired The list the tasks are added to.
+     */
+    private void drain(final Bucket<T> bucket, final List<T> expired) {
+        var timeout = bucket.clear();
+        while (timeout != null) {
+            final var next = timeout.detach();
+            expired.add(timeout.task);
+            size--;
+            timeout = next;
+        }
+    }
+
+    /**
+     * Get the slot of a level covering a tick.
+     *
+     * @param level The level.
+     * @param tick  The tick.
+     * @return The slot.
+     */
+    private Bucket<T> bucket(final int level, final long tick) {
+        final var index = (int) ((tick >> (SLOT_BITS * level)) & SLOT_MASK);
+        return buckets.get(level * SLOTS + index);
+    }
+
+    /**
+     * A scheduled task.
+     *
+     * @param <T> The type of the task.
+     */
+    public static final class Timeout<T> {
+        /**
+         * The wheel the task is scheduled in.
+         */
+        private final TimingWheel<T> wheel;
+
+        /**
+         * The task.
+         */
+        private final T task;
+
+        /**
+         * The tick the task is due.
+         */
+        private final long dueTick;
+
+        /**
+         * The slot containing the task, null if the task is no longer scheduled.
+         */
+        private Bucket<T> bucket;
+
+        /**
+         * The previous task of the slot.
+         */
+        private Timeout<T> prev;
+
+        /**
+         * The next task of the slot.
+         */
+        private Timeout<T> next;
+
+        /**
+         * Constructor.
+         *
+         * @param owner The wheel the task is scheduled in.
+         * @param value The task.
+         * @param tick  The tick the task is due.
+         */
+        private Timeout(final TimingWheel<T> owner, final T value, final long tick) {
+            this.wheel = owner;
+            this.task = value;
+            this.dueTick = tick;
+        }
+
+        /**
+         * Get the task.
+         *
+         * @return The task.
+         */
+        public T getTask() {
+            return task;
+        }
+
+        /**
+         * Cancel the task.
+         *
+         * @return True if the task has been cancelled, false if it has already been due or
+         * cancelled.
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+
+        /**
+         * Check whether the task is still scheduled.
+         *
+         * @return True if the task has neither been due nor cancelled.
+         */
+        public boolean isPending() {
+            synchronized (wheel) {
+                return bucket != null;
+            }
+        }
+
+        /**
+         * Unlink the task from its slot after the slot has been cleared.
+         *
+         * @return The next task of the cleared slot.
+         */
+        private Timeout<T> detach() {
+            final var following = next;
+            bucket = null;
+            prev = null;
+            next = null;
+            return following;
+        }
+    }
+
+    /**
+     * A slot, which is a doubly linked list of tasks.
+     *
+     * @param <T> The type of the tasks.
+     */
+    private static final class Bucket<T> {
+        /**
+         * The first task of the slot.
+         */
+        private Timeout<T> head;
+
+        /**
+         * The number of tasks of the slot.
+         */
+        private int count;
+
+        /**
+         * Add a task.
+         *
+         * @param timeout The task.
+         */
+        private void add(final Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+            count++;
+        }
+
+        /**
+         * Remove a task.
+         *
+         * @param timeout The task.
+         */
+        private void remove(final Timeout<T> timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.detach();
+            count--;
+        }
+
+        /**
+         * Remove all tasks. The tasks stay linked, so they can be iterated.
+         *
+         * @return The first task, null if the slot was empty.
+         */
+        private Timeout<T> clear() {
+            final var first = head;
+            head = null;
+            count = 0;
+            return first;
+        }
+    }
+}
@@ -16,7 +16,6 @@
 package io.dataspaceconnector.common.usagecontrol;
 
 import io.dataspaceconnector.model.artifact.Artifact;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 
@@ -25,7 +24,6 @@ import java.net.URI;
 /**
  * A DTO for information required to decide if data provision should be allowed.
  */
-@AllArgsConstructor
 @Data
 @RequiredArgsConstructor
 public class AccessVerificationInput {
@@ -39,4 +37,21 @@ public class AccessVerificationInput {
      * The artifact.
      */
     private Artifact artifact;
+
+    /**
+     * Whether the verification has already counted the access, because the number of accesses
+     * is restricted and the access has been reserved.
+     */
+    private boolean accessCounted;
+
+    /**
+     * Create the input for verifying an access to an artifact.
+     *
+     * @param agreement The id of the transfer contract (agreement).
+     * @param target    The artifact.
+     */
+    public AccessVerificationInput(final URI agreement, final Artifact target) {
+        this.agreementId = agreement;
+        this.artifact = target;
+    }
 }
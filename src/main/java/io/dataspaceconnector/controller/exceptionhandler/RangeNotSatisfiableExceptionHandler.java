@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.controller.exceptionhandler;
+
+import io.dataspaceconnector.common.exception.RangeNotSatisfiableException;
+import io.dataspaceconnector.common.net.JsonResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+/**
+ * Controller for handling {@link RangeNotSatisfiableException}.
+ */
+@ControllerAdvice
+@Log4j2
+@Order(1)
+public final class RangeNotSatisfiableExceptionHandler {
+
+    /**
+     * Handles thrown {@link RangeNotSatisfiableException}.
+     *
+     * @param e The thrown exception.
+     * @return Response entity with code 416.
+     */
+    @ExceptionHandler(RangeNotSatisfiableException.class)
+    public ResponseEntity<Object> handleException(final RangeNotSatisfiableException e) {
+        if (log.isDebugEnabled()) {
+            log.debug("Requested range not satisfiable. [size=({})]", e.getSize());
+        }
+
+        final var headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + e.getSize());
+
+        return new JsonResponse("Requested range not satisfiable.")
+                .create(headers, HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.controller.exceptionhandler;
+
+import io.dataspaceconnector.common.exception.UploadOffsetMismatchException;
+import io.dataspaceconnector.common.net.JsonResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+/**
+ * Controller for handling {@link UploadOffsetMismatchException}.
+ */
+@ControllerAdvice
+@Log4j2
+@Order(1)
+public final class UploadOffsetMismatchExceptionHandler {
+
+    /**
+     * The header holding the offset of an upload.
+     */
+    public static final String UPLOAD_OFFSET = "Upload-Offset";
+
+    /**
+     * Handles thrown {@link UploadOffsetMismatchException}.
+     *
+     * @param e The thrown exception.
+     * @return Response entity with code 409 and the expected offset.
+     */
+    @ExceptionHandler(UploadOffsetMismatchException.class)
+    public ResponseEntity<Object> handleException(final UploadOffsetMismatchException e) {
+        if (log.isDebugEnabled()) {
+            log.debug("Upload offset mismatch. [expected=({})]", e.getOffset());
+        }
+
+        final var headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(UPLOAD_OFFSET, String.valueOf(e.getOffset()));
+
+        return new JsonResponse("Upload offset mismatch.").create(headers, HttpStatus.CONFLICT);
+    }
+}
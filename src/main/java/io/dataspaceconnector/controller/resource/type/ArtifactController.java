@@ -17,11 +17,15 @@ package io.dataspaceconnector.controller.resource.type;
 
 import de.fraunhofer.ids.messaging.protocol.UnexpectedResponseException;
 import io.dataspaceconnector.common.exception.ResourceNotFoundException;
+import io.dataspaceconnector.common.io.RangedInputStream;
+import io.dataspaceconnector.common.io.StreamCopier;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.net.ContentType;
+import io.dataspaceconnector.common.net.EntityTag;
 import io.dataspaceconnector.common.routing.dataretrieval.RetrievalInformation;
 import io.dataspaceconnector.common.util.ValidationUtils;
 import io.dataspaceconnector.config.BasePath;
+import io.dataspaceconnector.controller.exceptionhandler.UploadOffsetMismatchExceptionHandler;
 import io.dataspaceconnector.controller.resource.base.BaseResourceNotificationController;
 import io.dataspaceconnector.controller.resource.base.tag.ResourceDescription;
 import io.dataspaceconnector.controller.resource.base.tag.ResourceName;
@@ -34,10 +38,14 @@ import io.dataspaceconnector.model.artifact.Artifact;
 import io.dataspaceconnector.model.artifact.ArtifactDesc;
 import io.dataspaceconnector.model.route.Route;
 import io.dataspaceconnector.service.ArtifactRetriever;
+import io.dataspaceconnector.service.ArtifactUploadService;
 import io.dataspaceconnector.service.message.SubscriberNotificationService;
 import io.dataspaceconnector.service.resource.type.ArtifactService;
+import io.dataspaceconnector.service.storage.EncodedInputStream;
 import io.dataspaceconnector.service.usagecontrol.DataAccessVerifier;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.NonNull;
@@ -48,6 +56,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -58,15 +67,16 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -105,10 +115,18 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
      */
     private final @NonNull RouteViewAssembler routeAssembler;
 
+    /**
+     * Service for resumable uploads of artifact data.
+     */
+    private final @NonNull ArtifactUploadService uploadSvc;
+
     /**
      * Returns data from the local database or a remote data source. In case of a remote data
      * source, all headers and query parameters included in this request will be used for the
-     * request to the backend.
+     * request to the backend. A Range header is answered with partial content if the data is
+     * stored locally or the backend supports range requests. If the If-None-Match header matches
+     * the entity tag of local data, the access is counted but no data is returned. Compressed
+     * local data is sent without decompressing it, if the Accept-Encoding header allows it.
      *
      * @param artifactId   Artifact id.
      * @param download     If the data should be forcefully downloaded.
@@ -134,6 +152,26 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
         headers.remove("authorization");
         headers.remove("host");
 
+        final var ifNoneMatch = getHeader(headers, HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && !Boolean.TRUE.equals(download)) {
+            // The cached copy is compared with the representation that would be sent.
+            final var acceptEncoding = getHeader(headers, HttpHeaders.ACCEPT_ENCODING);
+            final var coding = artifactSvc.getContentCoding(artifactId)
+                    .filter(x -> acceptsEncoding(acceptEncoding, x))
+                    .orElse(null);
+            if (artifactSvc.isDataUnchanged(accessVerifier, artifactId, agreementUri,
+                    ifNoneMatch, coding)) {
+                return returnNotModified(artifactId, coding);
+            }
+        }
+
+        final var ifRange = getHeader(headers, HttpHeaders.IF_RANGE);
+        if ((routeIds != null && !routeIds.isEmpty()) || (ifRange != null && !EntityTag
+                .matchesStrongly(ifRange, artifactSvc.getEntityTag(artifactId).orElse(null)))) {
+            // Routes receive the complete data, and a changed representation is sent completely.
+            headers.keySet().removeIf(HttpHeaders.RANGE::equalsIgnoreCase);
+        }
+
         final var queryInput = new QueryInput();
         queryInput.setParams(params);
         queryInput.setHeaders(headers);
@@ -159,7 +197,13 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
                 : artifactSvc.getData(accessVerifier, dataReceiver, artifactId,
                 new RetrievalInformation(agreementUri, download, queryInput), routeIds);
 
-        return returnData(artifactId, data);
+        if (data instanceof EncodedInputStream && acceptsEncoding(
+                getHeader(headers, HttpHeaders.ACCEPT_ENCODING),
+                ((EncodedInputStream) data).getContentEncoding())) {
+            return returnEncodedData(artifactId, (EncodedInputStream) data);
+        }
+
+        return returnData(artifactId, data, getContentLength(artifactId));
     }
 
     /**
@@ -187,32 +231,129 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
         ValidationUtils.validateQueryInput(queryInput);
         final var data =
                 artifactSvc.getData(accessVerifier, dataReceiver, artifactId, queryInput, routeIds);
-        return returnData(artifactId, data);
+        return returnData(artifactId, data, getContentLength(artifactId));
+    }
+
+    private ResponseEntity<StreamingResponseBody> returnEncodedData(
+            final UUID artifactId, final EncodedInputStream data) {
+        // The size of the encoded data is not known in advance.
+        final var response = returnData(artifactId, data.getEncodedData(), -1);
+        final var outputHeader = new HttpHeaders();
+        outputHeader.putAll(response.getHeaders());
+        outputHeader.set(HttpHeaders.CONTENT_ENCODING, data.getContentEncoding());
+        outputHeader.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        // Each content coding is a different representation and needs its own entity tag.
+        final var entityTag = outputHeader.getETag();
+        if (entityTag != null) {
+            outputHeader.setETag(EntityTag.withCoding(entityTag, data.getContentEncoding()));
+        }
+
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(outputHeader)
+                .body(response.getBody());
+    }
+
+    private ResponseEntity<StreamingResponseBody> returnNotModified(final UUID artifactId,
+                                                                    final String coding) {
+        final var outputHeader = new HttpHeaders();
+        final var entityTag = artifactSvc.getEntityTag(artifactId);
+        if (coding == null) {
+            entityTag.ifPresent(outputHeader::setETag);
+        } else {
+            entityTag.ifPresent(tag -> outputHeader.setETag(EntityTag.withCoding(tag, coding)));
+            outputHeader.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(outputHeader).build();
     }
 
     private ResponseEntity<StreamingResponseBody> returnData(
-            final UUID artifactId, final InputStream data) {
+            final UUID artifactId, final InputStream data, final long contentLength) {
         final StreamingResponseBody body = outputStream -> {
-            final int blockSize = 1024;
-            int numBytesToWrite;
-            var buffer = new byte[blockSize];
-            while ((numBytesToWrite = data.read(buffer, 0, buffer.length)) != -1) {
-                outputStream.write(buffer, 0, numBytesToWrite);
+            try (data) {
+                StreamCopier.copy(data, outputStream);
             }
-
-            data.close();
         };
 
         final var outputHeader = new HttpHeaders();
         outputHeader.set("Content-Disposition", "attachment;filename=" + artifactId.toString());
+        final var entityTag = getEntityTag(artifactId);
+        if (entityTag.isPresent()) {
+            // Only local data has an entity tag and supports ranges in any case.
+            outputHeader.setETag(entityTag.get());
+            outputHeader.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        }
 
         final var type = getMediaTypeOfArtifact(artifactId);
+        if (data instanceof RangedInputStream) {
+            final var rangedData = (RangedInputStream) data;
+            outputHeader.set(HttpHeaders.CONTENT_RANGE, rangedData.getContentRange());
+            outputHeader.setContentLength(rangedData.getRange().getLength());
+            return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .headers(outputHeader)
+                    .contentType(type)
+                    .body(body);
+        }
+
+        if (contentLength > 0) {
+            outputHeader.setContentLength(contentLength);
+        }
+
         return ResponseEntity.ok()
                 .headers(outputHeader)
                 .contentType(type)
                 .body(body);
     }
 
+    private long getContentLength(final UUID artifactId) {
+        // An empty size may also stem from data stored before sizes were recorded.
+        try {
+            return artifactSvc.getLocalDataSize(artifactId).orElse(-1L);
+        } catch (ResourceNotFoundException e) {
+            return -1;
+        }
+    }
+
+    private Optional<String> getEntityTag(final UUID artifactId) {
+        try {
+            return artifactSvc.getEntityTag(artifactId);
+        } catch (ResourceNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Check if a content coding is accepted by an Accept-Encoding header. Codings with a quality
+     * value of zero are not accepted.
+     *
+     * @param header The value of the Accept-Encoding header.
+     * @param coding The content coding.
+     * @return True if the coding is accepted.
+     */
+    private static boolean acceptsEncoding(final String header, final String coding) {
+        if (header == null) {
+            return false;
+        }
+
+        for (final var element : header.split(",")) {
+            final var parts = element.split(";");
+            if (coding.equalsIgnoreCase(parts[0].trim())) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+
+        return false;
+    }
+
+    private static String getHeader(final Map<String, String> headers, final String name) {
+        return headers.entrySet().stream()
+                .filter(entry -> name.equalsIgnoreCase(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
     private MediaType getMediaTypeOfArtifact(final UUID artifactId) {
         // Get type to set the correct content type.
         // NOTE: Assume that an artifact has only one representation.
@@ -238,19 +379,115 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
     }
 
     /**
-     * Replace the data of an artifact.
+     * Replace the data of an artifact. The request body is streamed into the storage without
+     * being buffered in memory.
      *
-     * @param artifactId  The artifact whose data should be replaced.
-     * @param inputStream The new data.
+     * @param artifactId The artifact whose data should be replaced.
+     * @param request    The current http request, providing the new data.
      * @return Http Status ok.
      * @throws IOException if the data could not be stored.
      */
     @PutMapping(value = "{id}/data", consumes = ContentType.OCTET_STREAM)
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+            mediaType = ContentType.OCTET_STREAM,
+            schema = @Schema(type = "string", format = "binary")))
     @ApiResponse(responseCode = ResponseCode.OK, description = ResponseDescription.OK)
     public ResponseEntity<Void> putData(
             @Valid @PathVariable(name = "id") final UUID artifactId,
-            @RequestBody final byte[] inputStream) throws IOException {
-        artifactSvc.setData(artifactId, new ByteArrayInputStream(inputStream));
+            final HttpServletRequest request) throws IOException {
+        artifactSvc.setData(artifactId, request.getInputStream());
+
+        // Notify subscribers on update event.
+        subscriberNotificationSvc.notifyOnUpdate(getService().get(artifactId));
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Start a resumable upload of the data of an artifact. The data can then be sent in parts,
+     * each one starting at the offset returned for the previous one.
+     *
+     * @param artifactId The artifact whose data should be replaced.
+     * @return Response with code 201, the location of the upload and its offset.
+     */
+    @PostMapping("{id}/uploads")
+    @Operation(summary = "Start a resumable upload of artifact data.")
+    @ApiResponse(responseCode = ResponseCode.CREATED, description = ResponseDescription.CREATED)
+    public ResponseEntity<Void> createUpload(
+            @Valid @PathVariable(name = "id") final UUID artifactId) {
+        final var session = uploadSvc.createSession(artifactId);
+
+        final var headers = new HttpHeaders();
+        headers.setLocation(ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{uploadId}").buildAndExpand(session.getId()).toUri());
+        headers.set(UploadOffsetMismatchExceptionHandler.UPLOAD_OFFSET,
+                String.valueOf(session.getByteSize()));
+
+        return new ResponseEntity<>(headers, HttpStatus.CREATED);
+    }
+
+    /**
+     * Returns the offset at which a resumable upload continues.
+     *
+     * @param artifactId The artifact whose data is uploaded.
+     * @param uploadId   The id of the upload.
+     * @return Response with code 204 and the offset of the upload.
+     */
+    @GetMapping("{id}/uploads/{uploadId}")
+    @Operation(summary = "Get the offset of a resumable upload.")
+    @ApiResponse(responseCode = ResponseCode.NO_CONTENT,
+            description = ResponseDescription.NO_CONTENT)
+    public ResponseEntity<Void> getUpload(
+            @Valid @PathVariable(name = "id") final UUID artifactId,
+            @Valid @PathVariable(name = "uploadId") final UUID uploadId) {
+        final var session = uploadSvc.getSession(artifactId, uploadId);
+        return returnUploadOffset(session.getByteSize());
+    }
+
+    /**
+     * Append a part to a resumable upload. A part that does not start at the current offset of
+     * the upload is rejected with the offset the upload continues at.
+     *
+     * @param artifactId The artifact whose data is uploaded.
+     * @param uploadId   The id of the upload.
+     * @param offset     The offset of the part.
+     * @param request    The current http request, providing the part.
+     * @return Response with code 204 and the new offset of the upload.
+     * @throws IOException if the part could not be stored.
+     */
+    @PutMapping(value = "{id}/uploads/{uploadId}", consumes = ContentType.OCTET_STREAM)
+    @Operation(summary = "Append a part to a resumable upload.")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+            mediaType = ContentType.OCTET_STREAM,
+            schema = @Schema(type = "string", format = "binary")))
+    @ApiResponse(responseCode = ResponseCode.NO_CONTENT,
+            description = ResponseDescription.NO_CONTENT)
+    public ResponseEntity<Void> putUploadPart(
+            @Valid @PathVariable(name = "id") final UUID artifactId,
+            @Valid @PathVariable(name = "uploadId") final UUID uploadId,
+            @RequestParam(name = "offset") final long offset,
+            final HttpServletRequest request) throws IOException {
+        final var byteSize = uploadSvc.appendChunk(artifactId, uploadId, offset,
+                request.getInputStream());
+        return returnUploadOffset(byteSize);
+    }
+
+    /**
+     * Complete a resumable upload. The uploaded data replaces the data of the artifact.
+     *
+     * @param artifactId The artifact whose data is uploaded.
+     * @param uploadId   The id of the upload.
+     * @return Response with code 204.
+     * @throws IOException if the data could not be stored.
+     */
+    @PostMapping("{id}/uploads/{uploadId}")
+    @Operation(summary = "Complete a resumable upload of artifact data.")
+    @ApiResponse(responseCode = ResponseCode.NO_CONTENT,
+            description = ResponseDescription.NO_CONTENT)
+    public ResponseEntity<Void> commitUpload(
+            @Valid @PathVariable(name = "id") final UUID artifactId,
+            @Valid @PathVariable(name = "uploadId") final UUID uploadId) throws IOException {
+        uploadSvc.commit(artifactId, uploadId);
 
         // Notify subscribers on update event.
         subscriberNotificationSvc.notifyOnUpdate(getService().get(artifactId));
@@ -258,6 +495,30 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Cancel a resumable upload and discard the data received so far.
+     *
+     * @param artifactId The artifact whose data is uploaded.
+     * @param uploadId   The id of the upload.
+     * @return Response with code 204.
+     */
+    @DeleteMapping("{id}/uploads/{uploadId}")
+    @Operation(summary = "Cancel a resumable upload of artifact data.")
+    @ApiResponse(responseCode = ResponseCode.NO_CONTENT,
+            description = ResponseDescription.NO_CONTENT)
+    public ResponseEntity<Void> deleteUpload(
+            @Valid @PathVariable(name = "id") final UUID artifactId,
+            @Valid @PathVariable(name = "uploadId") final UUID uploadId) {
+        uploadSvc.abort(artifactId, uploadId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private static ResponseEntity<Void> returnUploadOffset(final long offset) {
+        final var headers = new HttpHeaders();
+        headers.set(UploadOffsetMismatchExceptionHandler.UPLOAD_OFFSET, String.valueOf(offset));
+        return new ResponseEntity<>(headers, HttpStatus.NO_CONTENT);
+    }
+
     /**
      * Returns the route associated with an artifact, if any. Returns an empty response body
      * otherwise.
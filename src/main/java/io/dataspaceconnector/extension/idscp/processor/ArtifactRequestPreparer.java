@@ -18,6 +18,7 @@ package io.dataspaceconnector.extension.idscp.processor;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dataspaceconnector.common.net.QueryInput;
+import io.dataspaceconnector.common.ids.message.MessageUtils;
 import io.dataspaceconnector.common.routing.ParameterUtils;
 import io.dataspaceconnector.extension.idscp.processor.base.Idscp2MappingProcessor;
 import io.dataspaceconnector.service.message.handler.dto.Request;
@@ -49,6 +50,8 @@ public class ArtifactRequestPreparer extends Idscp2MappingProcessor {
         final var request = in.getBody(Request.class);
         final var queryInput = (QueryInput) request.getBody();
 
+        // Connectors supporting it send the data without Base64 encoding, others ignore this.
+        MessageUtils.setBinaryPayload(request.getHeader());
         in.setHeader(ParameterUtils.IDSCP_HEADER, request.getHeader());
         if (queryInput != null) {
             in.setBody(mapper.writeValueAsString(queryInput).getBytes(StandardCharsets.UTF_8));
@@ -18,6 +18,7 @@ package io.dataspaceconnector.extension.idscp.processor;
 import de.fraunhofer.ids.messaging.response.ErrorResponse;
 import io.dataspaceconnector.common.routing.ParameterUtils;
 import io.dataspaceconnector.extension.idscp.processor.base.Idscp2MappingProcessor;
+import io.dataspaceconnector.service.message.handler.dto.BinaryResponse;
 import io.dataspaceconnector.service.message.handler.dto.Response;
 import org.apache.camel.Message;
 import org.springframework.stereotype.Component;
@@ -39,7 +40,10 @@ public class OutgoingMessageParser extends Idscp2MappingProcessor {
     protected void processInternal(final Message in) {
         final var response = in.getBody(Response.class);
 
-        if (response != null) {
+        if (response instanceof BinaryResponse) {
+            in.setHeader(ParameterUtils.IDSCP_HEADER, response.getHeader());
+            in.setBody(((BinaryResponse) response).getData());
+        } else if (response != null) {
             in.setHeader(ParameterUtils.IDSCP_HEADER, response.getHeader());
             in.setBody(response.getBody().getBytes(StandardCharsets.UTF_8));
         } else {
@@ -15,8 +15,10 @@
  */
 package io.dataspaceconnector.extension.idscp.processor;
 
+import io.dataspaceconnector.common.ids.message.MessageUtils;
 import io.dataspaceconnector.common.routing.ParameterUtils;
 import io.dataspaceconnector.extension.idscp.processor.base.Idscp2MappingProcessor;
+import io.dataspaceconnector.service.message.handler.dto.BinaryResponse;
 import io.dataspaceconnector.service.message.handler.dto.Response;
 import org.apache.camel.Message;
 import org.springframework.stereotype.Component;
@@ -38,9 +40,13 @@ public class ResponseToDtoConverter extends Idscp2MappingProcessor {
     protected void processInternal(final Message in) {
         final var header = in.getHeader(ParameterUtils.IDSCP_HEADER,
                 de.fraunhofer.iais.eis.Message.class);
-        final var payload = new String(in.getBody(byte[].class), StandardCharsets.UTF_8);
+        final var payload = in.getBody(byte[].class);
 
-        in.setBody(new Response(header, payload));
+        if (MessageUtils.hasBinaryPayload(header)) {
+            in.setBody(new BinaryResponse(header, payload));
+        } else {
+            in.setBody(new Response(header, new String(payload, StandardCharsets.UTF_8)));
+        }
     }
 
 }
@@ -29,6 +29,7 @@ import org.hibernate.annotations.Where;
 
 import javax.persistence.Column;
 import javax.persistence.Convert;
+import javax.persistence.ElementCollection;
 import javax.persistence.Lob;
 import javax.persistence.ManyToMany;
 import javax.persistence.Table;
@@ -79,6 +80,22 @@ public class Agreement extends Entity implements RemoteObject {
     @Lob
     private String value;
 
+    /**
+     * The rules of the definition with their extracted policy parameters.
+     */
+    @ElementCollection
+    @Setter
+    @EqualsAndHashCode.Exclude
+    private List<AgreementRule> rules;
+
+    /**
+     * Whether the rules have been extracted from the definition. Null for agreements stored by
+     * previous versions.
+     */
+    @Setter
+    @EqualsAndHashCode.Exclude
+    private Boolean rulesExtracted;
+
     /**
      * The artifacts this agreement refers to.
      */
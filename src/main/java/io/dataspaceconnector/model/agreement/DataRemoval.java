@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.model.agreement;
+
+import io.dataspaceconnector.model.util.UriConverter;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LENGTH;
+
+/**
+ * The date after which the data of an agreement's target has to be deleted. It is computed once
+ * when the agreement is stored, so due removals can be found without reading all agreements.
+ */
+@Entity
+@Table(name = "data_removal", indexes = {
+        @Index(name = "idx_data_removal_due", columnList = "processed, deadline"),
+        @Index(name = "idx_data_removal_agreement", columnList = "agreement_id")})
+@Getter
+@Setter(AccessLevel.NONE)
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class DataRemoval implements Serializable {
+
+    /**
+     * Serial version uid.
+     **/
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The id of the removal.
+     */
+    @Id
+    private UUID id;
+
+    /**
+     * The agreement requiring the removal.
+     */
+    @Column(name = "agreement_id")
+    private UUID agreementId;
+
+    /**
+     * The remote id of the artifact whose data has to be removed.
+     */
+    @Convert(converter = UriConverter.class)
+    @Column(length = URI_COLUMN_LENGTH)
+    private URI target;
+
+    /**
+     * The date after which the data has to be removed.
+     */
+    @Column(name = "deadline")
+    private ZonedDateTime deadline;
+
+    /**
+     * Whether the removal has already been carried out.
+     */
+    @Column(name = "processed")
+    private boolean processed;
+}
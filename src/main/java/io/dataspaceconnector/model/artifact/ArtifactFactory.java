@@ -131,8 +131,8 @@ public final class ArtifactFactory extends AbstractNamedFactory<Artifact, Artifa
     }
 
     private void setLocalArtifactData(final ArtifactImpl artifact, final LocalData data) {
+        // Byte size and checksum are calculated when the data is written to the storage.
         artifact.setData(data);
-        updateByteSize(artifact, data.getValue());
     }
 
     private boolean updateRemoteData(final ArtifactImpl artifact, final URL accessUrl,
@@ -171,18 +171,27 @@ public final class ArtifactFactory extends AbstractNamedFactory<Artifact, Artifa
      */
     public boolean updateByteSize(final Artifact artifact, final byte[] bytes) {
         if (bytes != null) {
-            final var byteSize = bytes.length;
-            final var checkSum = calculateChecksum(bytes);
-            if (artifact.getCheckSum() != checkSum || artifact.getByteSize() != byteSize) {
-                setByteSizeAndCheckSum(artifact, byteSize, checkSum);
-                return true;
-            }
+            return updateByteSize(artifact, bytes.length, calculateChecksum(bytes));
         } else {
-            if (artifact.getByteSize() != 0 || artifact.getCheckSum() != 0) {
-                setByteSizeAndCheckSum(artifact, 0, 0);
-                return true;
-            }
+            return updateByteSize(artifact, 0, 0);
+        }
+    }
+
+    /**
+     * Update the byte and checksum of an artifact. This will not update the actual data.
+     *
+     * @param artifact The artifact which byte and checksum needs to be updated.
+     * @param byteSize The size of the data.
+     * @param checkSum The CRC32C checksum of the data.
+     * @return true if the artifact has been modified.
+     */
+    public boolean updateByteSize(final Artifact artifact, final long byteSize,
+                                  final long checkSum) {
+        if (artifact.getCheckSum() != checkSum || artifact.getByteSize() != byteSize) {
+            setByteSizeAndCheckSum(artifact, byteSize, checkSum);
+            return true;
         }
+
         return false;
     }
 
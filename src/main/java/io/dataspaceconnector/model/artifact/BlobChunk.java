@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.model.artifact;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+import java.io.Serializable;
+
+/**
+ * A fixed-size part of a blob stored in the internal database. Blobs are split into chunks so
+ * that they can be written and read without holding the complete blob in memory.
+ */
+@Entity
+@IdClass(BlobChunk.ChunkId.class)
+@Table(name = "blob_chunk")
+@Getter
+@Setter(AccessLevel.NONE)
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlobChunk implements Serializable {
+
+    /**
+     * Serial version uid.
+     **/
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The size of a chunk in bytes. Only the last chunk of a blob may be smaller.
+     */
+    public static final int CHUNK_SIZE = 1024 * 1024;
+
+    /**
+     * The key of the blob this chunk belongs to.
+     */
+    @Id
+    @Column(name = "blob_key")
+    private String blobKey;
+
+    /**
+     * The position of this chunk within the blob.
+     */
+    @Id
+    @Column(name = "chunk_index")
+    private int chunkIndex;
+
+    /**
+     * The content of this chunk.
+     */
+    @Column(name = "content", length = CHUNK_SIZE)
+    private byte[] content;
+
+    /**
+     * The composite primary key of a chunk.
+     */
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ChunkId implements Serializable {
+
+        /**
+         * Serial version uid.
+         **/
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The key of the blob.
+         */
+        private String blobKey;
+
+        /**
+         * The position of the chunk within the blob.
+         */
+        private int chunkIndex;
+    }
+}
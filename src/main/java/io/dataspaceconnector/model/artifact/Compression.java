@@ -0,0 +1,54 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.model.artifact;
+
+import lombok.Getter;
+
+/**
+ * Enumeration for the compression of stored artifact data.
+ */
+public enum Compression {
+
+    /**
+     * The data is stored as is.
+     */
+    NONE("identity"),
+
+    /**
+     * The data is stored gzip compressed.
+     */
+    GZIP("gzip"),
+
+    /**
+     * The data is stored zstd compressed.
+     */
+    ZSTD("zstd");
+
+    /**
+     * The HTTP content coding of the compressed data.
+     */
+    @Getter
+    private final String contentEncoding;
+
+    /**
+     * Constructor.
+     *
+     * @param encoding The HTTP content coding of the compressed data.
+     */
+    Compression(final String encoding) {
+        this.contentEncoding = encoding;
+    }
+}
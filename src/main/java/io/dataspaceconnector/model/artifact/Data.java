@@ -29,6 +29,7 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Inheritance;
 import javax.persistence.Table;
 import java.io.Serializable;
@@ -38,7 +39,7 @@ import java.io.Serializable;
  */
 @Entity
 @Inheritance
-@Table(name = "data")
+@Table(name = "data", indexes = @Index(name = "data_blob_key", columnList = "blob_key"))
 @SQLDelete(sql = "UPDATE data SET deleted=true WHERE id=?")
 @Where(clause = "deleted = false")
 @Getter
@@ -17,16 +17,21 @@ package io.dataspaceconnector.model.artifact;
 
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
+import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
 import javax.persistence.Lob;
 
 /**
- * Simple wrapper for data stored in the internal database.
+ * Simple wrapper for data stored by the connector. The data is either kept inline or, for
+ * artifacts, referenced by the key of a blob in the configured blob store.
  */
 @Entity
 @SQLDelete(sql = "UPDATE data SET deleted=true WHERE id=?")
@@ -42,11 +47,26 @@ public class LocalData extends Data {
     private static final long serialVersionUID = 1L;
 
     /**
-     * The data.
+     * The inline data. Used for app templates and for artifact data stored before the blob
+     * store has been introduced.
      */
     @Lob
     private byte[] value;
 
+    /**
+     * The key of the blob holding the data. Null if the data is stored inline. Several entities
+     * may reference the same blob.
+     */
+    @Getter
+    @Column(name = "blob_key")
+    private String blobKey;
+
+    /**
+     * The compression of the stored blob. Null if the data is stored uncompressed.
+     */
+    @Enumerated(EnumType.STRING)
+    private Compression compression;
+
     /**
      * Get the data.
      *
@@ -55,4 +75,13 @@ public class LocalData extends Data {
     public byte[] getValue() {
         return value == null ? null : value.clone();
     }
+
+    /**
+     * Get the compression of the stored blob.
+     *
+     * @return The compression.
+     */
+    public Compression getCompression() {
+        return compression == null ? Compression.NONE : compression;
+    }
 }
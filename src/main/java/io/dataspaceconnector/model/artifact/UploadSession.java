@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.model.artifact;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * An upload of artifact data in several parts. The received parts are written to a blob, which
+ * replaces the data of the artifact once the upload is committed. Size and checksum of the
+ * received data are kept up to date with every part.
+ */
+@Entity
+@Table(name = "upload_session")
+@Getter
+@Setter(AccessLevel.NONE)
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSession implements Serializable {
+
+    /**
+     * Serial version uid.
+     **/
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The id of the upload.
+     */
+    @Id
+    private UUID id;
+
+    /**
+     * The artifact whose data is uploaded.
+     */
+    @Column(name = "artifact_id")
+    private UUID artifactId;
+
+    /**
+     * The key of the blob receiving the data.
+     */
+    @Column(name = "blob_key")
+    private String blobKey;
+
+    /**
+     * The number of bytes received so far, which is the offset of the next part.
+     */
+    @Column(name = "byte_size")
+    private long byteSize;
+
+    /**
+     * The CRC32C checksum of the bytes received so far.
+     */
+    @Column(name = "check_sum")
+    private long checkSum;
+
+    /**
+     * The time the last part has been received.
+     */
+    @Column(name = "modification_date")
+    private ZonedDateTime modificationDate;
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.model.message;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * An item that has to be logged in the Clearing House. Items are stored on the request path and
+ * sent in the background, so the Clearing House does not delay data transfers.
+ */
+@Entity
+@Table(name = "clearing_house_outbox", indexes = {
+        @Index(name = "idx_clearing_house_outbox_due", columnList = "next_attempt"),
+        @Index(name = "idx_clearing_house_outbox_created", columnList = "creation_date"),
+        @Index(name = "idx_clearing_house_outbox_process",
+                columnList = "process_id, creation_date")})
+@Getter
+@Setter(AccessLevel.NONE)
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClearingHouseLogEntry implements Serializable {
+
+    /**
+     * Serial version uid.
+     **/
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The id of the entry.
+     */
+    @Id
+    private UUID id;
+
+    /**
+     * The Clearing House process the item is logged under.
+     */
+    @Column(name = "process_id")
+    private UUID processId;
+
+    /**
+     * The item that should be logged.
+     */
+    @Lob
+    private String payload;
+
+    /**
+     * The time the item has been stored.
+     */
+    @Column(name = "creation_date")
+    private ZonedDateTime creationDate;
+
+    /**
+     * The number of failed attempts to send the item.
+     */
+    @Column(name = "attempts")
+    private int attempts;
+
+    /**
+     * The time the item should be sent next.
+     */
+    @Column(name = "next_attempt")
+    private ZonedDateTime nextAttempt;
+
+    /**
+     * Whether sending the item has been given up after too many failed attempts.
+     */
+    @Column(name = "failed")
+    private boolean failed;
+}
@@ -21,6 +21,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -42,4 +44,46 @@ public interface AgreementRepository extends BaseEntityRepository<Agreement> {
             + "AND a.archived = false "
             + "AND a.deleted = false")
     void confirmAgreement(UUID entityId);
+
+    /**
+     * Get the ids of all agreements whose rules have never been extracted.
+     *
+     * @return The ids of the agreements.
+     */
+    @Query("SELECT a.id "
+            + "FROM Agreement a "
+            + "WHERE a.rulesExtracted IS NULL "
+            + "OR a.rulesExtracted = false")
+    List<UUID> findAllIdsWithoutRules();
+
+    /**
+     * Get the ends of the time intervals of agreement rules that end after the given date.
+     *
+     * @param date The date.
+     * @return The agreements and the ends of their rules.
+     */
+    @Query("SELECT a.id AS agreementId, r.parameters.intervalEnd AS intervalEnd "
+            + "FROM Agreement a "
+            + "JOIN a.rules r "
+            + "WHERE r.parameters.intervalEnd > :date")
+    List<RuleEnd> findAllRuleEndsAfter(ZonedDateTime date);
+
+    /**
+     * The end of the time interval of an agreement rule.
+     */
+    interface RuleEnd {
+        /**
+         * Get the id of the agreement.
+         *
+         * @return The id.
+         */
+        UUID getAgreementId();
+
+        /**
+         * Get the end of the time interval.
+         *
+         * @return The end.
+         */
+        ZonedDateTime getIntervalEnd();
+    }
 }
@@ -23,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -92,6 +93,49 @@ public interface ArtifactRepository extends RemoteEntityRepository<Artifact> {
             + "AND a.deleted = false")
     void setArtifactData(UUID artifactId, long checkSum, long size);
 
+    /**
+     * Increase the access counter of an artifact in a single atomic update.
+     *
+     * @param artifactId The artifact.
+     * @param count      The number of accesses to add.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Artifact a "
+            + "SET a.numAccessed = a.numAccessed + :count "
+            + "WHERE a.id = :artifactId "
+            + "AND a.deleted = false")
+    void incrementAccessCounter(UUID artifactId, long count);
+
+    /**
+     * Count an access to an artifact in a single atomic update, if the artifact has been
+     * accessed less than the given number of times.
+     *
+     * @param artifactId The artifact.
+     * @param max        The maximum number of accesses.
+     * @return 1 if the access has been counted, 0 if the maximum has been reached.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Artifact a "
+            + "SET a.numAccessed = a.numAccessed + 1 "
+            + "WHERE a.id = :artifactId "
+            + "AND a.deleted = false "
+            + "AND a.numAccessed < :max")
+    int reserveAccess(UUID artifactId, long max);
+
+    /**
+     * Read the current access counter of an artifact from the database.
+     *
+     * @param artifactId The artifact.
+     * @return The access counter, if the artifact exists.
+     */
+    @Query("SELECT a.numAccessed "
+            + "FROM Artifact a "
+            + "WHERE a.id = :artifactId "
+            + "AND a.deleted = false")
+    Optional<Long> findNumAccessed(UUID artifactId);
+
     /**
      * Finds all artifacts with a specific bootstrap ID.
      *
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import io.dataspaceconnector.model.artifact.BlobChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * The repository containing all objects of type {@link BlobChunk}. Chunks are written and read
+ * without loading them into the persistence context, so that the memory usage does not grow with
+ * the size of a blob.
+ */
+@Repository
+public interface BlobChunkRepository extends JpaRepository<BlobChunk, BlobChunk.ChunkId> {
+
+    /**
+     * Insert a new chunk.
+     *
+     * @param blobKey    The key of the blob.
+     * @param chunkIndex The position of the chunk within the blob.
+     * @param content    The content of the chunk.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO blob_chunk (blob_key, chunk_index, content) "
+            + "VALUES (:blobKey, :chunkIndex, :content)", nativeQuery = true)
+    void insertChunk(String blobKey, int chunkIndex, byte[] content);
+
+    /**
+     * Replace the content of a chunk.
+     *
+     * @param blobKey    The key of the blob.
+     * @param chunkIndex The position of the chunk within the blob.
+     * @param content    The new content of the chunk.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE blob_chunk SET content = :content "
+            + "WHERE blob_key = :blobKey AND chunk_index = :chunkIndex", nativeQuery = true)
+    void updateChunk(String blobKey, int chunkIndex, byte[] content);
+
+    /**
+     * Move all chunks of a blob to a new key.
+     *
+     * @param blobKey The current key of the blob.
+     * @param newKey  The new key of the blob.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE blob_chunk SET blob_key = :newKey "
+            + "WHERE blob_key = :blobKey", nativeQuery = true)
+    void renameBlob(String blobKey, String newKey);
+
+    /**
+     * Get the content of a chunk.
+     *
+     * @param blobKey    The key of the blob.
+     * @param chunkIndex The position of the chunk within the blob.
+     * @return The content of the chunk, if it exists.
+     */
+    @Query("SELECT c.content "
+            + "FROM BlobChunk c "
+            + "WHERE c.blobKey = :blobKey "
+            + "AND c.chunkIndex = :chunkIndex")
+    Optional<byte[]> findContent(String blobKey, int chunkIndex);
+
+    /**
+     * Count the chunks of a blob.
+     *
+     * @param blobKey The key of the blob.
+     * @return The number of chunks.
+     */
+    @Query("SELECT COUNT(c) "
+            + "FROM BlobChunk c "
+            + "WHERE c.blobKey = :blobKey")
+    long countChunks(String blobKey);
+
+    /**
+     * Remove the chunks of a blob starting at the given position.
+     *
+     * @param blobKey    The key of the blob.
+     * @param chunkIndex The position of the first chunk to remove.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM BlobChunk c WHERE c.blobKey = :blobKey AND c.chunkIndex >= :chunkIndex")
+    void deleteChunksFrom(String blobKey, int chunkIndex);
+
+    /**
+     * Remove all chunks of a blob.
+     *
+     * @param blobKey The key of the blob.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM BlobChunk c WHERE c.blobKey = :blobKey")
+    void deleteChunks(String blobKey);
+}
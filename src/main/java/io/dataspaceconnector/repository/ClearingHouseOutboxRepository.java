@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import io.dataspaceconnector.model.message.ClearingHouseLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The repository containing all objects of type {@link ClearingHouseLogEntry}.
+ */
+@Repository
+public interface ClearingHouseOutboxRepository extends JpaRepository<ClearingHouseLogEntry, UUID> {
+
+    /**
+     * Get the entries that should be sent, the oldest first. Entries are left out while an older
+     * entry of the same process is waiting for its next attempt, so that the entries of a
+     * process are sent in order.
+     *
+     * @param date     The current date.
+     * @param pageable The maximum number of entries.
+     * @return The due entries.
+     */
+    @Query("SELECT e "
+            + "FROM ClearingHouseLogEntry e "
+            + "WHERE e.failed = false "
+            + "AND e.nextAttempt <= :date "
+            + "AND NOT EXISTS (SELECT o "
+            + "FROM ClearingHouseLogEntry o "
+            + "WHERE o.processId = e.processId "
+            + "AND o.failed = false "
+            + "AND o.creationDate < e.creationDate "
+            + "AND o.nextAttempt > :date) "
+            + "ORDER BY e.creationDate")
+    List<ClearingHouseLogEntry> findAllDue(ZonedDateTime date, Pageable pageable);
+
+    /**
+     * Get the creation date of the oldest entry that has not been sent.
+     *
+     * @return The creation date, null if all entries have been sent.
+     */
+    @Query("SELECT MIN(e.creationDate) "
+            + "FROM ClearingHouseLogEntry e "
+            + "WHERE e.failed = false")
+    ZonedDateTime findOldestCreationDate();
+
+    /**
+     * Count the entries that have either not been sent yet or been given up.
+     *
+     * @param failed Whether to count the entries that have been given up.
+     * @return The number of entries.
+     */
+    long countByFailed(boolean failed);
+
+    /**
+     * Record a failed attempt to send entries.
+     *
+     * @param ids  The ids of the entries.
+     * @param date The time the entries should be sent next.
+     * @return The number of updated entries.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ClearingHouseLogEntry e "
+            + "SET e.attempts = e.attempts + 1, e.nextAttempt = :date "
+            + "WHERE e.id IN :ids")
+    int postpone(Collection<UUID> ids, ZonedDateTime date);
+
+    /**
+     * Give up sending entries after too many failed attempts. The entries are kept, but no
+     * longer sent and no longer hold back the following entries of their process.
+     *
+     * @param ids The ids of the entries.
+     * @return The number of updated entries.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ClearingHouseLogEntry e "
+            + "SET e.attempts = e.attempts + 1, e.failed = true "
+            + "WHERE e.id IN :ids")
+    int markFailed(Collection<UUID> ids);
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import io.dataspaceconnector.model.agreement.DataRemoval;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The repository containing all objects of type {@link DataRemoval}.
+ */
+@Repository
+public interface DataRemovalRepository extends JpaRepository<DataRemoval, UUID> {
+
+    /**
+     * Get removals that have not been carried out and whose deadline has passed, the earliest
+     * first.
+     *
+     * @param date     The current date.
+     * @param pageable The maximum number of removals.
+     * @return The due removals.
+     */
+    @Query("SELECT r "
+            + "FROM DataRemoval r "
+            + "WHERE r.processed = false "
+            + "AND r.deadline < :date "
+            + "ORDER BY r.deadline, r.id")
+    List<DataRemoval> findAllDue(ZonedDateTime date, Pageable pageable);
+
+    /**
+     * Get all removals that have not been carried out.
+     *
+     * @return The pending removals.
+     */
+    @Query("SELECT r "
+            + "FROM DataRemoval r "
+            + "WHERE r.processed = false")
+    List<DataRemoval> findAllPending();
+
+    /**
+     * Get the targets of an agreement whose data has already been removed.
+     *
+     * @param agreementId The id of the agreement.
+     * @return The targets.
+     */
+    @Query("SELECT r.target "
+            + "FROM DataRemoval r "
+            + "WHERE r.agreementId = :agreementId "
+            + "AND r.processed = true")
+    List<URI> findAllProcessedTargets(UUID agreementId);
+
+    /**
+     * Mark removals as carried out.
+     *
+     * @param ids The ids of the removals.
+     * @return The number of updated removals.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE DataRemoval r "
+            + "SET r.processed = true "
+            + "WHERE r.id IN :ids")
+    int markProcessed(Collection<UUID> ids);
+
+    /**
+     * Delete the removals of an agreement that have not been carried out yet.
+     *
+     * @param agreementId The id of the agreement.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DataRemoval r "
+            + "WHERE r.agreementId = :agreementId "
+            + "AND r.processed = false")
+    void deletePending(UUID agreementId);
+}
@@ -15,6 +15,7 @@
  */
 package io.dataspaceconnector.repository;
 
+import io.dataspaceconnector.model.artifact.Compression;
 import io.dataspaceconnector.model.artifact.Data;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -40,6 +41,31 @@ public interface DataRepository extends JpaRepository<Data, Long> {
             + "WHERE a.id = :entityId")
     void setLocalData(Long entityId, byte[] data);
 
+    /**
+     * Reference a stored blob from an entity. Inline data of the entity is removed.
+     *
+     * @param entityId    The entity id.
+     * @param blobKey     The key of the blob.
+     * @param compression The compression of the blob.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE LocalData a "
+            + "SET a.blobKey = :blobKey, a.compression = :compression, a.value = null "
+            + "WHERE a.id = :entityId")
+    void setBlobKey(Long entityId, String blobKey, Compression compression);
+
+    /**
+     * Count the entities referencing a stored blob.
+     *
+     * @param blobKey The key of the blob.
+     * @return The number of referencing entities.
+     */
+    @Query("SELECT COUNT(a) "
+            + "FROM LocalData a "
+            + "WHERE a.blobKey = :blobKey")
+    long countByBlobKey(String blobKey);
+
     /**
      * Removes a RemoteData object from the database.
      *
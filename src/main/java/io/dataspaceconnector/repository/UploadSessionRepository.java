@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import io.dataspaceconnector.model.artifact.UploadSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The repository containing all objects of type {@link UploadSession}.
+ */
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, UUID> {
+
+    /**
+     * Record a received part of an upload. The upload is only updated if no other part has been
+     * recorded since the given offset has been read.
+     *
+     * @param sessionId The id of the upload.
+     * @param offset    The offset the part has been written to.
+     * @param byteSize  The number of bytes received including the part.
+     * @param checkSum  The checksum of the bytes received including the part.
+     * @param date      The time the part has been received.
+     * @return The number of updated uploads.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadSession s "
+            + "SET s.byteSize = :byteSize, s.checkSum = :checkSum, s.modificationDate = :date "
+            + "WHERE s.id = :sessionId "
+            + "AND s.byteSize = :offset")
+    int advance(UUID sessionId, long offset, long byteSize, long checkSum, ZonedDateTime date);
+
+    /**
+     * Get all uploads that have not received a part since the given time.
+     *
+     * @param date The time.
+     * @return The inactive uploads.
+     */
+    @Query("SELECT s "
+            + "FROM UploadSession s "
+            + "WHERE s.modificationDate < :date")
+    List<UploadSession> findAllModifiedBefore(ZonedDateTime date);
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service;
+
+import io.dataspaceconnector.common.exception.ResourceNotFoundException;
+import io.dataspaceconnector.repository.ArtifactRepository;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Counts the data accesses of artifacts. Every access is added to the counter in the database by
+ * an atomic update, so concurrent accesses are never lost and the artifact entity is not written.
+ * If buffering is enabled, accesses are collected in memory and added to the database
+ * periodically instead, which avoids a database update per access of frequently read artifacts.
+ */
+@EnableScheduling
+@Log4j2
+@RequiredArgsConstructor
+@Service
+public class ArtifactAccessCounter {
+
+    /**
+     * Repository for updating the access counters.
+     */
+    private final @NonNull ArtifactRepository artifactRepo;
+
+    /**
+     * Whether accesses are collected in memory before they are written to the database.
+     */
+    @Value("${artifact.access-counter.buffered:false}")
+    private boolean buffered;
+
+    /**
+     * The accesses not yet written to the database, per artifact.
+     */
+    private final Map<UUID, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Count an access to the data of an artifact.
+     *
+     * @param artifactId The artifact.
+     */
+    public void increment(final UUID artifactId) {
+        if (buffered) {
+            withPending(artifactId, accesses -> {
+                accesses.increment();
+                return null;
+            });
+        } else {
+            artifactRepo.incrementAccessCounter(artifactId, 1);
+        }
+    }
+
+    /**
+     * Count an access to the data of an artifact, if it has been accessed less than the given
+     * number of times. Checking and counting happen in a single database update, so concurrent
+     * accesses can not exceed the maximum. Accesses collected in memory are written first, and
+     * no further accesses are collected until the access has been counted.
+     *
+     * @param artifactId The artifact.
+     * @param max        The maximum number of accesses.
+     * @return True if the access has been counted, false if the maximum has been reached.
+     */
+    public boolean reserve(final UUID artifactId, final long max) {
+        if (!buffered) {
+            return artifactRepo.reserveAccess(artifactId, max) > 0;
+        }
+
+        return withPending(artifactId, accesses -> {
+            flush(artifactId, accesses);
+            return artifactRepo.reserveAccess(artifactId, max) > 0;
+        });
+    }
+
+    /**
+     * Revert an access counted by {@link #reserve(UUID, long)} that has not taken place.
+     *
+     * @param artifactId The artifact.
+     */
+    public void release(final UUID artifactId) {
+        artifactRepo.incrementAccessCounter(artifactId, -1);
+    }
+
+    /**
+     * Get the number of accesses to the data of an artifact, including accesses that have not
+     * been written to the database yet.
+     *
+     * @param artifactId The artifact.
+     * @return The number of accesses.
+     * @throws ResourceNotFoundException if the artifact does not exist.
+     */
+    public long get(final UUID artifactId) {
+        final var accesses = pending.get(artifactId);
+        if (accesses == null) {
+            return getStored(artifactId);
+        }
+
+        // Writing the accesses to the database and removing them from memory happens while
+        // holding the lock, so they are never counted twice or missed.
+        synchronized (accesses) {
+            return getStored(artifactId) + accesses.sum();
+        }
+    }
+
+    /**
+     * Periodically writes the accesses collected in memory to the database. Counters of
+     * artifacts without new accesses are removed, so that only recently accessed artifacts are
+     * kept in memory.
+     */
+    @Scheduled(fixedDelayString = "${artifact.access-counter.flush-interval:1000}")
+    @PreDestroy
+    public void flush() {
+        for (final var entry : pending.entrySet()) {
+            final var accesses = entry.getValue();
+            synchronized (accesses) {
+                flush(entry.getKey(), accesses);
+                if (accesses.sum() == 0) {
+                    pending.remove(entry.getKey(), accesses);
+                }
+            }
+        }
+    }
+
+    /**
+     * Run an action while holding the lock of an artifact's accesses collected in memory. All
+     * changes of the accesses happen while holding this lock, so accesses can not be collected
+     * while they are written to the database or checked against a maximum.
+     *
+     * @param artifactId The artifact.
+     * @param action     The action.
+     * @param <T>        The result type of the action.
+     * @return The result of the action.
+     */
+    private <T> T withPending(final UUID artifactId, final Function<LongAdder, T> action) {
+        while (true) {
+            final var accesses = pending.computeIfAbsent(artifactId, id -> new LongAdder());
+            synchronized (accesses) {
+                // Retry if the counter has been removed by a flush in the meantime.
+                if (pending.get(artifactId) == accesses) {
+                    return action.apply(accesses);
+                }
+            }
+        }
+    }
+
+    private void flush(final UUID artifactId, final LongAdder accesses) {
+        final var count = accesses.sum();
+        if (count == 0) {
+            return;
+        }
+
+        try {
+            artifactRepo.incrementAccessCounter(artifactId, count);
+            accesses.add(-count);
+        } catch (DataAccessException e) {
+            // The accesses stay in memory and are written by the next run.
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to update access counter. [id=({}), exception=({})]",
+                        artifactId, e.getMessage());
+            }
+        }
+    }
+
+    private long getStored(final UUID artifactId) {
+        return artifactRepo.findNumAccessed(artifactId).orElseThrow(() ->
+                new ResourceNotFoundException("Artifact: " + artifactId));
+    }
+}
@@ -19,17 +19,28 @@ import io.dataspaceconnector.common.exception.MessageException;
 import io.dataspaceconnector.common.exception.MessageResponseException;
 import io.dataspaceconnector.common.exception.ResourceNotFoundException;
 import io.dataspaceconnector.common.exception.UnexpectedResponseException;
+import io.dataspaceconnector.common.exception.UploadOffsetMismatchException;
+import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.common.ids.message.MessageUtils;
+import io.dataspaceconnector.common.io.Base64Codec;
+import io.dataspaceconnector.common.net.ByteRange;
+import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.service.message.builder.type.ArtifactRequestService;
 import io.dataspaceconnector.service.resource.type.AgreementService;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 
 import javax.persistence.PersistenceException;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -55,6 +66,28 @@ public class ArtifactDataDownloader {
      */
     private final @NonNull EntityPersistenceService persistenceSvc;
 
+    /**
+     * Service for managing artifacts.
+     */
+    private final @NonNull ArtifactService artifactSvc;
+
+    /**
+     * Service for storing data received in parts.
+     */
+    private final @NonNull ArtifactUploadService uploadSvc;
+
+    /**
+     * Service for ids deserialization.
+     */
+    private final @NonNull DeserializationService deserializationSvc;
+
+    /**
+     * The size of the parts large artifacts are downloaded in. Not positive to download
+     * artifacts at once.
+     */
+    @Value("${storage.download.chunk-size:0}")
+    private long chunkSize;
+
     /**
      * Download artifact data.
      *
@@ -69,9 +102,17 @@ public class ArtifactDataDownloader {
             throws UnexpectedResponseException, MessageResponseException, MessageException {
         // Iterate over list of resource ids to send artifact request messages for each.
         for (final var artifact : artifacts) {
+            final var transferContract = agreementService.get(agreementId).getRemoteId();
+            final var artifactId = artifactSvc.identifyByRemoteId(artifact);
+            final var size = artifactId.map(this::getRemoteDataSize).orElse(-1L);
+            if (chunkSize > 0 && size > chunkSize) {
+                downloadInChunks(recipient, artifact, transferContract, artifactId.get(), size);
+                continue;
+            }
+
             // Send and validate artifact request/response message.
             final var response = artifactReqSvc.sendMessage(recipient, artifact,
-                    agreementService.get(agreementId).getRemoteId());
+                    transferContract);
 
             // Read and process the response message.
             try {
@@ -87,6 +128,118 @@ public class ArtifactDataDownloader {
         }
     }
 
+    /**
+     * Download artifact data as a sequence of ranges. Every range is stored as soon as it has
+     * been received, so a download that is interrupted continues where it stopped the next time.
+     * If the provider does not support ranges, the complete data it returns is stored instead.
+     *
+     * @param recipient        The provider connector.
+     * @param artifact         The artifact whose data should be downloaded.
+     * @param transferContract The agreement allowing the transfer.
+     * @param artifactId       The id of the local artifact.
+     * @param size             The size of the data announced by the provider.
+     * @throws UnexpectedResponseException if the response type is not as expected.
+     * @throws MessageResponseException    if the response is invalid.
+     * @throws MessageException            if message handling failed.
+     */
+    private void downloadInChunks(final URI recipient, final URI artifact,
+                                  final URI transferContract, final UUID artifactId,
+                                  final long size)
+            throws UnexpectedResponseException, MessageResponseException, MessageException {
+        try {
+            downloadRanges(recipient, artifact, transferContract, artifactId, size);
+        } catch (IOException | ResourceNotFoundException | UploadOffsetMismatchException
+                | IllegalArgumentException e) {
+            // Note: The parts stored so far are kept. Another try continues the download.
+            if (log.isWarnEnabled()) {
+                log.warn("Could not save data for artifact. [artifact=({}), "
+                        + "exception=({})]", artifact, e.getMessage(), e);
+            }
+        }
+    }
+
+    private void downloadRanges(final URI recipient, final URI artifact,
+                                final URI transferContract, final UUID artifactId,
+                                final long size)
+            throws UnexpectedResponseException, IOException {
+        // The upload is identified by artifact and agreement, so it is found again on retries.
+        // Each upload writes to a new blob, so a committed copy of the data is never
+        // overwritten or deleted by a later download.
+        final var sessionId = UUID.nameUUIDFromBytes((artifactId + " " + transferContract)
+                .getBytes(StandardCharsets.UTF_8));
+        var offset = uploadSvc.resumeSession(artifactId, sessionId).getByteSize();
+        if (offset > 0 && log.isInfoEnabled()) {
+            log.info("Resuming download. [artifact=({}), offset=({})]", artifact, offset);
+        }
+
+        var totalSize = size;
+        while (offset < totalSize) {
+            final var range = new ByteRange(offset, Math.min(offset + chunkSize, totalSize) - 1);
+            final var response = artifactReqSvc.sendMessage(recipient, artifact,
+                    transferContract, getRangeQuery(range));
+
+            final var contentRange = getContentRange(response);
+            if (contentRange == null) {
+                // The provider returned the complete data.
+                uploadSvc.abort(artifactId, sessionId);
+                persistenceSvc.saveData(response, artifact);
+                return;
+            }
+
+            final var received = ByteRange.parseContentRange(contentRange);
+            final var receivedTotal = ByteRange.parseTotalSize(contentRange);
+            if (received.isEmpty() || received.get().getStart() != offset
+                    || (receivedTotal >= 0 && receivedTotal != totalSize && offset > 0)) {
+                // The data has changed since the download started. Start again next time.
+                uploadSvc.abort(artifactId, sessionId);
+                throw new IOException("Received unexpected range " + contentRange + ".");
+            }
+
+            if (receivedTotal >= 0) {
+                totalSize = receivedTotal;
+            }
+
+            final var payload = MessageUtils.extractPayloadFromMultipartMessage(response);
+            final var next = uploadSvc.appendChunk(artifactId, sessionId, offset,
+                    Base64Codec.decode(payload));
+            if (next == offset) {
+                throw new IOException("Received empty range " + contentRange + ".");
+            }
+
+            offset = next;
+        }
+
+        uploadSvc.commit(artifactId, sessionId);
+    }
+
+    /**
+     * Get the size of the artifact data as announced by the provider.
+     *
+     * @param artifactId The id of the local artifact.
+     * @return The size. Negative if it is unknown.
+     */
+    private long getRemoteDataSize(final UUID artifactId) {
+        final var size = artifactSvc.get(artifactId).getAdditional().get("ids:byteSize");
+        try {
+            return size == null ? -1 : Long.parseLong(size);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static QueryInput getRangeQuery(final ByteRange range) {
+        final var queryInput = new QueryInput();
+        queryInput.getHeaders().put(HttpHeaders.RANGE,
+                "bytes=" + range.getStart() + "-" + range.getEnd());
+        return queryInput;
+    }
+
+    private String getContentRange(final Map<String, String> response) {
+        final var header = MessageUtils.extractHeaderFromMultipartMessage(response);
+        return MessageUtils.extractContentRange(deserializationSvc.getMessage(header))
+                .orElse(null);
+    }
+
     /**
      * Request the App Artifact and update the app.
      *
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service;
+
+import io.dataspaceconnector.common.exception.NotImplemented;
+import io.dataspaceconnector.common.exception.ResourceNotFoundException;
+import io.dataspaceconnector.common.exception.UploadOffsetMismatchException;
+import io.dataspaceconnector.common.io.ChecksumInputStream;
+import io.dataspaceconnector.common.io.Crc32c;
+import io.dataspaceconnector.model.artifact.ArtifactImpl;
+import io.dataspaceconnector.model.artifact.LocalData;
+import io.dataspaceconnector.model.artifact.UploadSession;
+import io.dataspaceconnector.repository.UploadSessionRepository;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
+import io.dataspaceconnector.service.storage.BlobStore;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Handles resumable uploads of artifact data. The data is received in parts, each written to a
+ * blob at the offset the previous parts ended. Size and checksum of the upload are advanced with
+ * every part, so committing the upload does not have to read the data again.
+ */
+@EnableScheduling
+@Log4j2
+@RequiredArgsConstructor
+@Service
+public class ArtifactUploadService {
+
+    /**
+     * The delay of the scheduler removing abandoned uploads.
+     */
+    private static final int FIXED_DELAY = 600_000;
+
+    /**
+     * Repository for storing uploads.
+     */
+    private final @NonNull UploadSessionRepository sessionRepo;
+
+    /**
+     * Service for managing artifacts.
+     */
+    private final @NonNull ArtifactService artifactSvc;
+
+    /**
+     * The store holding the uploaded data.
+     */
+    private final @NonNull BlobStore blobStore;
+
+    /**
+     * The uploads currently receiving a part.
+     */
+    private final Set<UUID> activeSessions = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The time in milliseconds after which an upload without progress is removed.
+     */
+    @Value("${storage.upload.timeout:86400000}")
+    private long uploadTimeout;
+
+    /**
+     * Start an upload for the data of an artifact.
+     *
+     * @param artifactId The artifact whose data is uploaded.
+     * @return The upload.
+     * @throws ResourceNotFoundException if the artifact does not exist.
+     * @throws NotImplemented            if the artifact does not hold local data.
+     */
+    public UploadSession createSession(final UUID artifactId) {
+        return createSession(artifactId, UUID.randomUUID());
+    }
+
+    /**
+     * Get an upload, starting it if it does not exist. Used to continue an interrupted upload
+     * whose id is known in advance. An upload whose data has already been committed is not
+     * continued, but replaced by a new one.
+     *
+     * @param artifactId The artifact whose data is uploaded.
+     * @param sessionId  The id of the upload.
+     * @return The upload.
+     * @throws ResourceNotFoundException if the artifact does not exist.
+     * @throws NotImplemented            if the artifact does not hold local data.
+     */
+    public UploadSession resumeSession(final UUID artifactId, final UUID sessionId) {
+        final var session = sessionRepo.findById(sessionId)
+                .filter(x -> x.getArtifactId().equals(artifactId));
+        if (session.isPresent()) {
+            if (!artifactSvc.isBlobReferenced(session.get().getBlobKey())) {
+                return session.get();
+            }
+
+            // The commit has not removed the upload, so its blob must not be written again.
+            sessionRepo.deleteById(sessionId);
+        }
+
+        return createSession(artifactId, sessionId);
+    }
+
+    private UploadSession createSession(final UUID artifactId, final UUID sessionId) {
+        final var artifact = artifactSvc.get(artifactId);
+        if (!(((ArtifactImpl) artifact).getData() instanceof LocalData)) {
+            throw new NotImplemented();
+        }
+
+        // Every upload writes to a new blob, as the blob of a committed upload is referenced by
+        // the artifact's data and must not be overwritten.
+        final var session = new UploadSession(sessionId, artifactId,
+                UUID.randomUUID().toString().replace("-", ""), 0, 0, ZonedDateTime.now());
+        return sessionRepo.saveAndFlush(session);
+    }
+
+    /**
+     * Get an upload.
+     *
+     * @param artifactId The artifact whose data is uploaded.
+     * @param sessionId  The id of the upload.
+     * @return The upload.
+     * @throws ResourceNotFoundException if the upload does not exist.
+     */
+    public UploadSession getSession(final UUID artifactId, final UUID sessionId) {
+        return sessionRepo.findById(sessionId)
+                .filter(x -> x.getArtifactId().equals(artifactId))
+                .orElseThrow(() -> new ResourceNotFoundException("Upload not found."));
+    }
+
+    /**
+     * Append a part to an upload. The part has to start where the data received so far ends.
+     *
+     * @param artifactId The artifact whose data is uploaded.
+     * @param sessionId  The id of the upload.
+     * @param offset     The offset of the part.
+     * @param data       The part.
+     * @return The number of bytes received including the part.
+     * @throws ResourceNotFoundException     if the upload does not exist.
+     * @throws UploadOffsetMismatchException if the offset does not match the upload or another
+     *                                       part is received at the same time.
+     * @throws IOException                   if the part could not be stored.
+     */
+    public long appendChunk(final UUID artifactId, final UUID sessionId, final long offset,
+                            final InputStream data) throws IOException {
+        final var session = getSession(artifactId, sessionId);
+        if (session.getByteSize() != offset || !activeSessions.add(sessionId)) {
+            throw new UploadOffsetMismatchException(session.getByteSize());
+        }
+
+        try {
+            final var checkedData = new ChecksumInputStream(data);
+            blobStore.write(session.getBlobKey(), offset, checkedData);
+
+            final var byteSize = offset + checkedData.getByteSize();
+            final var checkSum = Crc32c.combine(session.getCheckSum(),
+                    checkedData.getChecksum(), checkedData.getByteSize());
+            if (sessionRepo.advance(sessionId, offset, byteSize, checkSum,
+                    ZonedDateTime.now()) == 0) {
+                throw new UploadOffsetMismatchException(
+                        getSession(artifactId, sessionId).getByteSize());
+            }
+
+            return byteSize;
+        } finally {
+            activeSessions.remove(sessionId);
+        }
+    }
+
+    /**
+     * Complete an upload. The uploaded data replaces the data of the artifact.
+     *
+     * @param artifactId The artifact whose data is uploaded.
+     * @param sessionId  The id of the upload.
+     * @throws ResourceNotFoundException     if the upload does not exist.
+     * @throws UploadOffsetMismatchException if a part is received at the same time.
+     * @throws IOException                   if the data of an empty upload could not be stored.
+     */
+    public void commit(final UUID artifactId, final UUID sessionId) throws IOException {
+        final var session = getSession(artifactId, sessionId);
+        if (!activeSessions.add(sessionId)) {
+            throw new UploadOffsetMismatchException(session.getByteSize());
+        }
+
+        try {
+            if (session.getByteSize() == 0) {
+                // Nothing has been written, so make sure the blob exists.
+                blobStore.write(session.getBlobKey(), 0, InputStream.nullInputStream());
+            }
+
+            // The upload is only removed once its data is referenced, so a failed commit can be
+            // repeated or aborted without losing the blob.
+            artifactSvc.setUploadedData(artifactId, session.getBlobKey(),
+                    session.getByteSize(), session.getCheckSum());
+            sessionRepo.deleteById(sessionId);
+        } finally {
+            activeSessions.remove(sessionId);
+        }
+    }
+
+    /**
+     * Cancel an upload and discard the data received so far.
+     *
+     * @param artifactId The artifact whose data is uploaded.
+     * @param sessionId  The id of the upload.
+     * @throws ResourceNotFoundException if the upload does not exist.
+     */
+    public void abort(final UUID artifactId, final UUID sessionId) {
+        removeSession(getSession(artifactId, sessionId));
+    }
+
+    /**
+     * Periodically removes uploads that have not received a part within the upload timeout.
+     */
+    @Scheduled(fixedDelay = FIXED_DELAY)
+    public void removeAbandonedSessions() {
+        final var deadline = ZonedDateTime.now().minus(uploadTimeout, ChronoUnit.MILLIS);
+        for (final var session : sessionRepo.findAllModifiedBefore(deadline)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Removing abandoned upload. [id=({})]", session.getId());
+            }
+            removeSession(session);
+        }
+    }
+
+    private void removeSession(final UploadSession session) {
+        sessionRepo.deleteById(session.getId());
+        // The data is kept if the upload has been committed in the meantime.
+        artifactSvc.releaseBlob(session.getBlobKey());
+    }
+}
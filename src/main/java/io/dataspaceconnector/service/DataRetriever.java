@@ -17,18 +17,29 @@ package io.dataspaceconnector.service;
 
 import io.dataspaceconnector.common.exception.DataRetrievalException;
 import io.dataspaceconnector.common.exception.UnreachableLineException;
+import io.dataspaceconnector.common.io.RangedInputStream;
 import io.dataspaceconnector.common.net.ApiReferenceHelper;
+import io.dataspaceconnector.common.net.ByteRange;
 import io.dataspaceconnector.common.net.HttpAuthentication;
+import io.dataspaceconnector.common.net.HttpResponse;
 import io.dataspaceconnector.common.net.HttpService;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.routing.RouteDataRetriever;
 import io.dataspaceconnector.common.routing.dataretrieval.DataRetrievalService;
+import io.dataspaceconnector.common.routing.dataretrieval.Response;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
+import io.dataspaceconnector.model.artifact.Compression;
 import io.dataspaceconnector.model.artifact.LocalData;
 import io.dataspaceconnector.model.artifact.RemoteData;
+import io.dataspaceconnector.service.storage.BlobStore;
+import io.dataspaceconnector.service.storage.StorageCodec;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayInputStream;
@@ -36,6 +47,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Retrieves data from the local database, remote HTTP services and Camel routes.
@@ -60,6 +72,11 @@ public class DataRetriever {
      */
     private final @NonNull ApiReferenceHelper apiReferenceHelper;
 
+    /**
+     * Store holding the local artifact data.
+     */
+    private final @NonNull BlobStore blobStore;
+
     /**
      * Retrieves the data for an artifact using the specified query input.
      *
@@ -87,7 +104,7 @@ public class DataRetriever {
 
         InputStream rawData;
         if (data instanceof LocalData) {
-            rawData = getData((LocalData) data);
+            rawData = getData((LocalData) data, artifact.getByteSize(), queryInput);
         } else if (data instanceof RemoteData) {
             rawData = getData((RemoteData) data, queryInput);
         } else {
@@ -101,15 +118,86 @@ public class DataRetriever {
     }
 
     /**
-     * Get local data.
+     * Get local data. Data referencing a blob is streamed from the blob store and decompressed
+     * on the fly, otherwise the inline data is returned.
      *
      * @param data The data container.
      * @return The stored data.
+     * @throws IOException if the data cannot be loaded from the blob store.
      */
-    private InputStream getData(final LocalData data) {
+    private InputStream getData(final LocalData data) throws IOException {
+        if (data.getBlobKey() != null) {
+            return StorageCodec.decode(blobStore.load(data.getBlobKey()), data.getCompression());
+        }
+
         return toInputStream(data.getValue());
     }
 
+    /**
+     * Get local data. If the query input contains a Range header, only the requested range is
+     * read from the storage.
+     *
+     * @param data       The data container.
+     * @param size       The size of the data.
+     * @param queryInput The query input.
+     * @return The stored data.
+     * @throws IOException if the data cannot be loaded from the blob store.
+     * @throws io.dataspaceconnector.common.exception.RangeNotSatisfiableException if the range
+     *                                                                             is invalid.
+     */
+    private InputStream getData(final LocalData data, final long size,
+                                final QueryInput queryInput) throws IOException {
+        if (data.getBlobKey() != null) {
+            final var range = ByteRange.parse(getHeader(queryInput, HttpHeaders.RANGE), size);
+            if (range.isPresent()) {
+                return new RangedInputStream(getRange(data, range.get()), range.get(), size);
+            }
+        } else if (data.getValue() != null) {
+            final var value = data.getValue();
+            final var range = ByteRange.parse(getHeader(queryInput, HttpHeaders.RANGE),
+                    value.length);
+            if (range.isPresent()) {
+                final var partial = new ByteArrayInputStream(value,
+                        (int) range.get().getStart(), (int) range.get().getLength());
+                return new RangedInputStream(partial, range.get(), value.length);
+            }
+        }
+
+        return getData(data);
+    }
+
+    /**
+     * Get a range of data stored in the blob store. Uncompressed data is read from the range's
+     * position, compressed data has to be decompressed up to the range.
+     *
+     * @param data  The data container.
+     * @param range The range.
+     * @return The data of the range.
+     * @throws IOException if the data cannot be loaded from the blob store.
+     */
+    private InputStream getRange(final LocalData data, final ByteRange range)
+            throws IOException {
+        if (data.getCompression() == Compression.NONE) {
+            return blobStore.load(data.getBlobKey(), range.getStart(), range.getLength());
+        }
+
+        final var decoded = getData(data);
+        IOUtils.skipFully(decoded, range.getStart());
+        return new BoundedInputStream(decoded, range.getLength());
+    }
+
+    private static String getHeader(final QueryInput queryInput, final String name) {
+        if (queryInput == null || queryInput.getHeaders() == null) {
+            return null;
+        }
+
+        return queryInput.getHeaders().entrySet().stream()
+                .filter(entry -> name.equalsIgnoreCase(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
     private InputStream toInputStream(final byte[] data) {
         if (data == null) {
             return ByteArrayInputStream.nullInputStream();
@@ -159,14 +247,33 @@ public class DataRetriever {
     private InputStream getData(final DataRetrievalService service, final URL target,
                                 final QueryInput queryInput)
             throws IOException, DataRetrievalException {
-        return service.get(target, queryInput).getData();
+        return toInputStream(service.get(target, queryInput));
     }
 
     private InputStream getData(final DataRetrievalService service, final URL target,
                                 final QueryInput queryInput,
                                 final List<? extends HttpAuthentication> authentications)
             throws IOException, DataRetrievalException {
-        return service.get(target, queryInput, authentications).getData();
+        return toInputStream(service.get(target, queryInput, authentications));
+    }
+
+    /**
+     * Get the data of a backend response. Partial content returned by a backend that supports
+     * range requests is marked as such.
+     *
+     * @param response The backend response.
+     * @return The data.
+     */
+    private InputStream toInputStream(final Response response) {
+        if (response instanceof HttpResponse) {
+            final var httpResponse = (HttpResponse) response;
+            if (httpResponse.getCode() == HttpStatus.PARTIAL_CONTENT.value()) {
+                return RangedInputStream.of(httpResponse.getData(),
+                        httpResponse.getContentRange());
+            }
+        }
+
+        return response.getData();
     }
 
 }
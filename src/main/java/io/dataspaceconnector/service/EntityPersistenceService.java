@@ -38,6 +38,7 @@ import io.dataspaceconnector.common.ids.DeserializationService;
 import io.dataspaceconnector.common.ids.mapping.RdfConverter;
 import io.dataspaceconnector.common.ids.message.MessageUtils;
 import io.dataspaceconnector.common.ids.model.TemplateUtils;
+import io.dataspaceconnector.common.io.Base64Codec;
 import io.dataspaceconnector.common.net.EndpointUtils;
 import io.dataspaceconnector.controller.resource.type.AgreementController;
 import io.dataspaceconnector.model.agreement.AgreementDesc;
@@ -54,7 +55,6 @@ import io.dataspaceconnector.service.usagecontrol.ContractManager;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.jose4j.base64url.Base64;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -347,8 +347,8 @@ public class EntityPersistenceService {
             throw new ResourceNotFoundException(remoteId.toString());
         }
 
-        final var artifact = artifactSvc.get(artifactId.get());
-        artifactSvc.setData(artifact.getId(), new ByteArrayInputStream(Base64.decode(base64Data)));
+        // The data is decoded while it is stored, size and checksum are calculated on the way.
+        artifactSvc.setData(artifactId.get(), Base64Codec.decode(base64Data));
         if (log.isDebugEnabled()) {
             log.debug("Updated data from artifact. [target=({})]", artifactId);
         }
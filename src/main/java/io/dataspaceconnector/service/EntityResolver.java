@@ -46,6 +46,8 @@ import io.dataspaceconnector.service.resource.type.ContractService;
 import io.dataspaceconnector.service.resource.type.RepresentationService;
 import io.dataspaceconnector.service.resource.type.ResourceService;
 import io.dataspaceconnector.service.resource.type.RuleService;
+import io.dataspaceconnector.service.usagecontrol.AgreementPolicyCache;
+import io.dataspaceconnector.service.usagecontrol.CompiledAgreement;
 import io.dataspaceconnector.common.usagecontrol.AllowAccessVerifier;
 import io.dataspaceconnector.config.BasePath;
 import io.dataspaceconnector.common.net.EndpointUtils;
@@ -150,6 +152,11 @@ public class EntityResolver {
      */
     private final @NonNull DeserializationService deserializationService;
 
+    /**
+     * Cache of compiled contract agreement policies.
+     */
+    private final @NonNull AgreementPolicyCache agreementPolicyCache;
+
     /**
      * Return any connector entity by its id.
      *
@@ -275,4 +282,22 @@ public class EntityResolver {
         }
         return agreementList;
     }
+
+    /**
+     * Get the compiled policies of the stored contract agreements for requested element.
+     *
+     * @param target The requested element.
+     * @return The respective compiled contract agreements.
+     */
+    public List<CompiledAgreement> getCompiledAgreementsByTarget(final URI target) {
+        final var uuid = EndpointUtils.getUUIDFromPath(target);
+        final var artifact = artifactService.get(uuid);
+
+        final var agreements = artifact.getAgreements();
+        final var agreementList = new ArrayList<CompiledAgreement>();
+        for (final var agreement : agreements) {
+            agreementList.add(agreementPolicyCache.get(agreement));
+        }
+        return agreementList;
+    }
 }
@@ -20,8 +20,12 @@ import java.io.InputStream;
 import java.net.URI;
 import java.util.UUID;
 
+import io.dataspaceconnector.common.ids.message.MessageUtils;
+import io.dataspaceconnector.common.io.Base64Codec;
+import io.dataspaceconnector.common.io.RangedInputStream;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.routing.ParameterUtils;
+import io.dataspaceconnector.service.message.handler.dto.BinaryResponse;
 import io.dataspaceconnector.service.message.handler.dto.Response;
 import io.dataspaceconnector.service.resource.type.ArtifactService;
 import lombok.NonNull;
@@ -31,7 +35,6 @@ import org.apache.camel.ProducerTemplate;
 import org.apache.camel.builder.ExchangeBuilder;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.util.Base64Utils;
 
 /**
  * Performs an artifact request for an artifact via IDSCP2. All functions will block till the
@@ -82,9 +85,16 @@ public class Idscp2ArtifactRetriever implements ArtifactRetriever {
                         .build());
 
         final var response = result.getIn().getBody(Response.class);
-        final var data = response.getBody();
+        final InputStream data;
+        if (response instanceof BinaryResponse) {
+            data = new ByteArrayInputStream(((BinaryResponse) response).getData());
+        } else {
+            data = Base64Codec.decode(response.getBody());
+        }
 
-        return new ByteArrayInputStream(Base64Utils.decodeFromString(data));
+        // The data covers only a range, if a Range header of the query input has been applied.
+        return RangedInputStream.of(data,
+                MessageUtils.extractContentRange(response.getHeader()).orElse(null));
     }
 
 }
@@ -17,7 +17,10 @@ package io.dataspaceconnector.service;
 
 import de.fraunhofer.iais.eis.RejectionReason;
 import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.ids.DeserializationService;
 import io.dataspaceconnector.common.ids.message.MessageUtils;
+import io.dataspaceconnector.common.io.Base64Codec;
+import io.dataspaceconnector.common.io.RangedInputStream;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.exception.DataRetrievalException;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
@@ -29,9 +32,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.util.Base64Utils;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.net.URI;
 import java.util.Map;
@@ -58,6 +59,11 @@ public class MultipartArtifactRetriever implements ArtifactRetriever {
      */
     private final @NonNull ArtifactService artifactService;
 
+    /**
+     * Service for ids deserialization.
+     */
+    private final @NonNull DeserializationService deserializationSvc;
+
     /**
      * {@inheritDoc}
      */
@@ -98,7 +104,11 @@ public class MultipartArtifactRetriever implements ArtifactRetriever {
         }
 
         final var data = MessageUtils.extractPayloadFromMultipartMessage(response);
+        final var header = deserializationSvc.getMessage(
+                MessageUtils.extractHeaderFromMultipartMessage(response));
 
-        return new ByteArrayInputStream(Base64Utils.decodeFromString(data));
+        // The data covers only a range, if a Range header of the query input has been applied.
+        return RangedInputStream.of(Base64Codec.decode(data),
+                MessageUtils.extractContentRange(header).orElse(null));
     }
 }
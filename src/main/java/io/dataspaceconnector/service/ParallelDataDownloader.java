@@ -0,0 +1,332 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service;
+
+import io.dataspaceconnector.common.io.ChecksumInputStream;
+import io.dataspaceconnector.common.io.Crc32c;
+import io.dataspaceconnector.common.io.RangedInputStream;
+import io.dataspaceconnector.common.net.ByteRange;
+import io.dataspaceconnector.common.net.QueryInput;
+import io.dataspaceconnector.service.storage.BlobStore;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Downloads the data of large remote artifacts as several ranges at the same time. Every range
+ * is requested with its own artifact request and written directly to its position in a single
+ * blob, so the ranges are assembled without copying them. Size and checksum of the data are
+ * combined from the checksums calculated while the ranges were received.
+ */
+@Log4j2
+@RequiredArgsConstructor
+@Component
+public class ParallelDataDownloader {
+
+    /**
+     * The store holding the downloaded data.
+     */
+    private final @NonNull BlobStore blobStore;
+
+    /**
+     * The number of ranges downloaded at the same time. Ranges are not downloaded in parallel if
+     * this is less than two. Every range is requested, counted and logged as a separate access
+     * by the provider.
+     */
+    @Value("${storage.download.parallel-ranges:1}")
+    private int parallelRanges;
+
+    /**
+     * The minimum size of a range.
+     */
+    @Value("${storage.download.min-range-size:8388608}")
+    private long minRangeSize;
+
+    /**
+     * The maximum size of a range. Not positive for no limit.
+     */
+    @Value("${storage.download.chunk-size:0}")
+    private long maxRangeSize;
+
+    /**
+     * The number of ranges downloaded at the same time by all downloads together.
+     */
+    @Value("${storage.download.threads:8}")
+    private int threads;
+
+    /**
+     * The number of ranges waiting for a thread. Further ranges are downloaded in the calling
+     * thread.
+     */
+    @Value("${storage.download.queue-capacity:100}")
+    private int queueCapacity;
+
+    /**
+     * Downloads the ranges of all downloads.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Creates the thread pool for downloading ranges.
+     */
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Shuts down the thread pool. Ranges that are already downloading are finished.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Check if data of the given size should be downloaded in parallel ranges.
+     *
+     * @param size The size of the data. Negative if unknown.
+     * @return True if the data is split into at least two ranges.
+     */
+    public boolean isApplicable(final long size) {
+        return parallelRanges > 1 && size >= 2 * minRangeSize;
+    }
+
+    /**
+     * Download the data of an artifact in parallel ranges. The first range is requested alone,
+     * so that a provider not supporting ranges only sends the complete data once. Its data is
+     * returned as it is.
+     *
+     * @param retriever        Performs the artifact requests.
+     * @param artifactId       The artifact whose data is downloaded.
+     * @param recipient        The provider connector.
+     * @param transferContract The contract authorizing the data transfer.
+     * @param size             The size of the data.
+     * @return The blob holding the downloaded data, or the complete data sent by the provider.
+     * @throws IOException if a range could not be downloaded or stored.
+     */
+    public Download download(final ArtifactRetriever retriever, final UUID artifactId,
+                             final URI recipient, final URI transferContract,
+                             final long size) throws IOException {
+        final var ranges = split(size);
+        final var first = retriever.retrieve(artifactId, recipient, transferContract,
+                getRangeQuery(ranges.get(0)));
+        if (!isRange(first, ranges.get(0))) {
+            // The provider ignored the range and sent the complete data.
+            return new Download(null, -1, 0, first);
+        }
+
+        final var key = UUID.randomUUID().toString().replace("-", "");
+        final var failed = new AtomicBoolean();
+        final var futures = new ArrayList<Future<Long>>();
+        futures.add(executor.submit(() -> storeRange(key, ranges.get(0), first, failed)));
+        for (final var range : ranges.subList(1, ranges.size())) {
+            futures.add(executor.submit(() -> storeRange(key, range, retrieveRange(retriever,
+                    artifactId, recipient, transferContract, range, failed), failed)));
+        }
+
+        // Ranges not started yet are skipped after a failure, so all futures finish quickly.
+        IOException error = null;
+        var checkSum = 0L;
+        for (var i = 0; i < futures.size(); i++) {
+            try {
+                final var rangeCheckSum = futures.get(i).get();
+                checkSum = Crc32c.combine(checkSum, rangeCheckSum, ranges.get(i).getLength());
+            } catch (ExecutionException e) {
+                failed.set(true);
+                if (error == null) {
+                    error = new IOException("Failed to download data in ranges.", e.getCause());
+                }
+            } catch (InterruptedException e) {
+                failed.set(true);
+                Thread.currentThread().interrupt();
+                error = new IOException("Failed to download data in ranges.", e);
+                break;
+            }
+        }
+
+        if (error != null) {
+            deleteBlob(key);
+            throw error;
+        }
+
+        return new Download(key, size, checkSum, null);
+    }
+
+    /**
+     * Split data into ranges, which are as equal in size as possible, respecting the minimum
+     * and maximum range size. Ranges are aligned as required by the blob store.
+     *
+     * @param size The size of the data.
+     * @return The ranges.
+     */
+    private List<ByteRange> split(final long size) {
+        var rangeSize = Math.max(minRangeSize, (size + parallelRanges - 1) / parallelRanges);
+        if (maxRangeSize > 0) {
+            rangeSize = Math.max(minRangeSize, Math.min(rangeSize, maxRangeSize));
+        }
+
+        final var alignment = blobStore.getRangeAlignment();
+        rangeSize = (rangeSize + alignment - 1) / alignment * alignment;
+
+        final var ranges = new ArrayList<ByteRange>();
+        for (long start = 0; start < size; start += rangeSize) {
+            ranges.add(new ByteRange(start, Math.min(start + rangeSize, size) - 1));
+        }
+
+        return ranges;
+    }
+
+    /**
+     * Request a range, unless another range of the download has failed.
+     *
+     * @param retriever        Performs the artifact request.
+     * @param artifactId       The artifact whose data is downloaded.
+     * @param recipient        The provider connector.
+     * @param transferContract The contract authorizing the data transfer.
+     * @param range            The range.
+     * @param failed           Whether another range of the download has failed.
+     * @return The received data. Null if the range has not been requested.
+     */
+    private static InputStream retrieveRange(final ArtifactRetriever retriever,
+                                             final UUID artifactId, final URI recipient,
+                                             final URI transferContract, final ByteRange range,
+                                             final AtomicBoolean failed) {
+        if (failed.get()) {
+            return null;
+        }
+
+        try {
+            return retriever.retrieve(artifactId, recipient, transferContract,
+                    getRangeQuery(range));
+        } catch (RuntimeException e) {
+            failed.set(true);
+            throw e;
+        }
+    }
+
+    /**
+     * Write a received range to its position in the blob.
+     *
+     * @param key    The key of the blob.
+     * @param range  The range.
+     * @param data   The received data. Null if the range has not been requested.
+     * @param failed Whether another range of the download has failed.
+     * @return The CRC32C checksum of the range.
+     * @throws IOException if the range could not be stored or the download has failed.
+     */
+    private long storeRange(final String key, final ByteRange range, final InputStream data,
+                            final AtomicBoolean failed) throws IOException {
+        if (data == null) {
+            throw new IOException("Download of range " + range + " has been cancelled.");
+        }
+
+        try (data) {
+            if (failed.get()) {
+                throw new IOException("Download of range " + range + " has been cancelled.");
+            }
+
+            if (!isRange(data, range)) {
+                throw new IOException("Received unexpected range " + range + ".");
+            }
+
+            final var checkedData = new ChecksumInputStream(data);
+            blobStore.writeRange(key, range.getStart(), checkedData);
+            if (checkedData.getByteSize() != range.getLength()) {
+                throw new IOException("Received incomplete range " + range + ".");
+            }
+
+            return checkedData.getChecksum();
+        } catch (IOException | RuntimeException e) {
+            failed.set(true);
+            throw e;
+        }
+    }
+
+    private void deleteBlob(final String key) {
+        try {
+            blobStore.delete(key);
+        } catch (IOException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to delete downloaded ranges. [key=({}), exception=({})]",
+                        key, e.getMessage());
+            }
+        }
+    }
+
+    private static boolean isRange(final InputStream data, final ByteRange range) {
+        return data instanceof RangedInputStream
+                && ((RangedInputStream) data).getRange().equals(range);
+    }
+
+    private static QueryInput getRangeQuery(final ByteRange range) {
+        final var queryInput = new QueryInput();
+        queryInput.getHeaders().put(HttpHeaders.RANGE,
+                "bytes=" + range.getStart() + "-" + range.getEnd());
+        return queryInput;
+    }
+
+    /**
+     * The result of a download. Either the ranges have been assembled in a blob, or the
+     * provider has sent the complete data at once.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Download {
+        /**
+         * The key of the blob holding the assembled data. Null if the provider has sent the
+         * complete data.
+         */
+        private final String blobKey;
+
+        /**
+         * The size of the assembled data.
+         */
+        private final long byteSize;
+
+        /**
+         * The CRC32C checksum of the assembled data.
+         */
+        private final long checkSum;
+
+        /**
+         * The complete data sent by the provider. Null if the ranges have been assembled.
+         */
+        private final InputStream data;
+    }
+}
@@ -19,6 +19,7 @@ import de.fraunhofer.iais.eis.Resource;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.dataspaceconnector.common.exception.DataDispatchException;
 import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.io.SpillBuffer;
 import io.dataspaceconnector.common.net.HttpService;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.net.SelfLinkHelper;
@@ -316,29 +317,47 @@ public class SubscriberNotificationService {
 
     private void sendNotification(final List<URI> recipients,
                                   final Map<String, String> notification, final InputStream data) {
-        for (final var recipient : recipients) {
-            try {
-                InputStream dataCopy;
-                if (data == null) {
-                    dataCopy = InputStream.nullInputStream();
-                } else {
-                    // Reset the input stream to first position before each read.
-                    if (0 <= data.available()) {
-                        data.reset();
+        if (data == null) {
+            for (final var recipient : recipients) {
+                sendNotification(recipient, notification, InputStream.nullInputStream());
+            }
+            return;
+        }
+
+        try (data) {
+            if (recipients.size() == 1) {
+                sendNotification(recipients.get(0), notification, data);
+                return;
+            }
+
+            // Every recipient reads the data, so it is buffered once. Large data is kept on disk.
+            try (var buffer = SpillBuffer.of(data, SpillBuffer.DEFAULT_THRESHOLD)) {
+                for (final var recipient : recipients) {
+                    try (var dataCopy = buffer.newInputStream()) {
+                        sendNotification(recipient, notification, dataCopy);
                     }
-                    dataCopy = data;
                 }
+            }
+        } catch (IOException exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Could not read data for subscribers. [exception=({})]",
+                        exception.getMessage());
+            }
+        }
+    }
 
-                if (apiReferenceHelper.isRouteReference(recipient.toURL())) {
-                    sendNotificationViaCamel(recipient, notification, dataCopy);
-                } else {
-                    sendNotificationViaHttp(recipient, notification, dataCopy);
-                }
-            } catch (IOException exception) {
-                if (log.isWarnEnabled()) {
-                    log.warn("Could not notify subscriber. [url=({})]",
-                            recipient);
-                }
+    private void sendNotification(final URI recipient, final Map<String, String> notification,
+                                  final InputStream data) {
+        try {
+            if (apiReferenceHelper.isRouteReference(recipient.toURL())) {
+                sendNotificationViaCamel(recipient, notification, data);
+            } else {
+                sendNotificationViaHttp(recipient, notification, data);
+            }
+        } catch (IOException exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Could not notify subscriber. [url=({})]",
+                        recipient);
             }
         }
     }
@@ -349,7 +368,7 @@ public class SubscriberNotificationService {
         try {
             final var queryInput = new QueryInput();
             queryInput.setHeaders(notification);
-            routeDataDispatcher.send(recipient, data.readAllBytes(), queryInput);
+            routeDataDispatcher.send(recipient, data, queryInput);
         } catch (DataDispatchException | IOException exception) {
             if (log.isWarnEnabled()) {
                 log.warn("Could not notify subscriber. [url=({}), exception=({})]",
@@ -38,8 +38,8 @@ public class ClearingHouseLoggingProcessor implements Processor {
     private final @NonNull ClearingHouseService clearingHouseSvc;
 
     /**
-     * Processes the input. Extract the request/response ids message, create a LogMessage with the
-     * ids message as payload, then send to the Clearing House.
+     * Processes the input. Extract the request/response ids message and store it for being
+     * logged in the Clearing House. It is sent in the background as payload of a LogMessage.
      *
      * @param exchange the input.
      * @throws Exception if an error occurs.
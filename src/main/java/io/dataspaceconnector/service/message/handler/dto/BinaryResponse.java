@@ -0,0 +1,51 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.message.handler.dto;
+
+import de.fraunhofer.iais.eis.Message;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * Response carrying its payload as raw bytes instead of a Base64 string. Only sent to connectors
+ * that requested a binary payload, the string body stays empty.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true, exclude = "data")
+@SuppressFBWarnings(value = {"EI_EXPOSE_REP", "EI_EXPOSE_REP2"},
+        justification = "the payload is passed on without copying it")
+public class BinaryResponse extends Response {
+
+    /**
+     * The raw payload.
+     */
+    private final byte[] data;
+
+    /**
+     * Constructor for BinaryResponse.
+     *
+     * @param header  The header.
+     * @param payload The raw payload.
+     */
+    public BinaryResponse(final @NonNull Message header, @NonNull final byte[] payload) {
+        super(header, "");
+        this.data = payload;
+    }
+}
@@ -19,11 +19,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import de.fraunhofer.iais.eis.ArtifactRequestMessageImpl;
 import de.fraunhofer.ids.messaging.handler.message.MessagePayload;
 import io.dataspaceconnector.common.exception.InvalidInputException;
+import io.dataspaceconnector.common.io.Base64Codec;
+import io.dataspaceconnector.common.io.RangedInputStream;
 import io.dataspaceconnector.common.ids.message.MessageUtils;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.model.message.ArtifactResponseMessageDesc;
 import io.dataspaceconnector.service.EntityResolver;
 import io.dataspaceconnector.service.message.builder.type.ArtifactResponseService;
+import io.dataspaceconnector.service.message.handler.dto.BinaryResponse;
 import io.dataspaceconnector.service.message.handler.dto.Response;
 import io.dataspaceconnector.service.message.handler.dto.RouteMsg;
 import io.dataspaceconnector.service.message.handler.processor.base.IdsProcessor;
@@ -31,7 +34,6 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Component;
-import org.springframework.util.Base64Utils;
 
 /**
  * Fetches the data of an artifact as the response to an ArtifactRequestMessage.
@@ -71,12 +73,25 @@ class DataRequestProcessor extends IdsProcessor<
         final var transferContract = MessageUtils.extractTransferContract(msg.getHeader());
 
         final var queryInput = getQueryInputFromPayload(msg.getBody());
-        final var data = entityResolver.getDataByArtifactId(artifact, queryInput);
-
         final var desc = new ArtifactResponseMessageDesc(issuer, messageId, transferContract);
         final var responseHeader = messageService.buildMessage(desc);
 
-        return new Response(responseHeader, Base64Utils.encodeToString(data.readAllBytes()));
+        // Close the data to release connections to remote backends.
+        try (var data = entityResolver.getDataByArtifactId(artifact, queryInput)) {
+            if (data instanceof RangedInputStream) {
+                // A Range header of the query input has been applied.
+                MessageUtils.setContentRange(responseHeader,
+                        ((RangedInputStream) data).getContentRange());
+            }
+
+            if (MessageUtils.hasBinaryPayload(msg.getHeader())) {
+                // The requesting connector accepts the data without Base64 encoding.
+                MessageUtils.setBinaryPayload(responseHeader);
+                return new BinaryResponse(responseHeader, data.readAllBytes());
+            }
+
+            return new Response(responseHeader, Base64Codec.encodeToString(data));
+        }
     }
 
     /**
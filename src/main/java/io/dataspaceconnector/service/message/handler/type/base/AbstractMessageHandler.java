@@ -23,6 +23,9 @@ import de.fraunhofer.ids.messaging.response.BodyResponse;
 import de.fraunhofer.ids.messaging.response.ErrorResponse;
 import de.fraunhofer.ids.messaging.response.MessageResponse;
 import io.dataspaceconnector.common.ids.ConnectorService;
+import io.dataspaceconnector.common.ids.message.MessageUtils;
+import io.dataspaceconnector.common.io.Base64Codec;
+import io.dataspaceconnector.service.message.handler.dto.BinaryResponse;
 import io.dataspaceconnector.service.message.handler.dto.Request;
 import io.dataspaceconnector.service.message.handler.dto.Response;
 import io.jsonwebtoken.Claims;
@@ -82,7 +85,13 @@ public abstract class AbstractMessageHandler<T extends Message>
                         .build());
 
         final var response = result.getIn().getBody(Response.class);
-        if (response != null) {
+        if (response instanceof BinaryResponse) {
+            // Multipart payloads are strings, so binary data is always sent Base64 encoded and
+            // the header must not announce a binary payload.
+            MessageUtils.removeBinaryPayload(response.getHeader());
+            return BodyResponse.create(response.getHeader(),
+                    Base64Codec.encodeToString(((BinaryResponse) response).getData()));
+        } else if (response != null) {
             return BodyResponse.create(response.getHeader(), response.getBody());
         } else {
             final var errorResponse = result.getIn().getBody(ErrorResponse.class);
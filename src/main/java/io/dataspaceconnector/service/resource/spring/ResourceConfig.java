@@ -15,7 +15,8 @@
  */
 package io.dataspaceconnector.service.resource.spring;
 
-import io.dataspaceconnector.common.routing.RouteDataDispatcher;
+import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.common.routing.MultiRouteDispatcher;
 import io.dataspaceconnector.config.ConnectorConfig;
 import io.dataspaceconnector.model.agreement.AgreementFactory;
 import io.dataspaceconnector.model.app.AppFactory;
@@ -45,6 +46,7 @@ import io.dataspaceconnector.repository.BrokerRepository;
 import io.dataspaceconnector.repository.CatalogRepository;
 import io.dataspaceconnector.repository.ConfigurationRepository;
 import io.dataspaceconnector.repository.ContractRepository;
+import io.dataspaceconnector.repository.DataRemovalRepository;
 import io.dataspaceconnector.repository.DataRepository;
 import io.dataspaceconnector.repository.DataSourceRepository;
 import io.dataspaceconnector.repository.EndpointRepository;
@@ -54,7 +56,6 @@ import io.dataspaceconnector.repository.RequestedResourcesRepository;
 import io.dataspaceconnector.repository.RouteRepository;
 import io.dataspaceconnector.repository.RuleRepository;
 import io.dataspaceconnector.repository.SubscriptionRepository;
-import io.dataspaceconnector.service.DataRetriever;
 import io.dataspaceconnector.service.EntityResolver;
 import io.dataspaceconnector.service.appstore.portainer.PortainerRequestService;
 import io.dataspaceconnector.service.resource.ids.builder.IdsConfigModelBuilder;
@@ -63,6 +64,7 @@ import io.dataspaceconnector.service.resource.type.AgreementService;
 import io.dataspaceconnector.service.resource.type.AppEndpointService;
 import io.dataspaceconnector.service.resource.type.AppService;
 import io.dataspaceconnector.service.resource.type.AppStoreService;
+import io.dataspaceconnector.service.resource.type.ArtifactDataComponents;
 import io.dataspaceconnector.service.resource.type.ArtifactService;
 import io.dataspaceconnector.service.resource.type.BrokerService;
 import io.dataspaceconnector.service.resource.type.CatalogService;
@@ -78,6 +80,7 @@ import io.dataspaceconnector.service.resource.type.RuleService;
 import io.dataspaceconnector.service.resource.type.SubscriptionService;
 import io.dataspaceconnector.service.routing.BeanManager;
 import io.dataspaceconnector.service.routing.RouteHelper;
+import io.dataspaceconnector.service.usagecontrol.PolicyExpirationScheduler;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -91,13 +94,20 @@ public class ResourceConfig {
     /**
      * Create an agreement service bean.
      *
-     * @param repo The agreement repo.
+     * @param repo                   The agreement repo.
+     * @param deserializationService The service for ids deserialization.
+     * @param removalRepository      The repository for pending data removals.
+     * @param expirationScheduler    The scheduler for expiring policies.
      * @return The agreement service.
      */
     @Bean("agreementService")
     public AgreementService createAgreementService(
-            @Qualifier("agreementRepository") final AgreementRepository repo) {
-        return new AgreementService(repo, new AgreementFactory());
+            @Qualifier("agreementRepository") final AgreementRepository repo,
+            final DeserializationService deserializationService,
+            final DataRemovalRepository removalRepository,
+            final PolicyExpirationScheduler expirationScheduler) {
+        return new AgreementService(repo, new AgreementFactory(), deserializationService,
+                removalRepository, expirationScheduler);
     }
 
     /**
@@ -107,8 +117,8 @@ public class ResourceConfig {
      * @param dataRepository   The data repository.
      * @param authRepo         The auth repo.
      * @param artifactRouteSvc The artifact-route-relation service.
-     * @param retriever        The data retriever.
-     * @param dispatcher       The route data dispatcher.
+     * @param dispatcher       The dispatcher for sending data via routes.
+     * @param dataComponents   The components for artifact data.
      * @return The artifact service bean.
      */
     @Bean("artifactService")
@@ -117,10 +127,10 @@ public class ResourceConfig {
             final DataRepository dataRepository,
             final AuthenticationRepository authRepo,
             final ArtifactRouteService artifactRouteSvc,
-            final DataRetriever retriever,
-            final RouteDataDispatcher dispatcher) {
+            final MultiRouteDispatcher dispatcher,
+            final ArtifactDataComponents dataComponents) {
         return new ArtifactService(repository, new ArtifactFactory(),
-                dataRepository, authRepo, artifactRouteSvc, retriever, dispatcher);
+                dataRepository, authRepo, artifactRouteSvc, dispatcher, dataComponents);
     }
 
     /**
@@ -15,28 +15,70 @@
  */
 package io.dataspaceconnector.service.resource.type;
 
+import de.fraunhofer.iais.eis.Rule;
+import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.common.ids.policy.ContractUtils;
+import io.dataspaceconnector.common.ids.policy.RuleUtils;
 import io.dataspaceconnector.model.agreement.Agreement;
 import io.dataspaceconnector.model.agreement.AgreementDesc;
+import io.dataspaceconnector.model.agreement.AgreementRule;
+import io.dataspaceconnector.model.agreement.DataRemoval;
 import io.dataspaceconnector.model.base.AbstractFactory;
 import io.dataspaceconnector.repository.AgreementRepository;
 import io.dataspaceconnector.repository.BaseEntityRepository;
+import io.dataspaceconnector.repository.DataRemovalRepository;
 import io.dataspaceconnector.service.resource.base.BaseEntityService;
+import io.dataspaceconnector.service.usagecontrol.PolicyExpirationScheduler;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Handles the basic logic for contracts.
  */
+@Log4j2
 public class AgreementService extends BaseEntityService<Agreement, AgreementDesc> {
 
+    /**
+     * Service for ids deserialization.
+     */
+    private final @NonNull DeserializationService deserializationService;
+
+    /**
+     * Repository for the dates after which data has to be deleted.
+     */
+    private final @NonNull DataRemovalRepository removalRepository;
+
+    /**
+     * Scheduler for the expiration of time-based policies.
+     */
+    private final @NonNull PolicyExpirationScheduler expirationScheduler;
+
     /**
      * Constructor.
      *
-     * @param repository The underlying agreement repo.
-     * @param factory    The factory for the agreement logic.
+     * @param repository                The underlying agreement repo.
+     * @param factory                   The factory for the agreement logic.
+     * @param deserialization           The service for ids deserialization.
+     * @param dataRemovalRepository     The repository for the dates after which data has to be
+     *                                  deleted.
+     * @param policyExpirationScheduler The scheduler for the expiration of time-based policies.
      */
     public AgreementService(
             final BaseEntityRepository<Agreement> repository,
-            final AbstractFactory<Agreement, AgreementDesc> factory) {
+            final AbstractFactory<Agreement, AgreementDesc> factory,
+            final @NonNull DeserializationService deserialization,
+            final @NonNull DataRemovalRepository dataRemovalRepository,
+            final @NonNull PolicyExpirationScheduler policyExpirationScheduler) {
         super(repository, factory);
+        this.deserializationService = deserialization;
+        this.removalRepository = dataRemovalRepository;
+        this.expirationScheduler = policyExpirationScheduler;
     }
 
     /**
@@ -60,4 +102,116 @@ public class AgreementService extends BaseEntityService<Agreement, AgreementDesc
 
         return isConfirmed;
     }
+
+    /**
+     * Extracts the rules of the agreement and their policy parameters before persisting it, so
+     * policies can be enforced without deserializing the agreement. The dates after which data
+     * has to be deleted are stored as well.
+     *
+     * @param agreement The agreement.
+     * @return The persisted agreement.
+     */
+    @Override
+    protected Agreement persist(final Agreement agreement) {
+        final var rules = getIdsRules(agreement.getValue());
+        agreement.setRules(extractRules(rules));
+        agreement.setRulesExtracted(true);
+        final var persisted = super.persist(agreement);
+        final var removals = scheduleDataRemoval(persisted.getId(), rules);
+        expirationScheduler.reschedule(persisted.getId(), agreement.getRules(), removals);
+        return persisted;
+    }
+
+    /**
+     * Deletes an agreement together with its pending data removals and scheduled expirations.
+     *
+     * @param agreementId The id of the agreement.
+     * @throws IllegalArgumentException if the passed id is null.
+     */
+    @Override
+    public void delete(final UUID agreementId) {
+        super.delete(agreementId);
+        removalRepository.deletePending(agreementId);
+        expirationScheduler.cancel(agreementId);
+    }
+
+    /**
+     * Extract the rules and removal dates of agreements stored by previous versions, which were
+     * stored without them. Agreements are marked once their rules have been extracted, so they
+     * are only indexed once, also if they have no rules.
+     */
+    public void indexLegacyAgreements() {
+        final var repo = (AgreementRepository) getRepository();
+        for (final var agreementId : repo.findAllIdsWithoutRules()) {
+            persist(get(agreementId));
+        }
+    }
+
+    /**
+     * Read the rules of an agreement.
+     *
+     * @param value The definition of the agreement.
+     * @return The rules, empty if the agreement could not be deserialized.
+     */
+    private List<Rule> getIdsRules(final String value) {
+        if (value == null || value.isBlank()) {
+            return new ArrayList<>();
+        }
+
+        try {
+            final var idsAgreement = deserializationService.getContractAgreement(value);
+            return ContractUtils.extractRulesFromContract(idsAgreement).stream()
+                    .filter(rule -> rule != null && rule.getTarget() != null)
+                    .collect(Collectors.toList());
+        } catch (IllegalArgumentException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Could not extract rules of agreement. [exception=({})]",
+                        e.getMessage());
+            }
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Read the targets and policy parameters of the rules of an agreement.
+     *
+     * @param rules The ids rules.
+     * @return The rules with their targets and policy parameters.
+     */
+    private List<AgreementRule> extractRules(final List<Rule> rules) {
+        return rules.stream()
+                .map(rule -> new AgreementRule(rule.getTarget(), RuleUtils.getParameters(rule)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Store the dates after which the data of the agreement's targets has to be deleted. Pending
+     * removals are replaced, targets whose data has already been removed are skipped.
+     *
+     * @param agreementId The id of the agreement.
+     * @param rules       The ids rules of the agreement.
+     * @return The pending removals.
+     */
+    private List<DataRemoval> scheduleDataRemoval(final UUID agreementId,
+                                                  final List<Rule> rules) {
+        removalRepository.deletePending(agreementId);
+        final var processed = removalRepository.findAllProcessedTargets(agreementId);
+        final var removals = new ArrayList<DataRemoval>();
+        for (final var rule : rules) {
+            try {
+                final var deadline = RuleUtils.getDeletionDate(rule);
+                if (deadline != null && !processed.contains(rule.getTarget())) {
+                    removals.add(removalRepository.save(new DataRemoval(UUID.randomUUID(),
+                            agreementId, rule.getTarget(), deadline, false)));
+                }
+            } catch (DateTimeParseException e) {
+                if (log.isWarnEnabled()) {
+                    log.warn("Could not read deletion date of rule. [agreement=({}), "
+                            + "exception=({})]", agreementId, e.getMessage());
+                }
+            }
+        }
+
+        return removals;
+    }
 }
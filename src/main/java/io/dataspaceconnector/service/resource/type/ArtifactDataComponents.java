@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.resource.type;
+
+import io.dataspaceconnector.service.ArtifactAccessCounter;
+import io.dataspaceconnector.service.DataRetriever;
+import io.dataspaceconnector.service.ParallelDataDownloader;
+import io.dataspaceconnector.service.storage.BlobStore;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bundles the components the {@link ArtifactService} uses for retrieving, storing and
+ * downloading artifact data and for counting its accesses.
+ */
+@Component
+@Getter
+@RequiredArgsConstructor
+public class ArtifactDataComponents {
+
+    /**
+     * Retrieves data from the local database, remote HTTP services and Camel routes.
+     */
+    private final @NonNull DataRetriever dataRetriever;
+
+    /**
+     * Store holding the local artifact data.
+     */
+    private final @NonNull BlobStore blobStore;
+
+    /**
+     * Downloads the data of large remote artifacts in parallel ranges.
+     */
+    private final @NonNull ParallelDataDownloader parallelDownloader;
+
+    /**
+     * Counts the data accesses of artifacts.
+     */
+    private final @NonNull ArtifactAccessCounter accessCounter;
+}
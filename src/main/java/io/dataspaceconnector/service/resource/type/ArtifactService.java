@@ -22,15 +22,19 @@ import java.net.URI;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import io.dataspaceconnector.common.exception.DataDispatchException;
 import io.dataspaceconnector.common.exception.ErrorMessage;
 import io.dataspaceconnector.common.exception.InvalidEntityException;
 import io.dataspaceconnector.common.exception.NotImplemented;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
+import io.dataspaceconnector.common.io.ChecksumInputStream;
+import io.dataspaceconnector.common.net.EntityTag;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.routing.dataretrieval.RetrievalInformation;
-import io.dataspaceconnector.common.routing.RouteDataDispatcher;
+import io.dataspaceconnector.common.routing.MultiRouteDispatcher;
 import io.dataspaceconnector.common.usagecontrol.AccessVerificationInput;
 import io.dataspaceconnector.common.usagecontrol.PolicyVerifier;
 import io.dataspaceconnector.common.usagecontrol.VerificationResult;
@@ -39,6 +43,7 @@ import io.dataspaceconnector.model.artifact.Artifact;
 import io.dataspaceconnector.model.artifact.ArtifactDesc;
 import io.dataspaceconnector.model.artifact.ArtifactFactory;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
+import io.dataspaceconnector.model.artifact.Compression;
 import io.dataspaceconnector.model.artifact.Data;
 import io.dataspaceconnector.model.artifact.LocalData;
 import io.dataspaceconnector.model.artifact.RemoteData;
@@ -50,9 +55,14 @@ import io.dataspaceconnector.repository.BaseEntityRepository;
 import io.dataspaceconnector.repository.DataRepository;
 import io.dataspaceconnector.service.ArtifactRetriever;
 import io.dataspaceconnector.service.DataRetriever;
+import io.dataspaceconnector.service.ArtifactAccessCounter;
+import io.dataspaceconnector.service.ParallelDataDownloader;
 import io.dataspaceconnector.service.resource.base.BaseEntityService;
 import io.dataspaceconnector.service.resource.base.RemoteResolver;
 import io.dataspaceconnector.service.resource.relation.ArtifactRouteService;
+import io.dataspaceconnector.service.storage.BlobStore;
+import io.dataspaceconnector.service.storage.StagedBlob;
+import io.dataspaceconnector.service.storage.StorageCodec;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
@@ -60,6 +70,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.SerializationUtils;
+import org.springframework.beans.factory.annotation.Value;
+
+import javax.persistence.PersistenceException;
 
 /**
  * Handles the basic logic for artifacts.
@@ -93,7 +106,37 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
     /**
      * Dispatches data using Camel routes.
      */
-    private final @NonNull RouteDataDispatcher routeDispatcher;
+    private final @NonNull MultiRouteDispatcher routeDispatcher;
+
+    /**
+     * Store holding the local artifact data.
+     */
+    private final @NonNull BlobStore blobStore;
+
+    /**
+     * Downloads the data of large remote artifacts in parallel ranges.
+     */
+    private final @NonNull ParallelDataDownloader parallelDownloader;
+
+    /**
+     * Counts the data accesses of artifacts.
+     */
+    private final @NonNull ArtifactAccessCounter accessCounter;
+
+    /**
+     * Guards the references to stored blobs. Staged data is published and referenced while
+     * holding the read lock, and blobs are only deleted while holding the write lock. A blob
+     * shared by identical data can therefore not be deleted between publishing it and
+     * referencing it. Writing the data happens before, so no lock is held while streaming. The
+     * lock only covers a single connector instance.
+     */
+    private final ReadWriteLock blobLock = new ReentrantReadWriteLock();
+
+    /**
+     * The compression applied to new data in the blob store.
+     */
+    @Value("${storage.compression:NONE}")
+    private Compression storageCompression;
 
     /**
      * Constructor for ArtifactService.
@@ -103,22 +146,26 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      * @param dataRepository           The data repository.
      * @param authenticationRepository The AuthType repository.
      * @param artifactRouteService     The Artifact-Route-relation service.
-     * @param retriever                The data retriever.
-     * @param routeDataDispatcher      The route data dispatcher.
+     * @param routeDataDispatcher      The dispatcher for sending data via routes.
+     * @param dataComponents           The components for retrieving, storing and downloading
+     *                                 data and counting its accesses.
      */
     public ArtifactService(final BaseEntityRepository<Artifact> repository,
                            final AbstractFactory<Artifact, ArtifactDesc> factory,
                            final @NonNull DataRepository dataRepository,
                            final @NonNull AuthenticationRepository authenticationRepository,
                            final @NonNull ArtifactRouteService artifactRouteService,
-                           final @NonNull DataRetriever retriever,
-                           final @NonNull RouteDataDispatcher routeDataDispatcher) {
+                           final @NonNull MultiRouteDispatcher routeDataDispatcher,
+                           final @NonNull ArtifactDataComponents dataComponents) {
         super(repository, factory);
         this.dataRepo = dataRepository;
         this.authRepo = authenticationRepository;
         this.artifactRouteSvc = artifactRouteService;
-        this.dataRetriever = retriever;
         this.routeDispatcher = routeDataDispatcher;
+        this.dataRetriever = dataComponents.getDataRetriever();
+        this.blobStore = dataComponents.getBlobStore();
+        this.parallelDownloader = dataComponents.getParallelDownloader();
+        this.accessCounter = dataComponents.getAccessCounter();
     }
 
     /**
@@ -143,12 +190,9 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
                 var data = (RemoteData) tmp.getData();
                 data.getAuthentication().forEach(authRepo::saveAndFlush);
             }
-            final var persistedData = dataRepo.saveAndFlush(tmp.getData());
+            final var persistedData = saveData(artifact, tmp.getData());
 
-            if (tmp.getData() instanceof LocalData) {
-                final var factory = (ArtifactFactory) getFactory();
-                factory.updateByteSize(artifact, ((LocalData) tmp.getData()).getValue());
-            } else if (tmp.getData() instanceof RemoteData) {
+            if (tmp.getData() instanceof RemoteData) {
                 final var url = ((RemoteData) tmp.getData()).getAccessUrl();
                 artifactRouteSvc.ensureSingleArtifactPerRoute(url, artifact.getId());
                 artifactRouteSvc.checkForValidRoute(url);
@@ -184,19 +228,21 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
 
         var artifact = get(artifactId);
         final var cached = SerializationUtils.clone(artifact);
+        final var previousData = ((ArtifactImpl) cached).getData();
 
         if (getFactory().update(artifact, desc)) {
             final var tmp = (ArtifactImpl) artifact;
             final var tmpData = tmp.getData();
             Data persistedData = null;
             Data storedCopy = null;
-            if (tmpData.getId() == null) {
+            final var isReplaced = tmpData.getId() == null;
+            if (isReplaced) {
                 // The data element is new, insert
                 if (tmpData instanceof RemoteData) {
                     var data = (RemoteData) tmpData;
                     data.getAuthentication().forEach(authRepo::saveAndFlush);
                 }
-                persistedData = dataRepo.saveAndFlush(tmp.getData());
+                persistedData = saveData(artifact, tmpData);
             } else {
                 // The data element exists already, check if an update is required
                 storedCopy = dataRepo.getById(tmp.getData().getId());
@@ -206,8 +252,6 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
             }
 
             if (tmp.getData() instanceof LocalData) {
-                final var factory = (ArtifactFactory) getFactory();
-                factory.updateByteSize(artifact, ((LocalData) tmp.getData()).getValue());
                 artifact = persist(artifact);
             } else if (tmp.getData() instanceof RemoteData) {
                 final var url = ((RemoteData) tmp.getData()).getAccessUrl();
@@ -228,11 +272,95 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
                     throw exception;
                 }
             }
+
+            if (isReplaced) {
+                releaseData(previousData);
+            }
         }
 
         return artifact;
     }
 
+    /**
+     * Persists new data of an artifact. The value of local data is moved to the blob store.
+     *
+     * @param artifact The artifact owning the data.
+     * @param data     The new data.
+     * @return The persisted data.
+     * @throws PersistenceException if the data could not be stored.
+     */
+    private Data saveData(final Artifact artifact, final Data data) {
+        if (!(data instanceof LocalData)) {
+            return dataRepo.saveAndFlush(data);
+        }
+
+        final var staged = moveToBlobStore(artifact, (LocalData) data);
+        if (staged == null) {
+            return dataRepo.saveAndFlush(data);
+        }
+
+        blobLock.readLock().lock();
+        try {
+            ((LocalData) data).setBlobKey(blobStore.publish(staged));
+            return dataRepo.saveAndFlush(data);
+        } catch (IOException e) {
+            if (log.isErrorEnabled()) {
+                log.error("Failed to store data. [exception=({})]", e.getMessage(), e);
+            }
+
+            throw new PersistenceException("Failed to store data.", e);
+        } finally {
+            blobLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes data that has been replaced by new data. Stored blobs are freed once they are no
+     * longer referenced.
+     *
+     * @param data The replaced data.
+     */
+    private void releaseData(final Data data) {
+        if (data instanceof LocalData && data.getId() != null) {
+            dataRepo.deleteById(data.getId());
+            releaseBlob(((LocalData) data).getBlobKey());
+        }
+    }
+
+    /**
+     * Moves the inline value of new local data into the blob store. The byte size and checksum
+     * of the artifact are calculated while the value is written and persisted with the artifact.
+     * The data is only staged and still has to be published.
+     *
+     * @param artifact The artifact owning the data.
+     * @param data     The local data.
+     * @return The staged value, or null if the data has no value.
+     * @throws PersistenceException if the data could not be stored.
+     */
+    private StagedBlob moveToBlobStore(final Artifact artifact, final LocalData data) {
+        final var value = data.getValue();
+        if (value == null) {
+            ((ArtifactFactory) getFactory()).updateByteSize(artifact, 0, 0);
+            return null;
+        }
+
+        final var checkedData = new ChecksumInputStream(new ByteArrayInputStream(value));
+        try (var encodedData = StorageCodec.encode(checkedData, storageCompression)) {
+            final var staged = blobStore.stage(encodedData);
+            data.setCompression(storageCompression);
+            data.setValue(null);
+            ((ArtifactFactory) getFactory()).updateByteSize(artifact, checkedData.getByteSize(),
+                    checkedData.getChecksum());
+            return staged;
+        } catch (IOException e) {
+            if (log.isErrorEnabled()) {
+                log.error("Failed to store data. [exception=({})]", e.getMessage(), e);
+            }
+
+            throw new PersistenceException("Failed to store data.", e);
+        }
+    }
+
     /**
      * Get the artifacts data. If agreements for this resource exist, all of them will be tried for
      * data access.
@@ -265,7 +393,7 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         // The artifact is not assigned to any requested resources. It must be offered if it exists.
         final var artifact = get(artifactId);
         var data = dataRetriever.retrieveData((ArtifactImpl) artifact, queryInput);
-        return returnData(artifact, data, routeIds);
+        return returnData(new AccessVerificationInput(null, artifact), data, routeIds);
     }
 
     private InputStream tryToAccessDataByUsingAnyAgreement(
@@ -311,16 +439,16 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      * Increases the access counter before returning data. If a list of route IDs for dispatching
      * the data is specified, the data is dispatched via all referenced routes before returning it.
      *
-     * @param artifact The artifact.
+     * @param access   The verified access.
      * @param data     The data.
      * @param routeIds The route IDs for dispatching data.
      * @return The data.
      * @throws IOException if the data cannot be read or there is a failure in one of the
      *                     routes.
      */
-    private InputStream returnData(final Artifact artifact, final InputStream data,
+    private InputStream returnData(final AccessVerificationInput access, final InputStream data,
                                    final List<URI> routeIds) throws IOException {
-        incrementAccessCounter(artifact);
+        countAccess(access);
         return new DataDispatcher(routeIds, data).dispatch();
     }
 
@@ -348,21 +476,150 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
             throws PolicyRestrictionException, IOException {
         // Check the artifact exists and access is granted.
         final var artifact = get(artifactId);
-        verifyDataAccess(accessVerifier,
-                new AccessVerificationInput(information.getTransferContract(), artifact));
+        final var access = new AccessVerificationInput(information.getTransferContract(),
+                artifact);
+        verifyDataAccess(accessVerifier, access);
+
+        try {
+            // Make sure the data exists and is up to date.
+            if (shouldDownload(artifact, information)) {
+                final var data = downloadAndUpdateData(retriever, artifactId, information,
+                        artifact, routeIds);
+                countAccess(access);
+                return data;
+            }
+
+            // Artifact exists, access granted, data exists and data up to date.
+            var data = dataRetriever.retrieveData((ArtifactImpl) artifact,
+                    information.getQueryInput());
+            return returnData(access, data, routeIds);
+        } catch (IOException | RuntimeException exception) {
+            releaseAccess(access);
+            throw exception;
+        }
+    }
+
+    /**
+     * Get the entity tag of the artifact's data. Entity tags are only available for local data,
+     * as the content of remote data is not known in advance.
+     *
+     * @param artifactId The id of the artifact.
+     * @return The strong entity tag, if the data is stored locally.
+     * @throws io.dataspaceconnector.common.exception.ResourceNotFoundException if the artifact does
+     *                                                                          not exist.
+     */
+    public Optional<String> getEntityTag(final UUID artifactId) {
+        return getEntityTag(get(artifactId));
+    }
+
+    /**
+     * Get the size of the artifact's data. The size is only known in advance for local data.
+     *
+     * @param artifactId The id of the artifact.
+     * @return The size in bytes, if the data is stored locally.
+     * @throws io.dataspaceconnector.common.exception.ResourceNotFoundException if the artifact does
+     *                                                                          not exist.
+     */
+    public Optional<Long> getLocalDataSize(final UUID artifactId) {
+        final var artifact = get(artifactId);
+        if (((ArtifactImpl) artifact).getData() instanceof LocalData) {
+            return Optional.of(artifact.getByteSize());
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Get the content coding of the artifact's data. Compressed local data is returned without
+     * decompressing it, so it can be sent with this coding.
+     *
+     * @param artifactId The id of the artifact.
+     * @return The content coding, if the data is stored locally and compressed.
+     * @throws io.dataspaceconnector.common.exception.ResourceNotFoundException if the artifact does
+     *                                                                          not exist.
+     */
+    public Optional<String> getContentCoding(final UUID artifactId) {
+        final var data = ((ArtifactImpl) get(artifactId)).getData();
+        if (data instanceof LocalData) {
+            final var compression = ((LocalData) data).getCompression();
+            if (compression != null && compression != Compression.NONE) {
+                return Optional.of(compression.getContentEncoding());
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private Optional<String> getEntityTag(final Artifact artifact) {
+        if (((ArtifactImpl) artifact).getData() instanceof LocalData) {
+            return Optional.of(EntityTag.of(artifact.getCheckSum(), artifact.getByteSize()));
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Check if a client's cached copy of the artifact's data is still up to date. The data access
+     * is verified and counted as for a data request, but the data itself is neither read nor
+     * dispatched.
+     *
+     * @param accessVerifier Checks if the data access should be allowed.
+     * @param artifactId     The id of the artifact.
+     * @param agreementUri   The agreement which should be used for access control. If null, all
+     *                       agreements of the artifact are tried.
+     * @param ifNoneMatch    The value of the If-None-Match header.
+     * @param contentCoding  The content coding the data would be sent with, or null if it would
+     *                       be sent unencoded.
+     * @return True if the data is unchanged and the access has been counted, false if the data
+     * has to be returned.
+     * @throws PolicyRestrictionException                                       if the data
+     * access has been denied.
+     * @throws io.dataspaceconnector.common.exception.ResourceNotFoundException if the artifact does
+     *                                                                          not exist.
+     */
+    public boolean isDataUnchanged(final PolicyVerifier<AccessVerificationInput> accessVerifier,
+                                   final UUID artifactId, final URI agreementUri,
+                                   final String ifNoneMatch, final String contentCoding)
+            throws PolicyRestrictionException {
+        final var artifact = get(artifactId);
+        final var entityTag = getEntityTag(artifact)
+                .map(tag -> contentCoding == null ? tag : EntityTag.withCoding(tag, contentCoding));
+        if (entityTag.isEmpty() || !EntityTag.matchesAny(ifNoneMatch, entityTag.get())) {
+            return false;
+        }
 
-        // Make sure the data exists and is up to date.
-        if (shouldDownload(artifact, information)) {
-            final var data = downloadAndUpdateData(retriever, artifactId, information, artifact,
-                    routeIds);
+        final var agreements = agreementUri == null
+                ? ((ArtifactRepository) getRepository()).findRemoteOriginAgreements(artifactId)
+                : List.of(agreementUri);
+        if (!agreements.isEmpty()) {
+            if (artifact.isAutomatedDownload() || !isDataPresent(artifact)) {
+                // The data would be downloaded again, so the cached copy cannot be confirmed.
+                return false;
+            }
+
+            countAccess(verifyDataAccess(accessVerifier, artifact, agreements));
+        } else {
             incrementAccessCounter(artifact);
-            return data;
         }
 
-        // Artifact exists, access granted, data exists and data up to date.
-        var data = dataRetriever.retrieveData((ArtifactImpl) artifact,
-                information.getQueryInput());
-        return returnData(artifact, data, routeIds);
+        return true;
+    }
+
+    private AccessVerificationInput verifyDataAccess(
+            final PolicyVerifier<AccessVerificationInput> accessVerifier,
+            final Artifact artifact, final List<URI> agreements) {
+        var policyException = new PolicyRestrictionException(ErrorMessage.POLICY_RESTRICTION);
+        for (final var agreement : agreements) {
+            try {
+                final var access = new AccessVerificationInput(agreement, artifact);
+                verifyDataAccess(accessVerifier, access);
+                return access;
+            } catch (PolicyRestrictionException exception) {
+                policyException = exception;
+            }
+        }
+
+        throw policyException;
     }
 
     private void verifyDataAccess(final PolicyVerifier<AccessVerificationInput> accessVerifier,
@@ -382,21 +639,66 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
                                               final RetrievalInformation information,
                                               final Artifact artifact, final List<URI> routeIds)
             throws IOException {
+        final var hasRoutes = routeIds != null && !routeIds.isEmpty();
+        final var size = getRemoteByteSize(artifact);
+        if (!hasRoutes && information.getQueryInput() == null
+                && parallelDownloader.isApplicable(size)) {
+            return downloadInParallel(retriever, artifactId, information, artifact, size);
+        }
+
         final var dataStream = retriever.retrieve(artifactId,
                 artifact.getRemoteAddress(),
                 information.getTransferContract(),
                 information.getQueryInput());
 
-        if (routeIds != null && !routeIds.isEmpty()) {
+        if (hasRoutes) {
             return new DataDispatcher(routeIds, dataStream).dispatch();
         } else {
             return setData(artifactId, dataStream);
         }
     }
 
+    private InputStream downloadInParallel(final ArtifactRetriever retriever,
+                                           final UUID artifactId,
+                                           final RetrievalInformation information,
+                                           final Artifact artifact, final long size)
+            throws IOException {
+        final var download = parallelDownloader.download(retriever, artifactId,
+                artifact.getRemoteAddress(), information.getTransferContract(), size);
+        if (download.getBlobKey() == null) {
+            try (var data = download.getData()) {
+                return setData(artifactId, data);
+            }
+        }
+
+        // The ranges have been assembled in a new blob, which is referenced as it is.
+        try {
+            setUploadedData(artifactId, download.getBlobKey(), download.getByteSize(),
+                    download.getCheckSum());
+        } catch (RuntimeException e) {
+            releaseBlob(download.getBlobKey());
+            throw e;
+        }
+
+        return blobStore.load(download.getBlobKey());
+    }
+
     private void incrementAccessCounter(final Artifact artifact) {
-        artifact.incrementAccessCounter();
-        persist(artifact);
+        accessCounter.increment(artifact.getId());
+    }
+
+    private void countAccess(final AccessVerificationInput access) {
+        // Accesses restricted in number have been counted when they were verified.
+        if (!access.isAccessCounted()) {
+            incrementAccessCounter(access.getArtifact());
+        }
+    }
+
+    private void releaseAccess(final AccessVerificationInput access) {
+        if (access.isAccessCounted()) {
+            accessCounter.release(access.getArtifact().getId());
+            access.setAccessCounted(false);
+        }
     }
 
     private boolean shouldDownload(final Artifact artifact,
@@ -411,7 +713,7 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
     private boolean isDataPresent(final Artifact artifact) {
         if (artifact.getAdditional().containsKey("ids:byteSize")) {
             final var providerDataSize =
-                    Integer.parseInt(artifact.getAdditional().get("ids:byteSize"));
+                    Long.parseLong(artifact.getAdditional().get("ids:byteSize"));
             final var thisDataSize = artifact.getByteSize();
             return thisDataSize >= providerDataSize;
         }
@@ -419,6 +721,21 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         return false;
     }
 
+    /**
+     * Get the size of the data as announced by the provider.
+     *
+     * @param artifact The artifact.
+     * @return The size. Negative if it is unknown.
+     */
+    private static long getRemoteByteSize(final Artifact artifact) {
+        final var size = artifact.getAdditional().get("ids:byteSize");
+        try {
+            return size == null ? -1 : Long.parseLong(size);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
     /**
      * Finds all artifacts referenced in a specific agreement.
      *
@@ -459,23 +776,43 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
     }
 
     @NonNull
-    private ByteArrayInputStream setLocalData(final UUID artifactId,
-                                              final InputStream data,
-                                              final Artifact artifact,
-                                              final LocalData localData)
+    private InputStream setLocalData(final UUID artifactId,
+                                     final InputStream data,
+                                     final Artifact artifact,
+                                     final LocalData localData)
             throws IOException {
         try {
-            // Update the internal database and return the new data.
-            final var bytes = data.readAllBytes();
-            data.close();
-            dataRepo.setLocalData(localData.getId(), bytes);
-            if (((ArtifactFactory) getFactory()).updateByteSize(artifact, bytes)) {
+            // Stream the data into the blob store and reference it from the internal database.
+            // Size and checksum are calculated while the data is written.
+            final var checkedData = new ChecksumInputStream(data);
+            final var previousKey = localData.getBlobKey();
+            final StagedBlob staged;
+            try (var encodedData = StorageCodec.encode(checkedData, storageCompression)) {
+                staged = blobStore.stage(encodedData);
+            }
+
+            final String blobKey;
+            blobLock.readLock().lock();
+            try {
+                blobKey = blobStore.publish(staged);
+                dataRepo.setBlobKey(localData.getId(), blobKey, storageCompression);
+            } finally {
+                blobLock.readLock().unlock();
+            }
+
+            localData.setBlobKey(blobKey);
+            localData.setCompression(storageCompression);
+            localData.setValue(null);
+            releaseBlob(previousKey);
+
+            if (((ArtifactFactory) getFactory()).updateByteSize(artifact,
+                    checkedData.getByteSize(), checkedData.getChecksum())) {
                 ((ArtifactRepository) getRepository()).setArtifactData(artifactId,
                         artifact.getCheckSum(),
                         artifact.getByteSize());
             }
 
-            return new ByteArrayInputStream(bytes);
+            return StorageCodec.decode(blobStore.load(blobKey), storageCompression);
         } catch (IOException e) {
             if (log.isErrorEnabled()) {
                 log.error("Failed to store data. [artifactId=({}), exception=({})]",
@@ -486,6 +823,111 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         }
     }
 
+    /**
+     * Replace the data of an artifact by a blob that has already been written to the blob store,
+     * e.g. by a resumable upload. The blob is referenced as it is, so it has to be stored
+     * uncompressed.
+     *
+     * @param artifactId The artifact which should be updated.
+     * @param blobKey    The key of the blob.
+     * @param byteSize   The size of the blob.
+     * @param checkSum   The CRC32C checksum of the blob.
+     * @throws io.dataspaceconnector.common.exception.ResourceNotFoundException if the artifact does
+     *                                                                          not exist.
+     */
+    public void setUploadedData(final UUID artifactId, final String blobKey,
+                                final long byteSize, final long checkSum) {
+        final var artifact = get(artifactId);
+        final var currentData = ((ArtifactImpl) artifact).getData();
+        if (!(currentData instanceof LocalData)) {
+            throw new NotImplemented();
+        }
+
+        final var localData = (LocalData) currentData;
+        final var previousKey = localData.getBlobKey();
+        dataRepo.setBlobKey(localData.getId(), blobKey, Compression.NONE);
+        localData.setBlobKey(blobKey);
+        localData.setCompression(Compression.NONE);
+        localData.setValue(null);
+        releaseBlob(previousKey);
+
+        if (((ArtifactFactory) getFactory()).updateByteSize(artifact, byteSize, checkSum)) {
+            ((ArtifactRepository) getRepository()).setArtifactData(artifactId,
+                    artifact.getCheckSum(), artifact.getByteSize());
+        }
+    }
+
+    /**
+     * Remove the data of an artifact. The stored blob is freed once it is no longer referenced
+     * by other artifacts.
+     *
+     * @param artifactId The artifact id.
+     * @throws io.dataspaceconnector.common.exception.ResourceNotFoundException if the artifact does
+     *                                                                          not exist.
+     */
+    public void deleteData(final UUID artifactId) {
+        final var artifact = get(artifactId);
+        final var currentData = ((ArtifactImpl) artifact).getData();
+        if (!(currentData instanceof LocalData)) {
+            // Only local data deletion supported.
+            throw new NotImplemented();
+        }
+
+        final var localData = (LocalData) currentData;
+        final var previousKey = localData.getBlobKey();
+        dataRepo.setBlobKey(localData.getId(), null, null);
+        localData.setBlobKey(null);
+        localData.setCompression(null);
+        localData.setValue(null);
+        releaseBlob(previousKey);
+
+        if (((ArtifactFactory) getFactory()).updateByteSize(artifact, 0, 0)) {
+            ((ArtifactRepository) getRepository()).setArtifactData(artifactId,
+                    artifact.getCheckSum(), artifact.getByteSize());
+        }
+    }
+
+    /**
+     * Check if a blob is referenced by the data of an artifact.
+     *
+     * @param blobKey The key of the blob.
+     * @return True if local data references the blob.
+     */
+    public boolean isBlobReferenced(final String blobKey) {
+        return dataRepo.countByBlobKey(blobKey) > 0;
+    }
+
+    /**
+     * Deletes a blob, unless it is still referenced by other data. Each local data entity
+     * referencing the blob counts as one reference. Blobs written outside of this service, e.g.
+     * by uploads, are discarded this way as well, as they may have been committed already.
+     *
+     * @param blobKey The key of the blob.
+     */
+    public void releaseBlob(final String blobKey) {
+        if (blobKey == null) {
+            return;
+        }
+
+        blobLock.writeLock().lock();
+        try {
+            if (dataRepo.countByBlobKey(blobKey) == 0) {
+                blobStore.delete(blobKey);
+                if (log.isDebugEnabled()) {
+                    log.debug("Deleted unreferenced blob. [key=({})]", blobKey);
+                }
+            }
+        } catch (IOException e) {
+            // The blob is no longer referenced, so only storage space is lost.
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to delete blob. [key=({}), exception=({})]", blobKey,
+                        e.getMessage());
+            }
+        } finally {
+            blobLock.writeLock().unlock();
+        }
+    }
+
     /**
      * Deletes an artifact with the given id. If the artifact references a route in its access URL,
      * the artifact is removed from the route before deleting it.
@@ -500,7 +942,11 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         final var artifact = (ArtifactImpl) get(artifactId);
         artifactRouteSvc.removeRouteLink(artifact);
 
+        // The data is removed together with the artifact.
         getRepository().deleteById(artifactId);
+        if (artifact.getData() instanceof LocalData) {
+            releaseBlob(((LocalData) artifact.getData()).getBlobKey());
+        }
     }
 
     /**
@@ -526,6 +972,10 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         final var artifact = get(artifactId);
         final var currentData = ((ArtifactImpl) artifact).getData();
         if (currentData instanceof LocalData) {
+            if (((LocalData) currentData).getBlobKey() != null) {
+                return artifact.getByteSize() == 0;
+            }
+
             final var value = ((LocalData) currentData).getValue();
             return (value == null || !(value.length > 0));
         } else {
@@ -560,12 +1010,7 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         public InputStream dispatch() throws IOException {
             if (routeIds != null && !routeIds.isEmpty()) {
                 try {
-                    final var data = dataStream.readAllBytes();
-                    dataStream.close();
-                    for (var routeId: routeIds) {
-                        routeDispatcher.send(routeId, data);
-                    }
-                    return new ByteArrayInputStream(data);
+                    return routeDispatcher.dispatch(routeIds, dataStream);
                 } catch (IOException | DataDispatchException exception) {
                     if (log.isWarnEnabled()) {
                         log.warn("Could not send data via route. [exception=({})]",
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Stores binary data. All operations are stream based, so that the memory usage does not depend
+ * on the size of the data.
+ */
+public interface BlobStore {
+
+    /**
+     * Store data. The stream is read until its end but not closed.
+     *
+     * @param data The data.
+     * @return The key referencing the stored data.
+     * @throws IOException if the data could not be stored.
+     */
+    default String store(InputStream data) throws IOException {
+        return publish(stage(data));
+    }
+
+    /**
+     * Write data to a temporary location without making it available under its content key.
+     * Staging does the expensive work of storing, so that publishing the data is quick. The
+     * stream is read until its end but not closed.
+     *
+     * @param data The data.
+     * @return The staged data.
+     * @throws IOException if the data could not be stored.
+     */
+    StagedBlob stage(InputStream data) throws IOException;
+
+    /**
+     * Make staged data available under its content key. If the same content has been stored
+     * before, the staged data is dropped and the existing blob is referenced instead.
+     *
+     * @param blob The staged data.
+     * @return The key referencing the stored data.
+     * @throws IOException if the data could not be published.
+     */
+    String publish(StagedBlob blob) throws IOException;
+
+    /**
+     * Write data to a blob at the given offset, so that a blob can be uploaded in several parts.
+     * Data stored behind the offset is discarded, which makes repeating a failed write safe.
+     * The blob is created if it does not exist. Blobs written this way are addressed by the
+     * given key instead of their content.
+     *
+     * @param key    The key of the blob.
+     * @param offset The position of the first written byte.
+     * @param data   The data. The stream is read until its end but not closed.
+     * @throws IOException if the data could not be written or the offset is behind the end of
+     *                     the blob.
+     */
+    void write(String key, long offset, InputStream data) throws IOException;
+
+    /**
+     * Write a range of a blob. Unlike {@link #write(String, long, InputStream)}, data behind the
+     * range is kept, so that the ranges of a blob can be written at the same time and in any
+     * order. The offset has to be a multiple of the {@link #getRangeAlignment() alignment}, and
+     * only the last range of a blob may end unaligned. The blob is created if it does not exist.
+     *
+     * @param key    The key of the blob.
+     * @param offset The position of the first written byte.
+     * @param data   The data. The stream is read until its end but not closed.
+     * @throws IOException if the data could not be written or the offset is not aligned.
+     */
+    void writeRange(String key, long offset, InputStream data) throws IOException;
+
+    /**
+     * Get the alignment of ranges written with {@link #writeRange(String, long, InputStream)}.
+     *
+     * @return The alignment in bytes.
+     */
+    default long getRangeAlignment() {
+        return 1;
+    }
+
+    /**
+     * Load stored data.
+     *
+     * @param key The key of the data.
+     * @return The data. The caller is responsible for closing the stream.
+     * @throws IOException if the data could not be loaded.
+     */
+    InputStream load(String key) throws IOException;
+
+    /**
+     * Load a range of stored data. Only the requested range is read from the storage.
+     *
+     * @param key    The key of the data.
+     * @param offset The position of the first byte to load.
+     * @param length The maximum number of bytes to load.
+     * @return The data. The caller is responsible for closing the stream.
+     * @throws IOException if the data could not be loaded.
+     */
+    InputStream load(String key, long offset, long length) throws IOException;
+
+    /**
+     * Delete stored data. Deleting unknown data has no effect.
+     *
+     * @param key The key of the data.
+     * @throws IOException if the data could not be deleted.
+     */
+    void delete(String key) throws IOException;
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.storage;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Derives blob keys from the content of the data, so that identical data is stored only once.
+ */
+final class ContentHash {
+
+    /**
+     * The hash algorithm used for addressing the content.
+     */
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    /**
+     * Default constructor.
+     */
+    private ContentHash() {
+        // not used
+    }
+
+    /**
+     * Create a digest for calculating the content hash.
+     *
+     * @return The new digest.
+     * @throws IOException if the hash algorithm is not supported.
+     */
+    static MessageDigest newDigest() throws IOException {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Hash algorithm not supported.", e);
+        }
+    }
+
+    /**
+     * Complete the digest and build the blob key.
+     *
+     * @param digest The digest that has processed the complete data.
+     * @return The hex encoded content hash.
+     */
+    static String toKey(final MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
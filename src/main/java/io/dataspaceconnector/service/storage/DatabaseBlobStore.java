@@ -0,0 +1,319 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.storage;
+
+import io.dataspaceconnector.model.artifact.BlobChunk;
+import io.dataspaceconnector.repository.BlobChunkRepository;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Stores data in the internal database. The data is split into chunks of
+ * {@link BlobChunk#CHUNK_SIZE} bytes, so that at most one chunk is held in memory at a time.
+ * The key of a blob is the SHA-256 hash of its content, so identical data is only stored once.
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(value = "storage.type", havingValue = "database", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DatabaseBlobStore implements BlobStore {
+
+    /**
+     * Repository for storing chunks.
+     */
+    private final @NonNull BlobChunkRepository chunkRepo;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StagedBlob stage(final InputStream data) throws IOException {
+        // The content hash is only known at the end, so the chunks are written to a temporary
+        // key first.
+        final var tmpKey = UUID.randomUUID().toString();
+        final var digest = new DigestInputStream(data, ContentHash.newDigest());
+        final var buffer = new byte[BlobChunk.CHUNK_SIZE];
+
+        try {
+            var index = 0;
+            var length = digest.readNBytes(buffer, 0, buffer.length);
+            while (length > 0) {
+                final var content = length == buffer.length
+                        ? buffer : Arrays.copyOf(buffer, length);
+                chunkRepo.insertChunk(tmpKey, index++, content);
+                length = digest.readNBytes(buffer, 0, buffer.length);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Do not leave incomplete blobs behind.
+            chunkRepo.deleteChunks(tmpKey);
+            throw e;
+        }
+
+        return new StagedBlob(tmpKey, ContentHash.toKey(digest.getMessageDigest()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String publish(final StagedBlob blob) {
+        final var tmpKey = blob.getLocation();
+        final var key = blob.getKey();
+        if (chunkRepo.countChunks(key) > 0) {
+            chunkRepo.deleteChunks(tmpKey);
+            if (log.isDebugEnabled()) {
+                log.debug("Blob already exists. [key=({})]", key);
+            }
+
+            return key;
+        }
+
+        try {
+            chunkRepo.renameBlob(tmpKey, key);
+        } catch (DataIntegrityViolationException e) {
+            // The same content has been stored concurrently.
+            chunkRepo.deleteChunks(tmpKey);
+            if (chunkRepo.countChunks(key) == 0) {
+                throw e;
+            }
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Stored blob in database. [key=({})]", key);
+        }
+
+        return key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final String key, final long offset, final InputStream data)
+            throws IOException {
+        var index = (int) (offset / BlobChunk.CHUNK_SIZE);
+        var filled = (int) (offset % BlobChunk.CHUNK_SIZE);
+        final var buffer = new byte[BlobChunk.CHUNK_SIZE];
+
+        // The chunk containing the offset is completed with the new data.
+        var isReplaced = false;
+        if (filled > 0) {
+            final var length = filled;
+            final var current = chunkRepo.findContent(key, index)
+                    .filter(content -> content.length >= length)
+                    .orElseThrow(() -> new IOException("Offset is behind the end of the blob."));
+            System.arraycopy(current, 0, buffer, 0, filled);
+            isReplaced = true;
+        }
+        chunkRepo.deleteChunksFrom(key, isReplaced ? index + 1 : index);
+
+        var isFull = true;
+        while (isFull) {
+            filled += data.readNBytes(buffer, filled, buffer.length - filled);
+            if (filled == 0) {
+                break;
+            }
+
+            final var content = filled == buffer.length ? buffer : Arrays.copyOf(buffer, filled);
+            if (isReplaced) {
+                chunkRepo.updateChunk(key, index, content);
+                isReplaced = false;
+            } else {
+                chunkRepo.insertChunk(key, index, content);
+            }
+
+            index++;
+            isFull = filled == buffer.length;
+            filled = 0;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeRange(final String key, final long offset, final InputStream data)
+            throws IOException {
+        if (offset % BlobChunk.CHUNK_SIZE != 0) {
+            throw new IOException("Offset is not aligned to the chunk size.");
+        }
+
+        // Ranges consist of whole chunks, so they are written without touching other ranges.
+        var index = (int) (offset / BlobChunk.CHUNK_SIZE);
+        final var buffer = new byte[BlobChunk.CHUNK_SIZE];
+        var length = data.readNBytes(buffer, 0, buffer.length);
+        while (length > 0) {
+            final var content = length == buffer.length ? buffer : Arrays.copyOf(buffer, length);
+            chunkRepo.insertChunk(key, index++, content);
+            length = data.readNBytes(buffer, 0, buffer.length);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getRangeAlignment() {
+        return BlobChunk.CHUNK_SIZE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream load(final String key) {
+        return new ChunkInputStream(key, 0, Long.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream load(final String key, final long offset, final long length) {
+        return new ChunkInputStream(key, offset, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delete(final String key) {
+        chunkRepo.deleteChunks(key);
+    }
+
+    /**
+     * Reads a blob chunk by chunk. A chunk is only fetched from the database once the previous
+     * one has been consumed. Reading a range starts at the chunk containing its first byte.
+     */
+    private final class ChunkInputStream extends InputStream {
+
+        /**
+         * The key of the blob.
+         */
+        private final String key;
+
+        /**
+         * The content of the current chunk.
+         */
+        private byte[] chunk = new byte[0];
+
+        /**
+         * The read position within the current chunk.
+         */
+        private int position;
+
+        /**
+         * The index of the next chunk to fetch.
+         */
+        private int nextIndex;
+
+        /**
+         * The number of bytes to skip in the first fetched chunk.
+         */
+        private int skip;
+
+        /**
+         * The number of bytes that may still be read.
+         */
+        private long remaining;
+
+        /**
+         * Whether the last chunk has been fetched.
+         */
+        private boolean finished;
+
+        private ChunkInputStream(final String blobKey, final long offset, final long length) {
+            super();
+            this.key = blobKey;
+            this.nextIndex = (int) (offset / BlobChunk.CHUNK_SIZE);
+            this.skip = (int) (offset % BlobChunk.CHUNK_SIZE);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() {
+            if (!fill()) {
+                return -1;
+            }
+
+            remaining--;
+            return Byte.toUnsignedInt(chunk[position++]);
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+
+            if (!fill()) {
+                return -1;
+            }
+
+            final var count = (int) Math.min(Math.min(len, chunk.length - position), remaining);
+            System.arraycopy(chunk, position, b, off, count);
+            position += count;
+            remaining -= count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(chunk.length - position, remaining);
+        }
+
+        /**
+         * Fetch the next chunk if the current one has been consumed.
+         *
+         * @return True if data is available, false if the end of the blob or range has been
+         * reached.
+         */
+        private boolean fill() {
+            if (remaining <= 0) {
+                return false;
+            }
+
+            while (position == chunk.length) {
+                if (finished) {
+                    return false;
+                }
+
+                final var next = chunkRepo.findContent(key, nextIndex++);
+                if (next.isEmpty()) {
+                    finished = true;
+                    chunk = new byte[0];
+                    position = 0;
+                } else {
+                    chunk = next.get();
+                    position = Math.min(skip, chunk.length);
+                    skip = 0;
+                }
+            }
+
+            return true;
+        }
+    }
+}
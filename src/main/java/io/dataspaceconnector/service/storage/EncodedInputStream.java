@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.storage;
+
+import io.dataspaceconnector.model.artifact.Compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Decompresses stored data once it is read. As long as nothing has been read, the compressed
+ * data can be taken instead, e.g. for sending it to a client accepting the content coding.
+ */
+public class EncodedInputStream extends InputStream {
+
+    /**
+     * The compressed data.
+     */
+    private final InputStream encoded;
+
+    /**
+     * The compression of the data.
+     */
+    private final Compression compression;
+
+    /**
+     * The decoder, created on the first read.
+     */
+    private InputStream decoder;
+
+    /**
+     * Constructor for EncodedInputStream.
+     *
+     * @param data The compressed data.
+     * @param type The compression of the data.
+     */
+    public EncodedInputStream(final InputStream data, final Compression type) {
+        super();
+        this.encoded = data;
+        this.compression = type;
+    }
+
+    /**
+     * Get the HTTP content coding of the compressed data.
+     *
+     * @return The content coding.
+     */
+    public String getContentEncoding() {
+        return compression.getContentEncoding();
+    }
+
+    /**
+     * Take the compressed data instead of reading the decompressed data.
+     *
+     * @return The compressed data.
+     * @throws IllegalStateException if decompressed data has already been read.
+     */
+    public InputStream getEncodedData() {
+        if (decoder != null) {
+            throw new IllegalStateException("Data is already being decoded.");
+        }
+
+        return encoded;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        return getDecoder().read();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        return getDecoder().read(b, off, len);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long skip(final long n) throws IOException {
+        return getDecoder().skip(n);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int available() throws IOException {
+        return decoder == null ? 0 : decoder.available();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        if (decoder != null) {
+            decoder.close();
+        }
+
+        encoded.close();
+    }
+
+    private InputStream getDecoder() throws IOException {
+        if (decoder == null) {
+            decoder = StorageCodec.newDecoder(encoded, compression);
+        }
+
+        return decoder;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.storage;
+
+import io.dataspaceconnector.common.io.FileRegionInputStream;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+
+/**
+ * Stores data as files in a content-addressed directory. The key of a blob is the SHA-256 hash
+ * of its content, so identical data is only stored once.
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(value = "storage.type", havingValue = "filesystem")
+public class FileSystemBlobStore implements BlobStore {
+
+    /**
+     * The number of hash characters used for the name of the sub directory.
+     */
+    private static final int PREFIX_LENGTH = 2;
+
+    /**
+     * The root directory of the store.
+     */
+    private final Path root;
+
+    /**
+     * Constructor for FileSystemBlobStore.
+     *
+     * @param path The root directory of the store.
+     */
+    public FileSystemBlobStore(@Value("${storage.filesystem.path:./data}") final Path path) {
+        this.root = path.toAbsolutePath().normalize();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StagedBlob stage(final InputStream data) throws IOException {
+        Files.createDirectories(root);
+        final var tmp = Files.createTempFile(root, "upload", ".tmp");
+
+        try {
+            final var digest = new DigestInputStream(data, ContentHash.newDigest());
+            Files.copy(digest, tmp, StandardCopyOption.REPLACE_EXISTING);
+            return new StagedBlob(tmp.getFileName().toString(),
+                    ContentHash.toKey(digest.getMessageDigest()));
+        } catch (IOException | RuntimeException e) {
+            // Do not leave incomplete blobs behind.
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String publish(final StagedBlob blob) throws IOException {
+        final var tmp = root.resolve(blob.getLocation());
+        final var key = blob.getKey();
+
+        try {
+            final var target = resolve(key);
+            Files.createDirectories(target.getParent());
+            if (Files.exists(target)) {
+                // The same content has been stored before.
+                if (log.isDebugEnabled()) {
+                    log.debug("Blob already exists. [key=({})]", key);
+                }
+            } else {
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+
+            return key;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final String key, final long offset, final InputStream data)
+            throws IOException {
+        final var target = resolve(key);
+        Files.createDirectories(target.getParent());
+        try (var channel = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE)) {
+            if (channel.size() < offset) {
+                throw new IOException("Offset is behind the end of the blob.");
+            }
+
+            channel.truncate(offset);
+            channel.position(offset);
+            data.transferTo(Channels.newOutputStream(channel));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeRange(final String key, final long offset, final InputStream data)
+            throws IOException {
+        final var target = resolve(key);
+        Files.createDirectories(target.getParent());
+        try (var channel = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE)) {
+            channel.position(offset);
+            data.transferTo(Channels.newOutputStream(channel));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream load(final String key) throws IOException {
+        return load(key, 0, Long.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream load(final String key, final long offset, final long length)
+            throws IOException {
+        return new FileRegionInputStream(FileChannel.open(resolve(key), StandardOpenOption.READ),
+                offset, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delete(final String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    /**
+     * Get the location of a blob.
+     *
+     * @param key The key of the blob.
+     * @return The path of the file holding the blob.
+     * @throws IOException if the key is not a valid content hash.
+     */
+    private Path resolve(final String key) throws IOException {
+        if (key.length() <= PREFIX_LENGTH || !key.chars().allMatch(Character::isLetterOrDigit)) {
+            throw new IOException("Invalid blob key.");
+        }
+
+        return root.resolve(key.substring(0, PREFIX_LENGTH)).resolve(key);
+    }
+}
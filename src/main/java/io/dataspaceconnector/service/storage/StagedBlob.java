@@ -13,25 +13,25 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package io.dataspaceconnector.model.artifact;
+package io.dataspaceconnector.service.storage;
 
-import org.junit.jupiter.api.Test;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-
-public class ArtifactTests {
-
-    @Test
-    public void incrementAccessCounter_willAddOnlyOne() {
-        ArtifactDesc desc = new ArtifactDesc();
-        ArtifactFactory factory = new ArtifactFactory();
-        var artifact = factory.create(desc);
-
-        final var before = artifact.getNumAccessed();
+/**
+ * Data that has been written to a blob store but is not yet available under its content key.
+ */
+@Getter
+@AllArgsConstructor
+public final class StagedBlob {
 
-        artifact.incrementAccessCounter();
+    /**
+     * The temporary location of the data within the blob store.
+     */
+    private final String location;
 
-        assertEquals(1, artifact.getNumAccessed());
-        assertEquals(0, before);
-    }
+    /**
+     * The key the data will be available under once published.
+     */
+    private final String key;
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.storage;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import io.dataspaceconnector.common.io.CompressingInputStream;
+import io.dataspaceconnector.model.artifact.Compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses data before it is written to the blob store and decompresses it when it is read.
+ */
+public final class StorageCodec {
+
+    /**
+     * Default constructor.
+     */
+    private StorageCodec() {
+        // not used
+    }
+
+    /**
+     * Compress data while it is being read.
+     *
+     * @param data        The uncompressed data.
+     * @param compression The compression to apply.
+     * @return The compressed data.
+     * @throws IOException if the encoder could not be created.
+     */
+    public static InputStream encode(final InputStream data, final Compression compression)
+            throws IOException {
+        switch (compression) {
+            case GZIP:
+                return new CompressingInputStream(data, GZIPOutputStream::new);
+            case ZSTD:
+                return new CompressingInputStream(data, ZstdOutputStream::new);
+            default:
+                return data;
+        }
+    }
+
+    /**
+     * Decompress stored data. The data is only decompressed once it is read, so that it can
+     * still be passed on in its compressed form.
+     *
+     * @param data        The stored data.
+     * @param compression The compression of the stored data.
+     * @return The uncompressed data, an {@link EncodedInputStream} if the data is compressed.
+     */
+    public static InputStream decode(final InputStream data, final Compression compression) {
+        return compression == Compression.NONE
+                ? data : new EncodedInputStream(data, compression);
+    }
+
+    /**
+     * Create a decoder for compressed data.
+     *
+     * @param data        The compressed data.
+     * @param compression The compression of the data.
+     * @return The uncompressed data.
+     * @throws IOException if the data could not be decoded.
+     */
+    static InputStream newDecoder(final InputStream data, final Compression compression)
+            throws IOException {
+        switch (compression) {
+            case GZIP:
+                return new GZIPInputStream(data);
+            case ZSTD:
+                return new ZstdInputStream(data);
+            default:
+                return data;
+        }
+    }
+}
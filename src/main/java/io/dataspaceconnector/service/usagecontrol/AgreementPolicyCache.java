@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.model.agreement.Agreement;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Caches the compiled policies of stored contract agreements, so the rules of an artifact's
+ * agreements do not have to be loaded for every data access. Entries are bound to the
+ * modification date of the agreement and compiled again once the agreement has been changed.
+ * The least recently used entries are evicted if the cache is full.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class AgreementPolicyCache {
+
+    /**
+     * The initial capacity of the cache.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The load factor of the cache.
+     */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /**
+     * Service for ids deserialization.
+     */
+    private final @NonNull DeserializationService deserializationService;
+
+    /**
+     * The maximum number of cached agreements, 0 to disable the cache.
+     */
+    @Value("${policy.cache.max-size:1000}")
+    private int maxSize;
+
+    /**
+     * The compiled agreements by agreement id, in access order.
+     */
+    private final Map<UUID, CompiledAgreement> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(
+                        final Map.Entry<UUID, CompiledAgreement> eldest) {
+                    return size() > maxSize;
+                }
+            });
+
+    /**
+     * Get the compiled policy of a stored agreement. The policy is compiled only if it is not
+     * cached or the agreement has been modified since it was cached. It is compiled from the
+     * rules extracted when the agreement was stored, agreements stored without them are
+     * deserialized.
+     *
+     * @param agreement The stored agreement.
+     * @return The compiled agreement.
+     * @throws IllegalArgumentException If the agreement could not be deserialized.
+     */
+    public CompiledAgreement get(final Agreement agreement) throws IllegalArgumentException {
+        final var id = agreement.getId();
+        final var cached = id == null ? null : cache.get(id);
+        if (cached != null
+                && Objects.equals(cached.getModificationDate(), agreement.getModificationDate())) {
+            return cached;
+        }
+
+        final var rules = agreement.getRules();
+        final var extracted = Boolean.TRUE.equals(agreement.getRulesExtracted())
+                || (rules != null && !rules.isEmpty());
+        final var compiled = !extracted
+                ? CompiledAgreement.of(
+                        deserializationService.getContractAgreement(agreement.getValue()),
+                        agreement.getModificationDate())
+                : new CompiledAgreement(rules, agreement.getModificationDate());
+        if (id != null && maxSize > 0) {
+            cache.put(id, compiled);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Compiled agreement policy. [id=({}), modified=({})]",
+                    id, agreement.getModificationDate());
+        }
+
+        return compiled;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import de.fraunhofer.iais.eis.ContractAgreement;
+import io.dataspaceconnector.common.ids.policy.ContractUtils;
+import io.dataspaceconnector.common.ids.policy.RuleParameters;
+import io.dataspaceconnector.common.ids.policy.RuleUtils;
+import io.dataspaceconnector.model.agreement.AgreementRule;
+import lombok.Getter;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The rules of a contract agreement grouped by target, with their policy patterns and
+ * parameters, so policies can be checked without parsing the agreement or its rules again.
+ */
+public final class CompiledAgreement {
+
+    /**
+     * The modification date of the stored agreement the rules were taken from.
+     */
+    @Getter
+    private final ZonedDateTime modificationDate;
+
+    /**
+     * The rule parameters of the agreement by their target, in the order of the agreement.
+     */
+    private final Map<URI, List<RuleParameters>> rulesByTarget;
+
+    /**
+     * Constructor.
+     *
+     * @param rules    The rules of the agreement.
+     * @param modified The modification date of the stored agreement.
+     */
+    public CompiledAgreement(final List<AgreementRule> rules, final ZonedDateTime modified) {
+        this.modificationDate = modified;
+
+        final var map = new HashMap<URI, List<RuleParameters>>();
+        for (final var rule : rules) {
+            if (rule.getTarget() != null && rule.getParameters() != null) {
+                map.computeIfAbsent(rule.getTarget(), x -> new ArrayList<>())
+                        .add(rule.getParameters());
+            }
+        }
+        map.replaceAll((target, list) -> Collections.unmodifiableList(list));
+        this.rulesByTarget = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Compile the rules of an ids contract agreement.
+     *
+     * @param agreement The ids contract agreement.
+     * @param modified  The modification date of the stored agreement.
+     * @return The compiled agreement.
+     */
+    public static CompiledAgreement of(final ContractAgreement agreement,
+                                       final ZonedDateTime modified) {
+        final var rules = new ArrayList<AgreementRule>();
+        for (final var rule : ContractUtils.extractRulesFromContract(agreement)) {
+            if (rule != null && rule.getTarget() != null) {
+                rules.add(new AgreementRule(rule.getTarget(), RuleUtils.getParameters(rule)));
+            }
+        }
+        return new CompiledAgreement(rules, modified);
+    }
+
+    /**
+     * Get the pattern and parameters of the agreement's rules for a target.
+     *
+     * @param target The target.
+     * @return The rule parameters, empty if the agreement contains no rule for the target.
+     */
+    public List<RuleParameters> getRules(final URI target) {
+        return rulesByTarget.getOrDefault(target, List.of());
+    }
+}
@@ -15,9 +15,8 @@
  */
 package io.dataspaceconnector.service.usagecontrol;
 
-import io.dataspaceconnector.common.ids.policy.ContractUtils;
 import io.dataspaceconnector.common.ids.policy.PolicyPattern;
-import io.dataspaceconnector.common.ids.policy.RuleUtils;
+import io.dataspaceconnector.common.ids.policy.RuleParameters;
 import io.dataspaceconnector.common.net.SelfLinkHelper;
 import io.dataspaceconnector.common.exception.PolicyExecutionException;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
@@ -33,9 +32,13 @@ import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Component;
 
 import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * A {@link PolicyVerifier} implementation that checks whether data access should be allowed.
@@ -45,6 +48,18 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public final class DataAccessVerifier implements PolicyVerifier<AccessVerificationInput> {
 
+    /**
+     * Patterns that have to be executed on every access.
+     */
+    private static final Set<PolicyPattern> SIDE_EFFECTS = EnumSet.of(
+            PolicyPattern.USAGE_LOGGING, PolicyPattern.USAGE_NOTIFICATION);
+
+    /**
+     * Patterns that allow the access until the end of a time interval.
+     */
+    private static final Set<PolicyPattern> INTERVALS = EnumSet.of(
+            PolicyPattern.USAGE_DURING_INTERVAL, PolicyPattern.USAGE_UNTIL_DELETION);
+
     /**
      * The policy execution point.
      */
@@ -65,14 +80,20 @@ public final class DataAccessVerifier implements PolicyVerifier<AccessVerificati
      */
     private final @NonNull SelfLinkHelper selfLinkHelper;
 
+    /**
+     * Cache of previous access decisions.
+     */
+    private final @NonNull PolicyDecisionCache decisionCache;
+
     /**
      * Policy check on data access on consumer side. Ignore if unknown patterns are allowed.
      *
      * @param target      The requested artifact.
      * @param agreementId The id of the transfer contract (agreement).
+     * @return True if the access has been counted, because the number of accesses is restricted.
      * @throws PolicyRestrictionException If a policy restriction has been detected.
      */
-    public void checkPolicy(final Artifact target, final URI agreementId) throws
+    public boolean checkPolicy(final Artifact target, final URI agreementId) throws
             PolicyRestrictionException {
         final var patternsToCheck = Arrays.asList(
                 PolicyPattern.PROVIDE_ACCESS,
@@ -85,51 +106,153 @@ public final class DataAccessVerifier implements PolicyVerifier<AccessVerificati
 
         try {
             final var artifactId = selfLinkHelper.getSelfLink(target);
-            checkForAccess(patternsToCheck, artifactId, target.getRemoteId(), agreementId);
+            return checkForAccess(patternsToCheck, artifactId, target.getRemoteId(), agreementId);
         } catch (PolicyRestrictionException exception) {
             // Unknown patterns cause an exception. Ignore if unsupported patterns are allowed.
             if (!connectorConfig.isAllowUnsupported()) {
                 throw exception;
             }
+            return false;
         }
     }
 
     /**
-     * Checks the contract content for data access (on consumer side).
+     * Checks the contract content for data access (on consumer side). Restrictions of the number
+     * of accesses are checked after all other rules allowed the access. The access is then
+     * reserved against the lowest maximum of all rules, which counts it. Rules with side effects
+     * are executed last, once the access has been granted. If the access has been allowed before
+     * and the agreements are unchanged, only the reservation and the rules with side effects are
+     * carried out again.
      *
      * @param patterns    List of patterns that should be enforced.
      * @param artifactId  The requested artifact.
      * @param remoteId    The remote id of the requested artifact.
      * @param agreementId The id of the transfer contract (agreement).
+     * @return True if the access has been counted, because the number of accesses is restricted.
      * @throws io.dataspaceconnector.common.exception.UnsupportedPatternException if no suitable
      * pattern could be found.
      */
-    public void checkForAccess(final List<PolicyPattern> patterns, final URI artifactId,
-                               final URI remoteId, final URI agreementId) {
+    public boolean checkForAccess(final List<PolicyPattern> patterns, final URI artifactId,
+                                  final URI remoteId, final URI agreementId) {
         // Get the contract agreement's rules for the target.
-        final var agreements = entityResolver.getContractAgreementsByTarget(artifactId);
-        for (final var agreement : agreements) {
-            final var rules = ContractUtils.getRulesForTargetId(agreement, remoteId);
+        final var agreements = entityResolver.getCompiledAgreementsByTarget(artifactId);
+        final var cached = decisionCache.get(artifactId, agreementId, patterns, agreements);
+        if (cached != null) {
+            final var counted = reserveAccess(artifactId, cached.getMaxAccess());
+            executeEffects(cached.getEffects(), artifactId, agreementId);
+            return counted;
+        }
 
+        var maxAccess = Long.MAX_VALUE;
+        ZonedDateTime expiry = null;
+        var cacheable = true;
+        final var effects = new ArrayList<RuleParameters>();
+        for (final var agreement : agreements) {
             // Check the policy of each rule.
-            for (final var rule : rules) {
-                final var pattern = RuleUtils.getPatternByRule(rule);
+            for (final var rule : agreement.getRules(remoteId)) {
+                final var pattern = rule.getPattern();
                 // Enforce only a set of patterns.
-                if (patterns.contains(pattern)) {
-                    ruleValidator.validatePolicy(pattern, rule, artifactId, null,
-                            Optional.empty(), agreementId);
+                if (!patterns.contains(pattern)) {
+                    continue;
+                }
+
+                if (pattern == PolicyPattern.N_TIMES_USAGE) {
+                    // A maximum that could not be read allows no access.
+                    final var max = rule.getMaxAccess();
+                    maxAccess = Math.min(maxAccess, max == null ? 0 : max);
+                    continue;
+                }
+
+                if (SIDE_EFFECTS.contains(pattern)) {
+                    // Executed once the access has been granted.
+                    effects.add(rule);
+                    continue;
+                }
+
+                ruleValidator.validatePolicy(rule, artifactId, null, Optional.empty(),
+                        agreementId);
+                if (INTERVALS.contains(pattern)) {
+                    expiry = earliest(expiry, rule.getIntervalEnd());
+                } else if (pattern != PolicyPattern.PROVIDE_ACCESS) {
+                    cacheable = false;
+                }
+            }
+        }
+
+        if (cacheable) {
+            decisionCache.put(artifactId, agreementId, patterns,
+                    new PolicyDecision(agreements, expiry, effects, maxAccess));
+        }
+
+        final var counted = reserveAccess(artifactId, maxAccess);
+        executeEffects(effects, artifactId, agreementId);
+        return counted;
+    }
+
+    /**
+     * Execute the rules with side effects of a granted access. Effects that could not be
+     * executed do not revoke the access.
+     *
+     * @param effects     The rules.
+     * @param artifactId  The requested artifact.
+     * @param agreementId The id of the transfer contract (agreement).
+     */
+    private void executeEffects(final List<RuleParameters> effects, final URI artifactId,
+                                final URI agreementId) {
+        for (final var rule : effects) {
+            try {
+                ruleValidator.validatePolicy(rule, artifactId, null, Optional.empty(),
+                        agreementId);
+            } catch (PolicyExecutionException e) {
+                // If message could not be sent, ignore and provide access anyway.
+                if (log.isDebugEnabled()) {
+                    log.debug("Failed to execute policy. [exception=({}), pattern=({})]",
+                            e.getMessage(), rule.getPattern(), e);
                 }
             }
         }
     }
 
+    /**
+     * Reserve an access if the number of accesses is restricted.
+     *
+     * @param artifactId The requested artifact.
+     * @param maxAccess  The maximum number of accesses, {@link Long#MAX_VALUE} if unrestricted.
+     * @return True if the access has been counted.
+     * @throws PolicyRestrictionException If the access number has been reached.
+     */
+    private boolean reserveAccess(final URI artifactId, final long maxAccess)
+            throws PolicyRestrictionException {
+        if (maxAccess == Long.MAX_VALUE) {
+            return false;
+        }
+
+        ruleValidator.reserveAccess(artifactId, maxAccess);
+        return true;
+    }
+
+    /**
+     * Get the earlier of two dates.
+     *
+     * @param first  The first date, may be null.
+     * @param second The second date, may be null.
+     * @return The earlier date, null if both are null.
+     */
+    private static ZonedDateTime earliest(final ZonedDateTime first,
+                                          final ZonedDateTime second) {
+        if (first == null) {
+            return second;
+        }
+        return second == null || first.isBefore(second) ? first : second;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public VerificationResult verify(final AccessVerificationInput input) {
         try {
-            this.checkPolicy(input.getArtifact(), input.getAgreementId());
+            input.setAccessCounted(this.checkPolicy(input.getArtifact(), input.getAgreementId()));
             return VerificationResult.ALLOWED;
         } catch (PolicyRestrictionException exception) {
             if (log.isDebugEnabled()) {
@@ -101,10 +101,11 @@ public class DataProvisionVerifier implements PolicyVerifier<ProvisionVerificati
 
         // Check the policy of each rule.
         for (final var rule : rules) {
-            final var pattern = RuleUtils.getPatternByRule(rule);
+            // Detect the pattern and read its parameters only once per rule.
+            final var parameters = RuleUtils.getParameters(rule);
             // Enforce only a set of patterns.
-            if (patterns.contains(pattern)) {
-                ruleValidator.validatePolicy(pattern, rule, target, issuerConnector, profile,
+            if (patterns.contains(parameters.getPattern())) {
+                ruleValidator.validatePolicy(parameters, target, issuerConnector, profile,
                         agreement.getId());
             }
         }
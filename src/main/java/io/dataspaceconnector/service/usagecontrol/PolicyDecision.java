@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import io.dataspaceconnector.common.ids.policy.RuleParameters;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * A positive data access decision of the {@link DataAccessVerifier}. It holds the rules with side
+ * effects that have to be executed on every access and remains valid while the agreements it has
+ * been made for are unchanged and its expiry has not passed.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class PolicyDecision {
+
+    /**
+     * The compiled agreements the decision has been made for.
+     */
+    private final List<CompiledAgreement> agreements;
+
+    /**
+     * The date until which the decision is valid, null if it does not expire.
+     */
+    private final ZonedDateTime expiry;
+
+    /**
+     * The rules that have to be executed on every access, e.g. logging and notifications.
+     */
+    private final List<RuleParameters> effects;
+
+    /**
+     * The maximum number of accesses, {@link Long#MAX_VALUE} if the number is not restricted.
+     */
+    private final long maxAccess;
+
+    /**
+     * Check whether the decision still applies to the current agreements of the target.
+     *
+     * @param current The current compiled agreements of the target.
+     * @param now     The current date.
+     * @return True if the decision is still valid.
+     */
+    public boolean isValidFor(final List<CompiledAgreement> current, final ZonedDateTime now) {
+        if (expiry != null && !now.isBefore(expiry)) {
+            return false;
+        }
+
+        if (current.size() != agreements.size()) {
+            return false;
+        }
+
+        // Compiled agreements are replaced once the agreement changes.
+        for (int i = 0; i < current.size(); i++) {
+            if (current.get(i) != agreements.get(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import io.dataspaceconnector.common.ids.policy.PolicyPattern;
+import io.dataspaceconnector.common.ids.policy.RuleUtils;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches positive data access decisions per target, agreement and checked patterns, so the rules
+ * of read-heavy artifacts do not have to be evaluated on every access. A decision is dropped
+ * once one of the agreements of the target changes or the decision expires. The least recently
+ * used decisions are evicted if the cache is full.
+ */
+@Component
+public class PolicyDecisionCache {
+
+    /**
+     * The initial capacity of the cache.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The load factor of the cache.
+     */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /**
+     * The maximum number of cached decisions, 0 to disable the cache.
+     */
+    @Value("${policy.decision-cache.max-size:1000}")
+    private int maxSize;
+
+    /**
+     * The decisions, in access order.
+     */
+    private final Map<DecisionKey, PolicyDecision> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(
+                        final Map.Entry<DecisionKey, PolicyDecision> eldest) {
+                    return size() > maxSize;
+                }
+            });
+
+    /**
+     * Get a decision that is still valid for the current agreements of the target.
+     *
+     * @param target      The accessed element.
+     * @param agreementId The id of the transfer contract (agreement).
+     * @param patterns    The checked patterns.
+     * @param agreements  The current compiled agreements of the target.
+     * @return The decision, null if there is no valid decision.
+     */
+    public PolicyDecision get(final URI target, final URI agreementId,
+                              final List<PolicyPattern> patterns,
+                              final List<CompiledAgreement> agreements) {
+        final var key = new DecisionKey(target, agreementId, patterns);
+        final var decision = cache.get(key);
+        if (decision == null) {
+            return null;
+        }
+
+        if (!decision.isValidFor(agreements, RuleUtils.getCurrentDate())) {
+            cache.remove(key);
+            return null;
+        }
+
+        return decision;
+    }
+
+    /**
+     * Cache a decision.
+     *
+     * @param target      The accessed element.
+     * @param agreementId The id of the transfer contract (agreement).
+     * @param patterns    The checked patterns.
+     * @param decision    The decision.
+     */
+    public void put(final URI target, final URI agreementId, final List<PolicyPattern> patterns,
+                    final PolicyDecision decision) {
+        if (maxSize > 0) {
+            cache.put(new DecisionKey(target, agreementId, patterns), decision);
+        }
+    }
+
+    /**
+     * Drop the decisions that have expired once time-based policies of agreements expire.
+     *
+     * @param event The expiration event.
+     */
+    @EventListener
+    public void handleExpiration(final PolicyExpirationEvent event) {
+        final var now = RuleUtils.getCurrentDate();
+        synchronized (cache) {
+            cache.values().removeIf(decision -> decision.getExpiry() != null
+                    && !decision.getExpiry().isAfter(now));
+        }
+    }
+
+    /**
+     * The key of a decision.
+     */
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class DecisionKey {
+        /**
+         * The accessed element.
+         */
+        private final URI target;
+
+        /**
+         * The id of the transfer contract (agreement).
+         */
+        private final URI agreementId;
+
+        /**
+         * The checked patterns.
+         */
+        private final List<PolicyPattern> patterns;
+    }
+}
@@ -111,14 +111,32 @@ public class PolicyExecutionService {
             throws PolicyExecutionException {
         if (rule instanceof Permission) {
             final var postDuty = ((Permission) rule).getPostDuty().get(0);
-            final var recipient = RuleUtils.getEndpoint(postDuty);
-
-            notificationSvc.sendMessage(URI.create(recipient), buildLog(element));
+            notifyDataAccess(RuleUtils.getEndpoint(postDuty), element);
         } else if (log.isWarnEnabled()) {
             log.warn("Reporting data access is only supported for permissions.");
         }
     }
 
+    /**
+     * Send a notification about a data access to the recipient defined in a policy.
+     *
+     * @param recipient The recipient of the notification.
+     * @param element   The accessed element.
+     * @throws PolicyExecutionException If the notification has not been successful.
+     */
+    public void notifyDataAccess(final String recipient, final URI element)
+            throws PolicyExecutionException {
+        if (recipient == null) {
+            if (log.isWarnEnabled()) {
+                log.warn("Missing recipient for reporting data access. [element=({})]",
+                        element);
+            }
+            return;
+        }
+
+        notificationSvc.sendMessage(URI.create(recipient), buildLog(element));
+    }
+
     /**
      * Build a log information object.
      *
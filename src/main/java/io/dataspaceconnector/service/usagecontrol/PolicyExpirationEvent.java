@@ -0,0 +1,57 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published when time-based policies of agreements have expired.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class PolicyExpirationEvent {
+
+    /**
+     * The kind of expiration.
+     */
+    public enum Type {
+        /**
+         * The data of a target of the agreements has to be deleted.
+         */
+        DATA_REMOVAL,
+
+        /**
+         * The time interval of a rule of the agreements has ended.
+         */
+        RULE_EXPIRED
+    }
+
+    /**
+     * The kind of expiration.
+     */
+    private final Type type;
+
+    /**
+     * The ids of the affected agreements.
+     */
+    private final Set<UUID> agreements;
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import io.dataspaceconnector.common.ids.policy.RuleUtils;
+import io.dataspaceconnector.common.time.TimingWheel;
+import io.dataspaceconnector.model.agreement.AgreementRule;
+import io.dataspaceconnector.model.agreement.DataRemoval;
+import io.dataspaceconnector.repository.AgreementRepository;
+import io.dataspaceconnector.repository.DataRemovalRepository;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the dates of time-based policies of all agreements in a timing wheel and publishes a
+ * {@link PolicyExpirationEvent} as soon as they are reached. The wheel is loaded from the
+ * database at startup and updated whenever an agreement is stored or deleted. The end of a
+ * contract is not scheduled, it is validated on every request by the {@link ContractManager}.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class PolicyExpirationScheduler {
+
+    /**
+     * Repository for the dates after which data has to be deleted.
+     */
+    private final @NonNull DataRemovalRepository removalRepository;
+
+    /**
+     * Repository for agreements.
+     */
+    private final @NonNull AgreementRepository agreementRepository;
+
+    /**
+     * Publisher for expiration events.
+     */
+    private final @NonNull ApplicationEventPublisher publisher;
+
+    /**
+     * The duration of a tick of the wheel in milliseconds.
+     */
+    @Value("${policy.expiration.tick:1000}")
+    private long tick;
+
+    /**
+     * The scheduled expirations.
+     */
+    private TimingWheel<Expiration> wheel;
+
+    /**
+     * The scheduled expirations per agreement.
+     */
+    private final Map<UUID, List<TimingWheel.Timeout<Expiration>>> timeouts =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Load the pending data removals and the ends of all running rule intervals.
+     */
+    @PostConstruct
+    public void load() {
+        wheel = new TimingWheel<>(tick, System.currentTimeMillis());
+        for (final var removal : removalRepository.findAllPending()) {
+            add(PolicyExpirationEvent.Type.DATA_REMOVAL, removal.getAgreementId(),
+                    removal.getDeadline());
+        }
+        for (final var end : agreementRepository.findAllRuleEndsAfter(RuleUtils.getCurrentDate())) {
+            add(PolicyExpirationEvent.Type.RULE_EXPIRED, end.getAgreementId(),
+                    end.getIntervalEnd());
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded policy expirations. [count=({})]", wheel.size());
+        }
+    }
+
+    /**
+     * Replace the expirations of an agreement.
+     *
+     * @param agreementId The id of the agreement.
+     * @param rules       The rules of the agreement.
+     * @param removals    The pending data removals of the agreement.
+     */
+    public void reschedule(final UUID agreementId, final List<AgreementRule> rules,
+                           final List<DataRemoval> removals) {
+        cancel(agreementId);
+        for (final var removal : removals) {
+            add(PolicyExpirationEvent.Type.DATA_REMOVAL, agreementId, removal.getDeadline());
+        }
+
+        final var now = RuleUtils.getCurrentDate();
+        for (final var rule : rules) {
+            final var end = rule.getParameters() == null
+                    ? null : rule.getParameters().getIntervalEnd();
+            if (end != null && end.isAfter(now)) {
+                add(PolicyExpirationEvent.Type.RULE_EXPIRED, agreementId, end);
+            }
+        }
+    }
+
+    /**
+     * Cancel all expirations of an agreement.
+     *
+     * @param agreementId The id of the agreement.
+     */
+    public void cancel(final UUID agreementId) {
+        final var scheduled = timeouts.remove(agreementId);
+        if (scheduled != null) {
+            scheduled.forEach(TimingWheel.Timeout::cancel);
+        }
+    }
+
+    /**
+     * Advance the wheel and publish the expirations that have been reached, one event per kind
+     * of expiration.
+     */
+    @Scheduled(fixedDelayString = "${policy.expiration.tick:1000}")
+    public void advance() {
+        final var expired = wheel.advance(System.currentTimeMillis());
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        final var events = new EnumMap<PolicyExpirationEvent.Type, Set<UUID>>(
+                PolicyExpirationEvent.Type.class);
+        for (final var expiration : expired) {
+            events.computeIfAbsent(expiration.getType(), type -> new HashSet<>())
+                    .add(expiration.getAgreementId());
+            timeouts.computeIfPresent(expiration.getAgreementId(), (id, scheduled) -> {
+                scheduled.removeIf(timeout -> !timeout.isPending());
+                return scheduled.isEmpty() ? null : scheduled;
+            });
+        }
+
+        for (final var entry : events.entrySet()) {
+            final var event = new PolicyExpirationEvent(entry.getKey(), entry.getValue());
+            if (log.isDebugEnabled()) {
+                log.debug("Policies expired. [event=({})]", event);
+            }
+            publisher.publishEvent(event);
+        }
+    }
+
+    /**
+     * Schedule an expiration.
+     *
+     * @param type        The kind of expiration.
+     * @param agreementId The id of the agreement.
+     * @param date        The date of the expiration.
+     */
+    private void add(final PolicyExpirationEvent.Type type, final UUID agreementId,
+                     final ZonedDateTime date) {
+        if (date == null) {
+            return;
+        }
+
+        final var timeout = wheel.schedule(new Expiration(type, agreementId),
+                date.toInstant().toEpochMilli());
+        timeouts.compute(agreementId, (id, scheduled) -> {
+            final var list = scheduled == null
+                    ? new ArrayList<TimingWheel.Timeout<Expiration>>() : scheduled;
+            list.add(timeout);
+            return list;
+        });
+    }
+
+    /**
+     * An expiration of an agreement.
+     */
+    @Getter(AccessLevel.PRIVATE)
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class Expiration {
+        /**
+         * The kind of expiration.
+         */
+        private final PolicyExpirationEvent.Type type;
+
+        /**
+         * The id of the agreement.
+         */
+        private final UUID agreementId;
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.dataspaceconnector.service.usagecontrol;
 
+import io.dataspaceconnector.service.ArtifactAccessCounter;
 import io.dataspaceconnector.service.resource.type.ArtifactService;
 import io.dataspaceconnector.common.net.EndpointUtils;
 import lombok.NonNull;
@@ -37,6 +38,11 @@ public class PolicyInformationService {
      */
     private final @NonNull ArtifactService artifactService;
 
+    /**
+     * Counts the data accesses of artifacts.
+     */
+    private final @NonNull ArtifactAccessCounter accessCounter;
+
     /**
      * Get creation date of artifact.
      *
@@ -51,15 +57,27 @@ public class PolicyInformationService {
     }
 
     /**
-     * Get access number of artifact.
+     * Get access number of artifact. The number is read from the database, so accesses counted
+     * after the artifact has been loaded are included.
      *
      * @param target The target id.
      * @return The artifact's access number.
      */
     public long getAccessNumber(final URI target) {
         final var resourceId = EndpointUtils.getUUIDFromPath(target);
-        final var artifact = artifactService.get(resourceId);
+        return accessCounter.get(resourceId);
+    }
 
-        return artifact.getNumAccessed();
+    /**
+     * Count an access to an artifact, if it has been accessed less than the given number of
+     * times.
+     *
+     * @param target The target id.
+     * @param max    The maximum number of accesses.
+     * @return True if the access has been counted, false if the maximum has been reached.
+     */
+    public boolean reserveAccess(final URI target, final long max) {
+        final var resourceId = EndpointUtils.getUUIDFromPath(target);
+        return accessCounter.reserve(resourceId, max);
     }
 }
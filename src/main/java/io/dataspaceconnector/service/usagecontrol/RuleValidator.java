@@ -17,11 +17,9 @@ package io.dataspaceconnector.service.usagecontrol;
 
 import de.fraunhofer.iais.eis.Rule;
 import de.fraunhofer.iais.eis.SecurityProfile;
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.dataspaceconnector.common.exception.ErrorMessage;
-import io.dataspaceconnector.common.ids.policy.PolicyPattern;
+import io.dataspaceconnector.common.ids.policy.RuleParameters;
 import io.dataspaceconnector.common.ids.policy.RuleUtils;
-import io.dataspaceconnector.common.time.TimeInterval;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
 import io.dataspaceconnector.model.contract.Contract;
 import io.dataspaceconnector.model.rule.ContractRule;
@@ -34,7 +32,7 @@ import org.springframework.stereotype.Service;
 
 import java.net.URI;
 import java.time.Duration;
-import java.time.format.DateTimeParseException;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -71,43 +69,50 @@ public class RuleValidator {
     private final @NonNull DeserializationService deserializationService;
 
     /**
-     * Validates the data access for a given rule.
+     * Validates the data access for the pattern and parameters of a rule.
      *
-     * @param pattern         The recognized policy pattern.
-     * @param rule            The ids rule.
+     * @param parameters      The pattern and parameters of the rule.
      * @param target          The requested/accessed element.
      * @param issuerConnector The issuer connector.
      * @param profile         The security profile.
      * @param agreementId     The id of the transfer contract (agreement).
      * @throws PolicyRestrictionException If a policy restriction was detected.
      */
-    public void validatePolicy(final PolicyPattern pattern, final Rule rule, final URI target,
+    public void validatePolicy(final RuleParameters parameters, final URI target,
                                final URI issuerConnector, final Optional<SecurityProfile> profile,
                                final URI agreementId) throws PolicyRestrictionException {
+        final var pattern = parameters.getPattern();
+        if (pattern == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("No pattern detected. [target=({})]", target);
+            }
+            throw new PolicyRestrictionException(ErrorMessage.POLICY_RESTRICTION);
+        }
+
         switch (pattern) {
             case PROVIDE_ACCESS:
                 break;
             case USAGE_DURING_INTERVAL:
             case USAGE_UNTIL_DELETION:
-                validateInterval(rule);
+                validateInterval(parameters.getIntervalStart(), parameters.getIntervalEnd());
                 break;
             case DURATION_USAGE:
-                validateDuration(rule, target);
+                validateDuration(parameters.getDuration(), target);
                 break;
             case USAGE_LOGGING:
                 executionService.logDataAccess(target, agreementId);
                 break;
             case N_TIMES_USAGE:
-                validateAccessNumber(rule, target);
+                validateAccessNumber(parameters.getMaxAccess(), target);
                 break;
             case USAGE_NOTIFICATION:
-                executionService.reportDataAccess(rule, target);
+                executionService.notifyDataAccess(parameters.getEndpoint(), target);
                 break;
             case CONNECTOR_RESTRICTED_USAGE:
-                validateIssuerConnector(rule, issuerConnector);
+                validateIssuerConnector(parameters.getEndpoint(), issuerConnector);
                 break;
             case SECURITY_PROFILE_RESTRICTED_USAGE:
-                validateSecurityProfile(rule, profile);
+                validateSecurityProfile(parameters.getSecurityProfile(), profile);
                 break;
             case PROHIBIT_ACCESS:
                 throw new PolicyRestrictionException(ErrorMessage.NOT_ALLOWED);
@@ -173,25 +178,24 @@ public class RuleValidator {
     /**
      * Checks if the requested data access is in the allowed time interval.
      *
-     * @param rule The ids rule.
-     * @throws PolicyRestrictionException If the policy could not be read or a restriction is
+     * @param start The start of the interval.
+     * @param end   The end of the interval.
+     * @throws PolicyRestrictionException If the interval is missing or a restriction is
      *                                    detected.
      */
-    private void validateInterval(final Rule rule) throws PolicyRestrictionException {
-        TimeInterval timeInterval;
-        try {
-            timeInterval = RuleUtils.getTimeInterval(rule);
-        } catch (DateTimeParseException e) {
+    private void validateInterval(final ZonedDateTime start, final ZonedDateTime end)
+            throws PolicyRestrictionException {
+        if (start == null || end == null) {
             if (log.isWarnEnabled()) {
-                log.warn("Could not read time interval. [exception=({})]", e.getMessage());
+                log.warn("Could not read time interval. [start=({}), end=({})]", start, end);
             }
-            throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL, e);
+            throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL);
         }
 
         final var current = RuleUtils.getCurrentDate();
-        if (!current.isAfter(timeInterval.getStart()) || !current.isBefore(timeInterval.getEnd())) {
+        if (!current.isAfter(start) || !current.isBefore(end)) {
             if (log.isWarnEnabled()) {
-                log.warn("Invalid time interval. [timeInterval=({})]", timeInterval);
+                log.warn("Invalid time interval. [start=({}), end=({})]", start, end);
             }
             throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL);
         }
@@ -200,26 +204,13 @@ public class RuleValidator {
     /**
      * Adds a duration to a given date and checks if the duration has already been exceeded.
      *
-     * @param rule   The ids rule.
-     * @param target The accessed element.
-     * @throws PolicyRestrictionException If the policy could not be read or a restriction is
+     * @param duration The allowed duration.
+     * @param target   The accessed element.
+     * @throws PolicyRestrictionException If the duration is missing or a restriction is
      *                                    detected.
      */
-    private void validateDuration(final Rule rule, final URI target)
+    private void validateDuration(final Duration duration, final URI target)
             throws PolicyRestrictionException {
-        final var created = informationService.getCreationDate(target);
-
-        final Duration duration;
-        try {
-            duration = RuleUtils.getDuration(rule);
-        } catch (DateTimeParseException e) {
-            if (log.isWarnEnabled()) {
-                log.warn("Could not read duration. [target=({}), exception=({})]",
-                        target, e.getMessage(), e);
-            }
-            throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL, e);
-        }
-
         if (duration == null) {
             if (log.isWarnEnabled()) {
                 log.warn("Duration is null. [target=({})]", target);
@@ -227,6 +218,7 @@ public class RuleValidator {
             throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL);
         }
 
+        final var created = informationService.getCreationDate(target);
         if (RuleUtils.isExpired(RuleUtils.getCalculatedDate(created, duration))) {
             if (log.isDebugEnabled()) {
                 log.debug("Invalid date time. [target=({})]", target);
@@ -238,15 +230,33 @@ public class RuleValidator {
     /**
      * Checks whether the maximum number of accesses has already been reached.
      *
-     * @param rule   The ids rule.
+     * @param max    The maximum number of accesses.
      * @param target The accessed element.
+     * @throws PolicyRestrictionException If the maximum is missing or the access number has
+     *                                    been reached.
+     */
+    private void validateAccessNumber(final Integer max, final URI target)
+            throws PolicyRestrictionException {
+        if (max == null || informationService.getAccessNumber(target) >= max) {
+            if (log.isDebugEnabled()) {
+                log.debug("Access number reached. [target=({})]", target);
+            }
+            throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_NUMBER_REACHED);
+        }
+    }
+
+    /**
+     * Counts an access to the target, unless it has already been accessed the maximum number of
+     * times. Checking and counting happen atomically, so parallel accesses can not exceed the
+     * maximum.
+     *
+     * @param target The target value.
+     * @param max    The maximum number of accesses.
      * @throws PolicyRestrictionException If the access number has been reached.
      */
-    private void validateAccessNumber(final Rule rule, final URI target)
+    public void reserveAccess(final URI target, final long max)
             throws PolicyRestrictionException {
-        final var max = RuleUtils.getMaxAccess(rule);
-        final var accessed = informationService.getAccessNumber(target);
-        if (accessed >= max) {
+        if (!informationService.reserveAccess(target, max)) {
             if (log.isDebugEnabled()) {
                 log.debug("Access number reached. [target=({})]", target);
             }
@@ -257,15 +267,14 @@ public class RuleValidator {
     /**
      * Checks whether the requesting connector corresponds to the allowed connector.
      *
-     * @param rule            The ids rule.
+     * @param allowedConsumer The allowed connector.
      * @param issuerConnector The issuer connector.
      * @throws PolicyRestrictionException If the connector ids do no match.
      */
-    private void validateIssuerConnector(final Rule rule, final URI issuerConnector)
+    private void validateIssuerConnector(final String allowedConsumer,
+                                         final URI issuerConnector)
             throws PolicyRestrictionException {
-        final var allowedConsumer = RuleUtils.getEndpoint(rule);
-        final var allowedConsumerAsUri = URI.create(allowedConsumer);
-        if (!allowedConsumerAsUri.equals(issuerConnector)) {
+        if (allowedConsumer == null || !URI.create(allowedConsumer).equals(issuerConnector)) {
             if (log.isDebugEnabled()) {
                 log.debug("Invalid consumer connector. [issuer=({})]", issuerConnector);
             }
@@ -276,25 +285,18 @@ public class RuleValidator {
     /**
      * Checks whether the requesting connector has the right security level.
      *
-     * @param rule    The ids rule.
-     * @param profile The security profile.
+     * @param allowedProfile The required security profile.
+     * @param profile        The security profile.
      * @throws PolicyRestrictionException If the connector ids do no match.
      */
-    @SuppressFBWarnings("DCN_NULLPOINTER_EXCEPTION")
-    private void validateSecurityProfile(final Rule rule, final Optional<SecurityProfile> profile)
+    private void validateSecurityProfile(final String allowedProfile,
+                                         final Optional<SecurityProfile> profile)
             throws PolicyRestrictionException {
         if (profile.isEmpty()) {
             throw new PolicyRestrictionException(ErrorMessage.MISSING_SECURITY_PROFILE_CLAIM);
         }
 
-        try {
-            final var allowedProfile = RuleUtils.getSecurityProfile(rule);
-            final var securityProfile = profile.get();
-            if (!allowedProfile.equals(securityProfile.toString())) {
-                throw new PolicyRestrictionException(
-                        ErrorMessage.DATA_ACCESS_INVALID_SECURITY_PROFILE);
-            }
-        } catch (NullPointerException e) {
+        if (allowedProfile == null || !allowedProfile.equals(profile.get().toString())) {
             throw new PolicyRestrictionException(
                     ErrorMessage.DATA_ACCESS_INVALID_SECURITY_PROFILE);
         }
@@ -15,30 +15,34 @@
  */
 package io.dataspaceconnector.service.usagecontrol;
 
-import io.dataspaceconnector.common.ids.policy.ContractUtils;
 import io.dataspaceconnector.common.ids.policy.RuleUtils;
 import io.dataspaceconnector.common.exception.ResourceNotFoundException;
 import io.dataspaceconnector.common.ids.policy.UsageControlFramework;
 import io.dataspaceconnector.config.ConnectorConfig;
-import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.model.agreement.DataRemoval;
+import io.dataspaceconnector.repository.DataRemovalRepository;
 import io.dataspaceconnector.service.resource.type.AgreementService;
 import io.dataspaceconnector.service.resource.type.ArtifactService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
  * This class implements automated policy check.
  */
+@EnableAsync
 @EnableScheduling
 @Log4j2
 @RequiredArgsConstructor
@@ -46,9 +50,9 @@ import java.util.UUID;
 public class ScheduledDataRemoval {
 
     /**
-     * The delay of the scheduler.
+     * The maximum number of removals carried out per batch.
      */
-    private static final int FIXED_DELAY = 60_000;
+    private static final int BATCH_SIZE = 100;
 
     /**
      * Service for configuring policy settings.
@@ -56,12 +60,7 @@ public class ScheduledDataRemoval {
     private final @NonNull ConnectorConfig connectorConfig;
 
     /**
-     * Service for ids deserialization.
-     */
-    private final @NonNull DeserializationService deserializationService;
-
-    /**
-     * Service for ids deserialization.
+     * Service for managing agreements.
      */
     private final @NonNull AgreementService agreementService;
 
@@ -71,16 +70,31 @@ public class ScheduledDataRemoval {
     private final @NonNull ArtifactService artifactService;
 
     /**
-     * Periodically checks agreements for data deletion.
+     * Repository for the dates after which data has to be deleted.
+     */
+    private final @NonNull DataRemovalRepository removalRepository;
+
+    /**
+     * Whether agreements stored by previous versions have been indexed.
+     */
+    private boolean legacyIndexed;
+
+    /**
+     * Periodically removes data whose deletion date has passed. Removals are usually triggered
+     * by the {@link PolicyExpirationScheduler}, this covers removals that have been missed.
      */
-    @Scheduled(fixedDelay = FIXED_DELAY)
+    @Scheduled(fixedDelayString = "${policy.removal.interval:60000}")
     public void schedule() {
         try {
             if (connectorConfig.getUcFramework() == UsageControlFramework.INTERNAL) {
+                if (!legacyIndexed) {
+                    agreementService.indexLegacyAgreements();
+                    legacyIndexed = true;
+                }
                 if (log.isInfoEnabled()) {
-                    log.info("Scanning agreements...");
+                    log.info("Removing data of expired agreements...");
                 }
-                scanAgreements();
+                removeDueData();
             }
         } catch (IllegalArgumentException | DateTimeParseException | ResourceNotFoundException e) {
             if (log.isWarnEnabled()) {
@@ -90,26 +104,80 @@ public class ScheduledDataRemoval {
     }
 
     /**
-     * Checks all known agreements for artifacts that have to be deleted.
+     * Removes due data as soon as the deletion date of an agreement has been reached. Runs
+     * asynchronously, so deleting the data does not hold up the tick of the
+     * {@link PolicyExpirationScheduler} and other scheduled tasks.
+     *
+     * @param event The expiration event.
+     */
+    @Async
+    @EventListener
+    public void handleExpiration(final PolicyExpirationEvent event) {
+        if (event.getType() != PolicyExpirationEvent.Type.DATA_REMOVAL
+                || connectorConfig.getUcFramework() != UsageControlFramework.INTERNAL) {
+            return;
+        }
+
+        try {
+            removeDueData();
+        } catch (IllegalArgumentException | ResourceNotFoundException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to remove data. [agreements=({}), exception=({})]",
+                        event.getAgreements(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Removes the data of all targets whose deletion date has passed, in batches. Removals are
+     * marked as processed once the data has been deleted, so they are not carried out again.
+     * Removals whose artifact could not be found or whose data could not be deleted stay pending
+     * and are retried by the next run.
      *
-     * @throws DateTimeParseException    If a date from a policy cannot be parsed.
-     * @throws IllegalArgumentException  If the rule could not be deserialized.
+     * @throws IllegalArgumentException  If a target could not be resolved.
      * @throws ResourceNotFoundException If the data could not be deleted.
      */
-    private void scanAgreements() throws DateTimeParseException, IllegalArgumentException,
+    private synchronized void removeDueData() throws IllegalArgumentException,
             ResourceNotFoundException {
-        for (final var agreement : agreementService.getAll(Pageable.unpaged())) {
-            final var value = agreement.getValue();
-            final var idsAgreement = deserializationService.getContractAgreement(value);
-            for (final var rule : ContractUtils.extractRulesFromContract(idsAgreement)) {
-                if (RuleUtils.checkRuleForPostDuties(rule)) {
-                    final var artifactId = artifactService.identifyByRemoteId(rule.getTarget());
-                    if (artifactId.isPresent() && !isDataDeleted(artifactId.get())) {
-                        removeDataFromArtifact(artifactId.get());
-                    }
+        final var now = RuleUtils.getCurrentDate();
+        // Pending removals come first in each query, they are skipped within this run.
+        var unresolved = 0;
+        List<DataRemoval> batch;
+        do {
+            final var due = removalRepository.findAllDue(now,
+                    PageRequest.of(0, unresolved + BATCH_SIZE));
+            batch = due.subList(Math.min(unresolved, due.size()), due.size());
+
+            final var processed = new ArrayList<UUID>();
+            for (final var removal : batch) {
+                if (removeData(removal)) {
+                    processed.add(removal.getId());
                 }
             }
+
+            if (!processed.isEmpty()) {
+                removalRepository.markProcessed(processed);
+            }
+            unresolved += batch.size() - processed.size();
+        } while (batch.size() == BATCH_SIZE);
+    }
+
+    /**
+     * Delete the data of a removal's target, unless it has already been deleted.
+     *
+     * @param removal The removal.
+     * @return True if the data has been deleted, false if it is still to be deleted.
+     */
+    private boolean removeData(final DataRemoval removal) {
+        final var artifactId = artifactService.identifyByRemoteId(removal.getTarget());
+        if (artifactId.isEmpty()) {
+            if (log.isDebugEnabled()) {
+                log.debug("No artifact found for removal. [target=({})]", removal.getTarget());
+            }
+            return false;
         }
+
+        return isDataDeleted(artifactId.get()) || removeDataFromArtifact(artifactId.get());
     }
 
     /**
@@ -126,18 +194,21 @@ public class ScheduledDataRemoval {
      * Delete data by artifact id.
      *
      * @param artifactId The artifact uuid.
+     * @return True if the data has been deleted, false otherwise.
      */
-    private void removeDataFromArtifact(final UUID artifactId) {
+    private boolean removeDataFromArtifact(final UUID artifactId) {
         try {
-            artifactService.setData(artifactId, InputStream.nullInputStream());
+            artifactService.deleteData(artifactId);
             if (log.isDebugEnabled()) {
                 log.debug("Removed data from artifact. [id=({})]", artifactId);
             }
-        } catch (IOException | ResourceNotFoundException e) {
+            return true;
+        } catch (ResourceNotFoundException e) {
             if (log.isWarnEnabled()) {
                 log.warn("Failed to remove data from artifact. [id=({}), exception=({})]",
                         artifactId, e.getMessage());
             }
+            return false;
         }
     }
 }
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.ids.message;
+
+import io.dataspaceconnector.common.exception.PolicyExecutionException;
+import io.dataspaceconnector.model.message.ClearingHouseLogEntry;
+import io.dataspaceconnector.repository.ClearingHouseOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClearingHouseOutboxSenderTest {
+
+    private final UUID processId = UUID.randomUUID();
+
+    private final UUID otherProcessId = UUID.randomUUID();
+
+    private ClearingHouseService clearingHouseSvc;
+
+    private ClearingHouseOutboxRepository outboxRepository;
+
+    private ClearingHouseOutboxSender sender;
+
+    @BeforeEach
+    void init() {
+        clearingHouseSvc = Mockito.mock(ClearingHouseService.class);
+        outboxRepository = Mockito.mock(ClearingHouseOutboxRepository.class);
+        sender = new ClearingHouseOutboxSender(clearingHouseSvc, outboxRepository);
+        ReflectionTestUtils.setField(sender, "batchSize", 10);
+        ReflectionTestUtils.setField(sender, "retryDelay", 1000L);
+        ReflectionTestUtils.setField(sender, "maxAttempts", 30);
+
+        when(clearingHouseSvc.isClearingHouseEnabled()).thenReturn(true);
+    }
+
+    @Test
+    void flush_itemsDue_sendInOrderAndDelete() {
+        /* ARRANGE */
+        final var first = getEntry(processId, "first", 0);
+        final var second = getEntry(processId, "second", 0);
+        when(outboxRepository.findAllDue(any(), any())).thenReturn(List.of(first, second));
+
+        /* ACT */
+        sender.flush();
+
+        /* ASSERT */
+        final var order = inOrder(clearingHouseSvc);
+        order.verify(clearingHouseSvc).sendLog(processId, "first");
+        order.verify(clearingHouseSvc).sendLog(processId, "second");
+        verify(outboxRepository, times(1))
+                .deleteAllByIdInBatch(List.of(first.getId(), second.getId()));
+        verify(outboxRepository, never()).postpone(any(), any());
+    }
+
+    @Test
+    void flush_sendingFails_postponeItemAndHoldBackProcess() {
+        /* ARRANGE */
+        final var first = getEntry(processId, "first", 0);
+        final var second = getEntry(processId, "second", 0);
+        final var other = getEntry(otherProcessId, "other", 0);
+        when(outboxRepository.findAllDue(any(), any())).thenReturn(List.of(first, other, second));
+        doThrow(PolicyExecutionException.class).when(clearingHouseSvc).sendLog(processId, "first");
+
+        /* ACT */
+        sender.flush();
+
+        /* ASSERT */
+        verify(clearingHouseSvc, never()).sendLog(processId, "second");
+        verify(outboxRepository, times(1)).postpone(eq(List.of(first.getId())), any());
+        verify(outboxRepository, times(1)).deleteAllByIdInBatch(List.of(other.getId()));
+    }
+
+    @Test
+    void flush_unexpectedFailure_postponeItem() {
+        /* ARRANGE */
+        final var first = getEntry(processId, "first", 0);
+        final var second = getEntry(processId, "second", 0);
+        when(outboxRepository.findAllDue(any(), any())).thenReturn(List.of(first, second));
+        doThrow(new QueryTimeoutException("timeout")).when(clearingHouseSvc)
+                .sendLog(processId, "first");
+
+        /* ACT */
+        sender.flush();
+
+        /* ASSERT */
+        verify(clearingHouseSvc, never()).sendLog(processId, "second");
+        verify(outboxRepository, times(1)).postpone(eq(List.of(first.getId())), any());
+    }
+
+    @Test
+    void flush_maxAttemptsReached_giveUpItemAndSendNext() {
+        /* ARRANGE */
+        final var first = getEntry(processId, "first", 29);
+        final var second = getEntry(processId, "second", 0);
+        when(outboxRepository.findAllDue(any(), any())).thenReturn(List.of(first, second));
+        doThrow(PolicyExecutionException.class).when(clearingHouseSvc).sendLog(processId, "first");
+
+        /* ACT */
+        sender.flush();
+
+        /* ASSERT */
+        verify(outboxRepository, times(1)).markFailed(List.of(first.getId()));
+        verify(outboxRepository, never()).postpone(any(), any());
+        verify(outboxRepository, times(1)).deleteAllByIdInBatch(List.of(second.getId()));
+    }
+
+    @Test
+    void flush_repeatedFailures_increaseRetryDelay() {
+        /* ARRANGE */
+        final var entry = getEntry(processId, "first", 3);
+        when(outboxRepository.findAllDue(any(), any())).thenReturn(List.of(entry));
+        doThrow(PolicyExecutionException.class).when(clearingHouseSvc).sendLog(any(), any());
+        final var before = ZonedDateTime.now(ZoneOffset.UTC);
+
+        /* ACT */
+        sender.flush();
+
+        /* ASSERT */
+        verify(outboxRepository, times(1)).postpone(any(), argThat((ZonedDateTime next) ->
+                !next.isBefore(before.plusSeconds(8))
+                        && next.isBefore(before.plusSeconds(9))));
+    }
+
+    @Test
+    void flush_clearingHouseDisabled_sendNothing() {
+        /* ARRANGE */
+        when(clearingHouseSvc.isClearingHouseEnabled()).thenReturn(false);
+
+        /* ACT */
+        sender.flush();
+
+        /* ASSERT */
+        verify(outboxRepository, never()).findAllDue(any(), any());
+    }
+
+    @Test
+    void init_runFails_keepSendingPeriodically() {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(sender, "interval", 10L);
+        when(outboxRepository.findAllDue(any(), any()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(List.of());
+
+        /* ACT */
+        sender.init();
+
+        /* ASSERT */
+        try {
+            verify(outboxRepository, timeout(1000).atLeast(2)).findAllDue(any(), any());
+        } finally {
+            sender.shutdown();
+        }
+    }
+
+    @Test
+    void init_runThrowsError_keepSendingPeriodically() {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(sender, "interval", 10L);
+        when(outboxRepository.findAllDue(any(), any()))
+                .thenThrow(new NoClassDefFoundError("missing"))
+                .thenReturn(List.of());
+
+        /* ACT */
+        sender.init();
+
+        /* ASSERT */
+        try {
+            verify(outboxRepository, timeout(1000).atLeast(2)).findAllDue(any(), any());
+        } finally {
+            sender.shutdown();
+        }
+    }
+
+    @Test
+    void getLag_oldestItem_returnAge() {
+        /* ARRANGE */
+        when(outboxRepository.findOldestCreationDate())
+                .thenReturn(ZonedDateTime.now(ZoneOffset.UTC).minusMinutes(5));
+
+        /* ACT */
+        final var result = sender.getLag();
+
+        /* ASSERT */
+        assertTrue(result.compareTo(Duration.ofMinutes(5)) >= 0);
+    }
+
+    @Test
+    void getLag_noItems_returnZero() {
+        /* ACT && ASSERT */
+        assertEquals(Duration.ZERO, sender.getLag());
+    }
+
+    /***********************************************************************************************
+     * Utilities.                                                                                  *
+     **********************************************************************************************/
+
+    private ClearingHouseLogEntry getEntry(final UUID process, final String payload,
+                                           final int attempts) {
+        final var now = ZonedDateTime.now(ZoneOffset.UTC);
+        return new ClearingHouseLogEntry(UUID.randomUUID(), process, payload, now, attempts, now,
+                false);
+    }
+}
@@ -34,12 +34,15 @@ import org.junit.jupiter.api.Test;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
 
 import static de.fraunhofer.ids.messaging.util.IdsMessageUtils.getGregorianNow;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MessageUtilsTest {
 
@@ -162,6 +165,78 @@ class MessageUtilsTest {
         assertThrows(IllegalArgumentException.class, () -> MessageUtils.extractAffectedResource(null));
     }
 
+    @Test
+    public void hasBinaryPayload_markedMessage_returnTrue() {
+        /* ARRANGE */
+        final var message = getArtifactRequestMessageWithTransferContract();
+        MessageUtils.setBinaryPayload(message);
+
+        /* ACT */
+        final var result = MessageUtils.hasBinaryPayload(message);
+
+        /* ASSERT */
+        assertTrue(result);
+    }
+
+    @Test
+    public void hasBinaryPayload_unmarkedMessage_returnFalse() {
+        /* ARRANGE */
+        final var message = getArtifactRequestMessageWithTransferContract();
+
+        /* ACT */
+        final var result = MessageUtils.hasBinaryPayload(message);
+
+        /* ASSERT */
+        assertFalse(result);
+    }
+
+    @Test
+    public void removeBinaryPayload_markedMessage_hasBinaryPayloadReturnFalse() {
+        /* ARRANGE */
+        final var message = getArtifactRequestMessageWithTransferContract();
+        MessageUtils.setBinaryPayload(message);
+
+        /* ACT */
+        MessageUtils.removeBinaryPayload(message);
+
+        /* ASSERT */
+        assertFalse(MessageUtils.hasBinaryPayload(message));
+    }
+
+    @Test
+    public void hasBinaryPayload_null_returnFalse() {
+        /* ARRANGE */
+        // Nothing to arrange here.
+
+        /* ACT & ASSERT */
+        assertFalse(MessageUtils.hasBinaryPayload(null));
+    }
+
+    @Test
+    public void extractContentRange_markedMessage_returnContentRange() {
+        /* ARRANGE */
+        final var message = getArtifactRequestMessageWithTransferContract();
+        MessageUtils.setContentRange(message, "bytes 0-9/100");
+
+        /* ACT */
+        final var result = MessageUtils.extractContentRange(message);
+
+        /* ASSERT */
+        assertEquals(Optional.of("bytes 0-9/100"), result);
+    }
+
+    @Test
+    public void extractContentRange_unmarkedMessage_returnEmpty() {
+        /* ARRANGE */
+        final var message = getArtifactRequestMessageWithTransferContract();
+
+        /* ACT */
+        final var result = MessageUtils.extractContentRange(message);
+
+        /* ASSERT */
+        assertTrue(result.isEmpty());
+    }
+
     @Test
     public void extractIssuerConnector_validMessage_returnIssuerConnector() {
         /* ARRANGE */
@@ -537,6 +537,68 @@ class RuleUtilsTest {
         assertThrows(NumberFormatException.class, () -> RuleUtils.getMaxAccess(permission));
     }
 
+    @Test
+    public void getParameters_nTimesUsage_returnPatternAndMaxAccess() {
+        /* ARRANGE */
+        final var constraint = new ConstraintBuilder()
+                ._leftOperand_(LeftOperand.COUNT)
+                ._operator_(BinaryOperator.LTEQ)
+                ._rightOperand_(new RdfResource("3", URI.create("xsd:decimal")))
+                .build();
+
+        final var permission = new PermissionBuilder()
+                ._action_(Util.asList(Action.USE))
+                ._constraint_(Util.asList(constraint))
+                .build();
+
+        /* ACT */
+        final var result = RuleUtils.getParameters(permission);
+
+        /* ASSERT */
+        assertEquals(PolicyPattern.N_TIMES_USAGE, result.getPattern());
+        assertEquals(3, result.getMaxAccess());
+        assertNull(result.getIntervalStart());
+        assertNull(result.getEndpoint());
+    }
+
+    @Test
+    public void getParameters_invalidMaxAccess_returnPatternWithoutMaxAccess() {
+        /* ARRANGE */
+        final var constraint = new ConstraintBuilder()
+                ._leftOperand_(LeftOperand.COUNT)
+                ._operator_(BinaryOperator.EQ)
+                ._rightOperand_(new RdfResource(
+                        "I am not an integer.", URI.create("xsd:decimal")))
+                .build();
+
+        final var permission = new PermissionBuilder()
+                ._action_(Util.asList(Action.USE))
+                ._constraint_(Util.asList(constraint))
+                .build();
+
+        /* ACT */
+        final var result = RuleUtils.getParameters(permission);
+
+        /* ASSERT */
+        assertEquals(PolicyPattern.N_TIMES_USAGE, result.getPattern());
+        assertNull(result.getMaxAccess());
+    }
+
+    @Test
+    public void getParameters_prohibition_returnPatternOnly() {
+        /* ARRANGE */
+        final var prohibition = new ProhibitionBuilder()
+                ._action_(Util.asList(Action.USE))
+                .build();
+
+        /* ACT */
+        final var result = RuleUtils.getParameters(prohibition);
+
+        /* ASSERT */
+        assertEquals(PolicyPattern.PROHIBIT_ACCESS, result.getPattern());
+        assertNull(result.getMaxAccess());
+    }
+
     @Test
     public void getTimeInterval_inputNull_throwNullPointerException() {
         /* ACT & ASSERT */
@@ -1125,6 +1187,40 @@ class RuleUtilsTest {
         assertFalse(RuleUtils.checkRuleForDeletion(expiredRule.getPostDuty().get(0)));
     }
 
+    @Test
+    public void getDeletionDate_permissionWithDeletionDuty_returnDate() {
+        /* ARRANGE */
+        final var rule = new PermissionBuilder()
+                ._action_(Util.asList(Action.USE))
+                ._postDuty_(Util.asList(new DutyBuilder()
+                        ._action_(Util.asList(Action.DELETE))
+                        ._constraint_(Util.asList(new ConstraintBuilder()
+                                ._leftOperand_(LeftOperand.POLICY_EVALUATION_TIME)
+                                ._operator_(BinaryOperator.TEMPORAL_EQUALS)
+                                ._rightOperand_(new RdfResource("2050-07-11T00:00:00Z",
+                                        URI.create("xsd:dateTimeStamp")))
+                                .build()))
+                        .build()))
+                .build();
+
+        /* ACT */
+        final var result = RuleUtils.getDeletionDate(rule);
+
+        /* ASSERT */
+        assertEquals(ZonedDateTime.parse("2050-07-11T00:00:00Z"), result);
+    }
+
+    @Test
+    public void getDeletionDate_permissionWithoutPostDuty_returnNull() {
+        /* ARRANGE */
+        final var rule = new PermissionBuilder()
+                ._action_(Util.asList(Action.USE))
+                .build();
+
+        /* ACT && ASSERT */
+        assertNull(RuleUtils.getDeletionDate(rule));
+    }
+
     @Test
     public void isExpired_dateBefore_returnTrue() {
         /* ARRANGE */
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class Base64CodecTest {
+
+    @Test
+    void encodeToString_data_returnBase64() throws IOException {
+        /* ARRANGE */
+        final var data = new byte[200_000];
+        for (var i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        /* ACT */
+        final var result = Base64Codec.encodeToString(new ByteArrayInputStream(data));
+
+        /* ASSERT */
+        assertEquals(Base64.getEncoder().encodeToString(data), result);
+    }
+
+    @Test
+    void encodeToString_dataNotAvailableInAdvance_returnBase64() throws IOException {
+        /* ARRANGE */
+        final var data = new byte[50_000];
+        for (var i = 0; i < data.length; i++) {
+            data[i] = (byte) (i * 7);
+        }
+        final var stream = new ByteArrayInputStream(data) {
+            @Override
+            public synchronized int available() {
+                return 0;
+            }
+        };
+
+        /* ACT */
+        final var result = Base64Codec.encodeToString(stream);
+
+        /* ASSERT */
+        assertEquals(Base64.getEncoder().encodeToString(data), result);
+    }
+
+    @Test
+    void encodeToString_bytes_returnBase64() {
+        /* ARRANGE */
+        final var data = new byte[]{-1, 0, 1, 2, 3, 127, -128};
+
+        /* ACT */
+        final var result = Base64Codec.encodeToString(data);
+
+        /* ASSERT */
+        assertEquals(Base64.getEncoder().encodeToString(data), result);
+    }
+
+    @Test
+    void encode_dataWithPadding_encodeWhileReading() throws IOException {
+        /* ARRANGE */
+        final var data = new byte[]{-1, 0, 1, 2, 3, 127, -128};
+
+        /* ACT */
+        try (var result = Base64Codec.encode(new ByteArrayInputStream(data))) {
+            /* ASSERT */
+            assertArrayEquals(Base64.getEncoder().encode(data), result.readAllBytes());
+        }
+    }
+
+    @Test
+    void decode_base64_returnData() throws IOException {
+        /* ARRANGE */
+        final var data = new byte[]{-1, 0, 1, 2, 3, 127, -128};
+        final var base64 = Base64.getEncoder().encodeToString(data);
+
+        /* ACT */
+        try (var result = Base64Codec.decode(base64)) {
+            /* ASSERT */
+            assertArrayEquals(data, result.readAllBytes());
+        }
+    }
+
+    @Test
+    void decode_illegalCharacters_throwIOExceptionOnRead() {
+        /* ARRANGE */
+        final var result = Base64Codec.decode("AB\r\nCD");
+
+        /* ACT & ASSERT */
+        assertThrows(IOException.class, result::readAllBytes);
+    }
+
+    @Test
+    void decode_malformedBase64_throwIOExceptionOnRead() {
+        /* ARRANGE */
+        final var result = Base64Codec.decode("AB=C");
+
+        /* ACT & ASSERT */
+        assertThrows(IOException.class, result::readAllBytes);
+    }
+}
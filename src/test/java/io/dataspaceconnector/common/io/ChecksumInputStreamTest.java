@@ -0,0 +1,60 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ChecksumInputStreamTest {
+
+    @Test
+    void read_completeStream_checksumAndSizeOfData() throws IOException {
+        /* ARRANGE */
+        final var data = "some data".getBytes(StandardCharsets.UTF_8);
+        final var expected = new CRC32C();
+        expected.update(data, 0, data.length);
+
+        /* ACT */
+        try (var stream = new ChecksumInputStream(new ByteArrayInputStream(data))) {
+            stream.read();
+            stream.skip(2);
+            stream.readAllBytes();
+
+            /* ASSERT */
+            assertEquals(data.length, stream.getByteSize());
+            assertEquals(expected.getValue(), stream.getChecksum());
+        }
+    }
+
+    @Test
+    void read_emptyStream_zeroChecksumAndSize() throws IOException {
+        /* ACT */
+        try (var stream = new ChecksumInputStream(InputStream.nullInputStream())) {
+            stream.readAllBytes();
+
+            /* ASSERT */
+            assertEquals(0, stream.getByteSize());
+            assertEquals(0, stream.getChecksum());
+        }
+    }
+}
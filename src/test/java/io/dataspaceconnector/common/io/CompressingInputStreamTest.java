@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompressingInputStreamTest {
+
+    @Test
+    void read_dataLargerThanBlock_returnCompressedData() throws IOException {
+        /* ARRANGE */
+        final var data = new byte[100_000];
+        for (var i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 10);
+        }
+
+        /* ACT */
+        final byte[] compressed;
+        try (var stream = new CompressingInputStream(new ByteArrayInputStream(data),
+                GZIPOutputStream::new)) {
+            compressed = stream.readAllBytes();
+        }
+
+        /* ASSERT */
+        assertTrue(compressed.length < data.length);
+        try (var decompressed = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertArrayEquals(data, decompressed.readAllBytes());
+        }
+    }
+
+    @Test
+    void read_emptyData_returnValidCompressedData() throws IOException {
+        /* ACT */
+        final byte[] compressed;
+        try (var stream = new CompressingInputStream(InputStream.nullInputStream(),
+                GZIPOutputStream::new)) {
+            compressed = stream.readAllBytes();
+        }
+
+        /* ASSERT */
+        try (var decompressed = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertArrayEquals(new byte[0], decompressed.readAllBytes());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class Crc32cTest {
+
+    @Test
+    void combine_twoBlocks_returnChecksumOfConcatenation() {
+        /* ARRANGE */
+        final var first = "The quick brown fox ".getBytes(StandardCharsets.UTF_8);
+        final var second = "jumps over the lazy dog".repeat(1000)
+                .getBytes(StandardCharsets.UTF_8);
+
+        final var expected = new CRC32C();
+        expected.update(first);
+        expected.update(second);
+
+        /* ACT */
+        final var result = Crc32c.combine(checksum(first), checksum(second), second.length);
+
+        /* ASSERT */
+        assertEquals(expected.getValue(), result);
+    }
+
+    @Test
+    void combine_emptyBlock_returnOtherChecksum() {
+        /* ARRANGE */
+        final var data = "data".getBytes(StandardCharsets.UTF_8);
+
+        /* ACT && ASSERT */
+        assertEquals(checksum(data), Crc32c.combine(checksum(data), 0, 0));
+        assertEquals(checksum(data), Crc32c.combine(0, checksum(data), data.length));
+    }
+
+    private static long checksum(final byte[] data) {
+        final var checksum = new CRC32C();
+        checksum.update(data);
+        return checksum.getValue();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FileRegionInputStreamTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void readAllBytes_region_returnOnlyRegion() throws IOException {
+        /* ARRANGE */
+        final var file = Files.write(root.resolve("data"), "0123456789".getBytes());
+
+        /* ACT */
+        try (var stream = new FileRegionInputStream(
+                FileChannel.open(file, StandardOpenOption.READ), 3, 4)) {
+            /* ASSERT */
+            assertArrayEquals("3456".getBytes(), stream.readAllBytes());
+            assertEquals(-1, stream.read());
+        }
+    }
+
+    @Test
+    void transferTo_regionBeyondEnd_transferUntilEndOfFile() throws IOException {
+        /* ARRANGE */
+        final var file = Files.write(root.resolve("data"), "0123456789".getBytes());
+        final var output = new ByteArrayOutputStream();
+
+        /* ACT */
+        final long count;
+        try (var stream = new FileRegionInputStream(
+                FileChannel.open(file, StandardOpenOption.READ), 6, Long.MAX_VALUE)) {
+            count = stream.transferTo(output);
+        }
+
+        /* ASSERT */
+        assertEquals(4, count);
+        assertArrayEquals("6789".getBytes(), output.toByteArray());
+    }
+}
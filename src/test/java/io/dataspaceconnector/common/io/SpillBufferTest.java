@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SpillBufferTest {
+
+    @Test
+    void newInputStream_dataBelowThreshold_replayData() throws IOException {
+        /* ARRANGE */
+        final var data = new byte[]{1, 2, 3};
+
+        /* ACT */
+        try (var buffer = SpillBuffer.of(new ByteArrayInputStream(data), 10)) {
+            /* ASSERT */
+            try (var first = buffer.newInputStream(); var second = buffer.newInputStream()) {
+                assertArrayEquals(data, first.readAllBytes());
+                assertArrayEquals(data, second.readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    void newInputStream_dataAboveThreshold_replayDataFromFile() throws IOException {
+        /* ARRANGE */
+        final var data = new byte[1000];
+        for (var i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        /* ACT */
+        try (var buffer = SpillBuffer.of(new ByteArrayInputStream(data), 10)) {
+            /* ASSERT */
+            try (var first = buffer.newInputStream(); var second = buffer.newInputStream()) {
+                assertArrayEquals(data, first.readAllBytes());
+                assertArrayEquals(data, second.readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    void toInputStream_closeStream_deleteFile() throws IOException {
+        /* ARRANGE */
+        final var data = new byte[100];
+        final var buffer = SpillBuffer.of(new ByteArrayInputStream(data), 10);
+
+        /* ACT */
+        try (var stream = buffer.toInputStream()) {
+            assertArrayEquals(data, stream.readAllBytes());
+        }
+
+        /* ASSERT */
+        assertThrows(NoSuchFileException.class, buffer::newInputStream);
+    }
+}
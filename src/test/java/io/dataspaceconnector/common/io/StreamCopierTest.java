@@ -0,0 +1,60 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.io;
+
+import io.dataspaceconnector.common.net.ByteRange;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StreamCopierTest {
+
+    @Test
+    void copy_dataLargerThanBuffer_copyAllData() throws IOException {
+        /* ARRANGE */
+        final var data = new byte[200_000];
+        for (var i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        final var output = new ByteArrayOutputStream();
+
+        /* ACT */
+        final var count = StreamCopier.copy(new ByteArrayInputStream(data), output);
+
+        /* ASSERT */
+        assertEquals(data.length, count);
+        assertArrayEquals(data, output.toByteArray());
+    }
+
+    @Test
+    void copy_rangedData_copyRange() throws IOException {
+        /* ARRANGE */
+        final var data = new RangedInputStream(new ByteArrayInputStream(new byte[]{2, 3}),
+                new ByteRange(2, 3), 4);
+        final var output = new ByteArrayOutputStream();
+
+        /* ACT */
+        StreamCopier.copy(data, output);
+
+        /* ASSERT */
+        assertArrayEquals(new byte[]{2, 3}, output.toByteArray());
+    }
+}
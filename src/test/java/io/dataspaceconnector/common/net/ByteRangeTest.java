@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.net;
+
+import io.dataspaceconnector.common.exception.RangeNotSatisfiableException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ByteRangeTest {
+
+    @Test
+    void parse_closedRange_returnRange() {
+        /* ACT */
+        final var result = ByteRange.parse("bytes=10-19", 100);
+
+        /* ASSERT */
+        assertEquals(Optional.of(new ByteRange(10, 19)), result);
+        assertEquals(10, result.get().getLength());
+        assertEquals("bytes 10-19/100", result.get().toContentRange(100));
+    }
+
+    @Test
+    void parse_openRange_returnRangeUntilEnd() {
+        /* ACT && ASSERT */
+        assertEquals(Optional.of(new ByteRange(90, 99)), ByteRange.parse("bytes=90-", 100));
+        assertEquals(Optional.of(new ByteRange(90, 99)), ByteRange.parse("bytes=90-500", 100));
+    }
+
+    @Test
+    void parse_suffixRange_returnLastBytes() {
+        /* ACT && ASSERT */
+        assertEquals(Optional.of(new ByteRange(80, 99)), ByteRange.parse("bytes=-20", 100));
+        assertEquals(Optional.of(new ByteRange(0, 99)), ByteRange.parse("bytes=-500", 100));
+    }
+
+    @Test
+    void parse_unsupportedOrMalformed_returnEmpty() {
+        /* ACT && ASSERT */
+        assertTrue(ByteRange.parse(null, 100).isEmpty());
+        assertTrue(ByteRange.parse("items=0-10", 100).isEmpty());
+        assertTrue(ByteRange.parse("bytes=0-10,20-30", 100).isEmpty());
+        assertTrue(ByteRange.parse("bytes=10-5", 100).isEmpty());
+        assertTrue(ByteRange.parse("bytes=a-b", 100).isEmpty());
+    }
+
+    @Test
+    void parse_startBeyondSize_throwRangeNotSatisfiableException() {
+        /* ACT && ASSERT */
+        assertThrows(RangeNotSatisfiableException.class, () -> ByteRange.parse("bytes=100-", 100));
+        assertThrows(RangeNotSatisfiableException.class, () -> ByteRange.parse("bytes=-1", 0));
+    }
+
+    @Test
+    void parseContentRange_validHeader_returnRange() {
+        /* ACT && ASSERT */
+        assertEquals(Optional.of(new ByteRange(0, 9)),
+                ByteRange.parseContentRange("bytes 0-9/100"));
+        assertEquals(Optional.of(new ByteRange(0, 9)), ByteRange.parseContentRange("bytes 0-9/*"));
+        assertTrue(ByteRange.parseContentRange("bytes */100").isEmpty());
+    }
+
+    @Test
+    void parseTotalSize_contentRange_returnSize() {
+        /* ACT && ASSERT */
+        assertEquals(100, ByteRange.parseTotalSize("bytes 0-9/100"));
+        assertEquals(-1, ByteRange.parseTotalSize("bytes 0-9/*"));
+        assertEquals(-1, ByteRange.parseTotalSize(null));
+    }
+}
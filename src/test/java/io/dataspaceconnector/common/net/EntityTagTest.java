@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.net;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityTagTest {
+
+    @Test
+    void of_checksumAndSize_returnQuotedTag() {
+        /* ACT && ASSERT */
+        assertEquals("\"ff-10\"", EntityTag.of(255, 16));
+    }
+
+    @Test
+    void withCoding_tag_appendCodingWithinQuotes() {
+        /* ACT && ASSERT */
+        assertEquals("\"ff-10-gzip\"", EntityTag.withCoding(EntityTag.of(255, 16), "gzip"));
+    }
+
+    @Test
+    void matchesAny_listOrWildcard_useWeakComparison() {
+        /* ARRANGE */
+        final var tag = EntityTag.of(1, 2);
+
+        /* ACT && ASSERT */
+        assertTrue(EntityTag.matchesAny("\"0-0\", " + tag, tag));
+        assertTrue(EntityTag.matchesAny("W/" + tag, tag));
+        assertTrue(EntityTag.matchesAny("*", tag));
+        assertFalse(EntityTag.matchesAny("\"0-0\"", tag));
+        assertFalse(EntityTag.matchesAny(null, tag));
+    }
+
+    @Test
+    void matchesStrongly_weakOrDifferentTag_returnFalse() {
+        /* ARRANGE */
+        final var tag = EntityTag.of(1, 2);
+
+        /* ACT && ASSERT */
+        assertTrue(EntityTag.matchesStrongly(tag, tag));
+        assertFalse(EntityTag.matchesStrongly("W/" + tag, tag));
+        assertFalse(EntityTag.matchesStrongly("\"0-0\"", tag));
+        assertFalse(EntityTag.matchesStrongly(tag, null));
+    }
+}
@@ -32,8 +32,10 @@ import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okio.Buffer;
 import org.bouncycastle.util.Arrays;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -199,6 +201,30 @@ class HttpServiceTest {
                 (HttpService.HttpArgs) null));
     }
 
+    @Test
+    @SneakyThrows
+    void get_responseWithBody_keepResponseOpenUntilDataClosed() {
+        /* ARRANGE */
+        final var target = new URL("https://target");
+        final var bytes = "response".getBytes(StandardCharsets.UTF_8);
+
+        when(httpSvc.get(any())).thenReturn(response);
+        when(response.code()).thenReturn(200);
+        when(response.body()).thenReturn(responseBody);
+        when(responseBody.byteStream()).thenReturn(new ByteArrayInputStream(bytes));
+
+        /* ACT */
+        final var result = (HttpResponse) service.get(target, new HttpService.HttpArgs());
+
+        /* ASSERT */
+        Mockito.verify(response, Mockito.never()).close();
+        Mockito.verify(responseBody, Mockito.never()).bytes();
+        try (var data = result.getData()) {
+            assertArrayEquals(bytes, data.readAllBytes());
+        }
+        Mockito.verify(response).close();
+    }
+
     @Test
     @SneakyThrows
     void post_withParamsAndHeaders_makePostRequest() {
@@ -229,4 +255,27 @@ class HttpServiceTest {
         assertEquals(responseCode, result.getCode());
         assertArrayEquals(bytes, result.getData().readAllBytes());
     }
+
+    @Test
+    @SneakyThrows
+    void post_data_streamDataWithUnknownLength() {
+        /* ARRANGE */
+        final var target = new URL("https://target");
+        final var data = new ByteArrayInputStream("data".getBytes(StandardCharsets.UTF_8));
+        final var request = ArgumentCaptor.forClass(Request.class);
+
+        when(httpSvc.send(request.capture())).thenReturn(response);
+        when(response.code()).thenReturn(200);
+
+        /* ACT */
+        service.post(target, new HttpService.HttpArgs(), data);
+
+        /* ASSERT */
+        final var body = request.getValue().body();
+        assertEquals(-1, body.contentLength());
+        assertTrue(body.isOneShot());
+        final var sink = new Buffer();
+        body.writeTo(sink);
+        assertEquals("data", sink.readUtf8());
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.routing;
+
+import io.dataspaceconnector.common.exception.DataDispatchException;
+import io.dataspaceconnector.common.io.SpillBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class MultiRouteDispatcherTest {
+
+    private final URI first = URI.create("https://route/1");
+
+    private final URI second = URI.create("https://route/2");
+
+    private final byte[] data = {0, 1, 2, (byte) 0xFF};
+
+    private final Map<URI, byte[]> received = new ConcurrentHashMap<>();
+
+    private RouteDataDispatcher routeDispatcher;
+
+    private MultiRouteDispatcher dispatcher;
+
+    @BeforeEach
+    void init() throws Exception {
+        routeDispatcher = Mockito.mock(RouteDataDispatcher.class);
+        doAnswer(invocation -> received.put(invocation.getArgument(0),
+                invocation.getArgument(1, InputStream.class).readAllBytes()))
+                .when(routeDispatcher).send(any(), any());
+
+        dispatcher = new MultiRouteDispatcher(routeDispatcher);
+        ReflectionTestUtils.setField(dispatcher, "threads", 2);
+        ReflectionTestUtils.setField(dispatcher, "queueCapacity", 2);
+        dispatcher.init();
+    }
+
+    @AfterEach
+    void shutdown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void dispatch_sequentialRouteFails_stopAtFailingRoute() throws Exception {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(dispatcher, "mode", RouteDispatchMode.SEQUENTIAL);
+        doThrow(new DataDispatchException("failed")).when(routeDispatcher).send(eq(first), any());
+
+        /* ACT && ASSERT */
+        assertThrows(DataDispatchException.class, () -> dispatcher.dispatch(
+                List.of(first, second), new ByteArrayInputStream(data)));
+        verify(routeDispatcher, never()).send(eq(second), any());
+    }
+
+    @Test
+    void dispatch_parallel_sendToAllRoutesAndReturnData() throws Exception {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(dispatcher, "mode", RouteDispatchMode.PARALLEL);
+
+        /* ACT */
+        try (var result = dispatcher.dispatch(List.of(first, second),
+                new ByteArrayInputStream(data))) {
+            /* ASSERT */
+            assertArrayEquals(data, result.readAllBytes());
+            assertArrayEquals(data, received.get(first));
+            assertArrayEquals(data, received.get(second));
+        }
+    }
+
+    @Test
+    void dispatch_parallelRouteFails_reportFailedRouteAfterAllRoutes() throws Exception {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(dispatcher, "mode", RouteDispatchMode.PARALLEL);
+        doThrow(new DataDispatchException("failed")).when(routeDispatcher).send(eq(first), any());
+
+        /* ACT */
+        final var exception = assertThrows(DataDispatchException.class, () -> dispatcher
+                .dispatch(List.of(first, second), new ByteArrayInputStream(data)));
+
+        /* ASSERT */
+        assertTrue(exception.getMessage().contains(first.toString()));
+        assertEquals(1, exception.getSuppressed().length);
+        assertArrayEquals(data, received.get(second));
+    }
+
+    @Test
+    void dispatch_background_returnDataBeforeRoutesFinish() throws Exception {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(dispatcher, "mode", RouteDispatchMode.BACKGROUND);
+        // Larger than the buffer threshold, so the routes read the data from a temporary file.
+        final var largeData = new byte[2 * SpillBuffer.DEFAULT_THRESHOLD];
+        largeData[largeData.length - 1] = 1;
+        final var release = new CountDownLatch(1);
+        final var done = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            release.await(1, TimeUnit.MINUTES);
+            received.put(invocation.getArgument(0),
+                    invocation.getArgument(1, InputStream.class).readAllBytes());
+            done.countDown();
+            return null;
+        }).when(routeDispatcher).send(any(), any());
+
+        /* ACT */
+        try (var result = dispatcher.dispatch(List.of(first, second),
+                new ByteArrayInputStream(largeData))) {
+            assertArrayEquals(largeData, result.readAllBytes());
+        }
+        assertTrue(received.isEmpty());
+        release.countDown();
+
+        /* ASSERT */
+        assertTrue(done.await(1, TimeUnit.MINUTES));
+        assertArrayEquals(largeData, received.get(first));
+        assertArrayEquals(largeData, received.get(second));
+    }
+}
@@ -15,8 +15,8 @@
  */
 package io.dataspaceconnector.common.routing;
 
+import java.io.ByteArrayInputStream;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 import io.dataspaceconnector.common.exception.DataDispatchException;
@@ -25,12 +25,14 @@ import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.Message;
 import org.apache.camel.ProducerTemplate;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -56,7 +58,7 @@ class RouteDataDispatcherTest {
 
     private final URI routeId = URI.create("https://" + UUID.randomUUID());
 
-    final byte[] data = "data".getBytes(StandardCharsets.UTF_8);
+    final byte[] data = {0, (byte) 0xC3, (byte) 0x28, (byte) 0xFF};
 
     @Test
     void send_noExceptionInRoute_sendData() {
@@ -66,7 +68,7 @@ class RouteDataDispatcherTest {
         when(exchange.getException()).thenReturn(null);
 
         /* ACT && ASSERT */
-        assertDoesNotThrow(() -> dispatcher.send(routeId, data));
+        assertDoesNotThrow(() -> dispatcher.send(routeId, new ByteArrayInputStream(data)));
     }
 
     @Test
@@ -77,7 +79,21 @@ class RouteDataDispatcherTest {
         when(exchange.getException()).thenReturn(new IllegalArgumentException());
 
         /* ACT && ASSERT */
-        assertThrows(DataDispatchException.class, () -> dispatcher.send(routeId, data));
+        assertThrows(DataDispatchException.class, () -> dispatcher.send(routeId, new ByteArrayInputStream(data)));
     }
 
+    @Test
+    void send_binaryData_useStreamAsBody() throws Exception {
+        /* ARRANGE */
+        final var stream = new ByteArrayInputStream(data);
+        final var captor = ArgumentCaptor.forClass(Exchange.class);
+        when(producerTemplate.send(anyString(), captor.capture())).thenReturn(exchange);
+        when(exchange.getException()).thenReturn(null);
+
+        /* ACT */
+        dispatcher.send(routeId, stream);
+
+        /* ASSERT */
+        assertSame(stream, captor.getValue().getIn().getBody());
+    }
 }
@@ -15,6 +15,8 @@
  */
 package io.dataspaceconnector.common.routing;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.UUID;
@@ -24,6 +26,7 @@ import io.dataspaceconnector.common.exception.NotImplemented;
 import lombok.SneakyThrows;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Message;
 import org.apache.camel.ProducerTemplate;
 import org.junit.jupiter.api.Test;
@@ -32,6 +35,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -63,10 +67,7 @@ class RouteDataRetrieverTest {
         final var url = new URL("https://" + UUID.randomUUID());
         final var response = "Some data retrieved via Camel";
 
-        when(producerTemplate.send(anyString(), any(Exchange.class))).thenReturn(exchange);
-        when(exchange.getIn()).thenReturn(in);
-        when(exchange.getException()).thenReturn(null);
-        when(in.getBody(String.class)).thenReturn(response);
+        mockRouteResult(new ByteArrayInputStream(response.getBytes()));
 
         /* ACT */
         final var result = routeDataRetriever.get(url, null);
@@ -75,6 +76,40 @@ class RouteDataRetrieverTest {
         assertEquals(response, new String(result.getData().readAllBytes()));
     }
 
+    @Test
+    @SneakyThrows
+    void get_binaryData_returnDataUnchanged() {
+        /* ARRANGE */
+        final var url = new URL("https://" + UUID.randomUUID());
+        final var response = new byte[256];
+        for (int i = 0; i < response.length; i++) {
+            response[i] = (byte) i;
+        }
+
+        mockRouteResult(new ByteArrayInputStream(response));
+
+        /* ACT */
+        final var result = routeDataRetriever.get(url, null);
+
+        /* ASSERT */
+        assertArrayEquals(response, result.getData().readAllBytes());
+    }
+
+    @Test
+    @SneakyThrows
+    void get_noBody_returnEmptyData() {
+        /* ARRANGE */
+        final var url = new URL("https://" + UUID.randomUUID());
+
+        mockRouteResult(null);
+
+        /* ACT */
+        final var result = routeDataRetriever.get(url, null);
+
+        /* ASSERT */
+        assertEquals(0, result.getData().readAllBytes().length);
+    }
+
     @Test
     @SneakyThrows
     void get_exceptionInRoute_throwDataRetrievalException() {
@@ -100,4 +135,17 @@ class RouteDataRetrieverTest {
                 () -> routeDataRetriever.get(url, null, new ArrayList<>()));
     }
 
+    private void mockRouteResult(final InputStream body) {
+        when(producerTemplate.send(anyString(), any(Exchange.class))).thenAnswer(invocation -> {
+            final var sent = invocation.getArgument(1, Exchange.class);
+            for (final var onCompletion
+                    : sent.adapt(ExtendedExchange.class).handoverCompletions()) {
+                onCompletion.onComplete(exchange);
+            }
+            return exchange;
+        });
+        when(exchange.getMessage()).thenReturn(in);
+        when(exchange.getException()).thenReturn(null);
+        when(in.getBody(InputStream.class)).thenReturn(body);
+    }
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    private static final long TICK = 1000;
+
+    private static final long START = 1_600_000_000_000L;
+
+    @Test
+    void advance_beforeDueTime_returnNothing() {
+        /* ARRANGE */
+        final var wheel = new TimingWheel<String>(TICK, START);
+        wheel.schedule("task", START + 5 * TICK);
+
+        /* ACT */
+        final var result = wheel.advance(START + 5 * TICK - 1);
+
+        /* ASSERT */
+        assertTrue(result.isEmpty());
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void advance_atDueTime_returnTask() {
+        /* ARRANGE */
+        final var wheel = new TimingWheel<String>(TICK, START);
+        wheel.schedule("task", START + 5 * TICK);
+
+        /* ACT */
+        final var result = wheel.advance(START + 5 * TICK);
+
+        /* ASSERT */
+        assertEquals(List.of("task"), result);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_dueTimeBetweenTicks_neverReturnEarly() {
+        /* ARRANGE */
+        final var wheel = new TimingWheel<String>(TICK, START);
+        wheel.schedule("task", START + TICK + 1);
+
+        /* ACT */
+        final var early = wheel.advance(START + TICK);
+        final var late = wheel.advance(START + 2 * TICK);
+
+        /* ASSERT */
+        assertTrue(early.isEmpty());
+        assertEquals(List.of("task"), late);
+    }
+
+    @Test
+    void advance_taskAlreadyDue_returnOnNextAdvance() {
+        /* ARRANGE */
+        final var wheel = new TimingWheel<String>(TICK, START);
+        wheel.schedule("task", START - TICK);
+
+        /* ACT */
+        final var result = wheel.advance(START);
+
+        /* ASSERT */
+        assertEquals(List.of("task"), result);
+    }
+
+    @Test
+    void advance_tasksOnHigherLevels_returnEachAtItsDueTime() {
+        /* ARRANGE */
+        final var wheel = new TimingWheel<Long>(TICK, START);
+        final var random = new Random(42);
+        final var dueTicks = new ArrayList<Long>();
+        for (int i = 0; i < 1000; i++) {
+            final long dueTick = 1 + random.nextInt(300_000);
+            dueTicks.add(dueTick);
+            wheel.schedule(dueTick, START + dueTick * TICK);
+        }
+
+        /* ACT */
+        final var fired = new ArrayList<Long>();
+        for (long tick = 1; tick <= 300_000; tick++) {
+            for (final var dueTick : wheel.advance(START + tick * TICK)) {
+                /* ASSERT */
+                assertEquals(tick, dueTick);
+                fired.add(dueTick);
+            }
+        }
+
+        /* ASSERT */
+        assertEquals(dueTicks.size(), fired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_taskBeyondHighestLevel_returnAtDueTime() {
+        /* ARRANGE */
+        final var wheel = new TimingWheel<String>(1, 0);
+        final var dueTime = (1L << 36) + 100;
+        wheel.schedule("task", dueTime);
+
+        /* ACT */
+        final var early = wheel.advance(dueTime - 1);
+        final var late = wheel.advance(dueTime);
+
+        /* ASSERT */
+        assertTrue(early.isEmpty());
+        assertEquals(List.of("task"), late);
+    }
+
+    @Test
+    void cancel_scheduledTask_doNotReturnTask() {
+        /* ARRANGE */
+        final var wheel = new TimingWheel<String>(TICK, START);
+        final var timeout = wheel.schedule("task", START + 100 * TICK);
+        wheel.schedule("other", START + 100 * TICK);
+
+        /* ACT */
+        final var cancelled = timeout.cancel();
+        final var result = wheel.advance(START + 100 * TICK);
+
+        /* ASSERT */
+        assertTrue(cancelled);
+        assertFalse(timeout.isPending());
+        assertEquals(List.of("other"), result);
+    }
+
+    @Test
+    void cancel_taskAlreadyDue_returnFalse() {
+        /* ARRANGE */
+        final var wheel = new TimingWheel<String>(TICK, START);
+        final var timeout = wheel.schedule("task", START + TICK);
+        wheel.advance(START + TICK);
+
+        /* ACT && ASSERT */
+        assertFalse(timeout.cancel());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void constructor_tickNotPositive_throwIllegalArgumentException() {
+        /* ACT && ASSERT */
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel<String>(0, START));
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.controller.exceptionhandler;
+
+import io.dataspaceconnector.common.exception.RangeNotSatisfiableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RangeNotSatisfiableExceptionHandlerTest {
+
+    private RangeNotSatisfiableExceptionHandler handler = new RangeNotSatisfiableExceptionHandler();
+
+    @Test
+    public void handleRangeNotSatisfiableException_anyException_returnRangeNotSatisfiable() {
+        /* ARRANGE */
+        final var exception = new RangeNotSatisfiableException(100);
+
+        /* ACT */
+        final var result = handler.handleException(exception);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, result.getStatusCode());
+        assertEquals("bytes */100", result.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+    }
+}
@@ -16,21 +16,27 @@
 package io.dataspaceconnector.controller.resource.type;
 
 import de.fraunhofer.ids.messaging.protocol.UnexpectedResponseException;
+import io.dataspaceconnector.common.io.RangedInputStream;
+import io.dataspaceconnector.common.net.ByteRange;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.routing.RouteDataDispatcher;
 import io.dataspaceconnector.controller.resource.view.artifact.ArtifactViewAssembler;
 import io.dataspaceconnector.controller.resource.view.route.RouteViewAssembler;
 import io.dataspaceconnector.model.artifact.Artifact;
 import io.dataspaceconnector.model.artifact.ArtifactFactory;
+import io.dataspaceconnector.model.artifact.Compression;
 import io.dataspaceconnector.repository.ArtifactRepository;
 import io.dataspaceconnector.repository.AuthenticationRepository;
 import io.dataspaceconnector.repository.DataRepository;
+import io.dataspaceconnector.service.ArtifactUploadService;
 import io.dataspaceconnector.service.DataRetriever;
 import io.dataspaceconnector.service.MultipartArtifactRetriever;
 import io.dataspaceconnector.common.net.HttpService;
 import io.dataspaceconnector.service.message.SubscriberNotificationService;
 import io.dataspaceconnector.service.resource.relation.ArtifactRouteService;
 import io.dataspaceconnector.service.resource.type.ArtifactService;
+import io.dataspaceconnector.service.storage.BlobStore;
+import io.dataspaceconnector.service.storage.EncodedInputStream;
 import io.dataspaceconnector.service.usagecontrol.DataAccessVerifier;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -39,15 +45,22 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Optional;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 
 @SpringBootTest(classes = { ArtifactController.class })
 class ArtifactControllerTest {
@@ -94,6 +107,12 @@ class ArtifactControllerTest {
     @MockBean
     private RouteViewAssembler routeViewAssembler;
 
+    @MockBean
+    private BlobStore blobStore;
+
+    @MockBean
+    private ArtifactUploadService uploadService;
+
     @SpyBean
     private ArtifactService service;
 
@@ -105,13 +124,15 @@ class ArtifactControllerTest {
         /* ARRANGE */
         final var artifactId = UUID.randomUUID();
         final byte[] data = {0 , 1, 2, 3};
+        final var request = new MockHttpServletRequest();
+        request.setContent(data);
 
         Mockito.doReturn(null).when(service).setData(eq(artifactId), any());
         Mockito.doReturn(null).when(service).get(any());
         Mockito.doNothing().when(subscriberNotificationService).notifyOnUpdate(any());
 
         /* ACT */
-        final var result = controller.putData(artifactId, data);
+        final var result = controller.putData(artifactId, request);
 
         /* ASSERT */
         assertEquals(HttpStatus.NO_CONTENT.value(), result.getStatusCode().value());
@@ -138,6 +159,135 @@ class ArtifactControllerTest {
         assertEquals(HttpStatus.OK.value(), result.getStatusCode().value());
     }
 
+    @Test
+    public void getData_localData_setContentLength() throws
+            IOException,
+            UnexpectedResponseException,
+            io.dataspaceconnector.common.exception.UnexpectedResponseException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final var queryInput = new QueryInput();
+        final byte[] data = {0, 1, 2, 3};
+
+        Mockito.doReturn(new ByteArrayInputStream(data)).when(service)
+                .getData(any(), any(), eq(artifactId), eq(queryInput), any());
+        Mockito.doReturn(Optional.of(4L)).when(service).getLocalDataSize(artifactId);
+
+        /* ACT */
+        final var result = controller.getData(artifactId, null, queryInput);
+
+        /* ASSERT */
+        assertEquals(4, result.getHeaders().getContentLength());
+        final var output = new ByteArrayOutputStream();
+        result.getBody().writeTo(output);
+        assertArrayEquals(data, output.toByteArray());
+    }
+
+    @Test
+    public void getData_rangedData_returnPartialContent() throws
+            IOException,
+            UnexpectedResponseException,
+            io.dataspaceconnector.common.exception.UnexpectedResponseException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final var queryInput = new QueryInput();
+        final byte[] data = {2, 3};
+        final var dataStream = new RangedInputStream(new ByteArrayInputStream(data),
+                new ByteRange(2, 3), 4);
+
+        Mockito.doReturn(dataStream).when(service)
+                .getData(any(), any(), eq(artifactId), eq(queryInput), any());
+
+        /* ACT */
+        final var result = controller.getData(artifactId, null, queryInput);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.PARTIAL_CONTENT.value(), result.getStatusCode().value());
+        assertEquals("bytes 2-3/4", result.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertEquals(2, result.getHeaders().getContentLength());
+    }
+
+    @Test
+    public void getData_matchingIfNoneMatch_returnNotModified() throws IOException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final var headers = new HashMap<String, String>();
+        headers.put("if-none-match", "\"1-4\"");
+        final var request = new MockHttpServletRequest("GET",
+                "/api/artifacts/" + artifactId + "/data");
+
+        Mockito.doReturn(true).when(service)
+                .isDataUnchanged(any(), eq(artifactId), any(), eq("\"1-4\""), isNull());
+        Mockito.doReturn(Optional.of("\"1-4\"")).when(service).getEntityTag(artifactId);
+
+        /* ACT */
+        final var result = controller.getData(artifactId, null, null, null, new HashMap<>(),
+                headers, request);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), result.getStatusCode().value());
+        assertEquals("\"1-4\"", result.getHeaders().getETag());
+        Mockito.verify(service, Mockito.never())
+                .getData(any(), any(), eq(artifactId), any(QueryInput.class), any());
+    }
+
+    @Test
+    public void getData_matchingEncodedIfNoneMatch_returnNotModified() throws IOException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final var headers = new HashMap<String, String>();
+        headers.put("if-none-match", "\"1-4-gzip\"");
+        headers.put("accept-encoding", "gzip");
+        final var request = new MockHttpServletRequest("GET",
+                "/api/artifacts/" + artifactId + "/data");
+
+        Mockito.doReturn(Optional.of("gzip")).when(service).getContentCoding(artifactId);
+        Mockito.doReturn(true).when(service)
+                .isDataUnchanged(any(), eq(artifactId), any(), eq("\"1-4-gzip\""), eq("gzip"));
+        Mockito.doReturn(Optional.of("\"1-4\"")).when(service).getEntityTag(artifactId);
+
+        /* ACT */
+        final var result = controller.getData(artifactId, null, null, null, new HashMap<>(),
+                headers, request);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), result.getStatusCode().value());
+        assertEquals("\"1-4-gzip\"", result.getHeaders().getETag());
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, result.getHeaders().getFirst(HttpHeaders.VARY));
+        Mockito.verify(service, Mockito.never())
+                .getData(any(), any(), eq(artifactId), any(QueryInput.class), any());
+    }
+
+    @Test
+    public void getData_compressedDataAndAcceptedEncoding_returnCompressedData() throws
+            IOException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final byte[] encoded = {1, 2, 3};
+        final var dataStream = new EncodedInputStream(new ByteArrayInputStream(encoded),
+                Compression.GZIP);
+        final var headers = new HashMap<String, String>();
+        headers.put("accept-encoding", "gzip, deflate");
+        final var request = new MockHttpServletRequest("GET",
+                "/api/artifacts/" + artifactId + "/data");
+
+        Mockito.doReturn(dataStream).when(service)
+                .getData(any(), any(), eq(artifactId), any(QueryInput.class), any());
+        Mockito.doReturn(Optional.of("\"1-4\"")).when(service).getEntityTag(artifactId);
+
+        /* ACT */
+        final var result = controller.getData(artifactId, null, null, null, new HashMap<>(),
+                headers, request);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.OK.value(), result.getStatusCode().value());
+        assertEquals("gzip", result.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"1-4-gzip\"", result.getHeaders().getETag());
+        final var output = new ByteArrayOutputStream();
+        result.getBody().writeTo(output);
+        assertArrayEquals(encoded, output.toByteArray());
+    }
+
     //    @Test
 //    public void getData_null_throwIllegalArgumentException() {
 //        /* ARRANGE */
@@ -752,6 +752,20 @@ public class ArtifactFactoryTest {
         assertEquals(checksum.getValue(), artifact.getCheckSum());
     }
 
+    @Test
+    public void updateByteSize_sizeAndChecksumChanged_willUpdate() {
+        /* ARRANGE */
+        final var artifact = factory.create(new ArtifactDesc());
+
+        /* ACT */
+        final var result = factory.updateByteSize(artifact, 2, 42);
+
+        /* ASSERT */
+        assertTrue(result);
+        assertEquals(2, artifact.getByteSize());
+        assertEquals(42, artifact.getCheckSum());
+    }
+
     @Test
     public void update_allChanged_willUpdate() {
         /* ARRANGE */
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import io.dataspaceconnector.model.message.ClearingHouseLogEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class ClearingHouseOutboxRepositoryIT {
+
+    private final UUID processId = UUID.randomUUID();
+
+    private final UUID otherProcessId = UUID.randomUUID();
+
+    private final ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+
+    @Autowired
+    private ClearingHouseOutboxRepository repository;
+
+    @AfterEach
+    void cleanUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void findAllDue_olderItemPostponed_holdBackNewerItemsOfProcess() {
+        /* ARRANGE */
+        final var postponed = save(processId, now.minusMinutes(2), now.plusMinutes(1), false);
+        save(processId, now.minusMinutes(1), now.minusMinutes(1), false);
+        final var other = save(otherProcessId, now.minusMinutes(1), now.minusMinutes(1), false);
+
+        /* ACT */
+        final var result = repository.findAllDue(now, PageRequest.of(0, 10));
+
+        /* ASSERT */
+        assertEquals(List.of(other.getId()), getIds(result));
+
+        /* ACT */
+        final var later = repository.findAllDue(now.plusMinutes(2), PageRequest.of(0, 10));
+
+        /* ASSERT */
+        assertEquals(postponed.getId(), later.get(0).getId());
+        assertEquals(3, later.size());
+    }
+
+    @Test
+    void findAllDue_olderItemFailed_sendNewerItemsOfProcess() {
+        /* ARRANGE */
+        save(processId, now.minusMinutes(2), now.plusMinutes(1), true);
+        final var newer = save(processId, now.minusMinutes(1), now.minusMinutes(1), false);
+
+        /* ACT */
+        final var result = repository.findAllDue(now, PageRequest.of(0, 10));
+
+        /* ASSERT */
+        assertEquals(List.of(newer.getId()), getIds(result));
+    }
+
+    private ClearingHouseLogEntry save(final UUID process, final ZonedDateTime created,
+                                       final ZonedDateTime nextAttempt, final boolean failed) {
+        return repository.saveAndFlush(new ClearingHouseLogEntry(UUID.randomUUID(), process,
+                "item", created, 0, nextAttempt, failed));
+    }
+
+    private List<UUID> getIds(final List<ClearingHouseLogEntry> entries) {
+        return entries.stream().map(ClearingHouseLogEntry::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service;
+
+import io.dataspaceconnector.common.exception.ResourceNotFoundException;
+import io.dataspaceconnector.repository.ArtifactRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArtifactAccessCounterTest {
+
+    private final UUID artifactId = UUID.randomUUID();
+
+    private ArtifactRepository repository;
+
+    private ArtifactAccessCounter counter;
+
+    @BeforeEach
+    void init() {
+        repository = Mockito.mock(ArtifactRepository.class);
+        when(repository.findNumAccessed(artifactId)).thenReturn(Optional.of(5L));
+        counter = new ArtifactAccessCounter(repository);
+    }
+
+    @Test
+    void increment_notBuffered_updateDatabase() {
+        /* ACT */
+        counter.increment(artifactId);
+
+        /* ASSERT */
+        verify(repository).incrementAccessCounter(artifactId, 1);
+        assertEquals(5, counter.get(artifactId));
+    }
+
+    @Test
+    void increment_buffered_countInMemoryUntilFlush() {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(counter, "buffered", true);
+
+        /* ACT */
+        counter.increment(artifactId);
+        counter.increment(artifactId);
+
+        /* ASSERT */
+        verify(repository, never()).incrementAccessCounter(any(), anyLong());
+        assertEquals(7, counter.get(artifactId));
+
+        /* ACT */
+        when(repository.findNumAccessed(artifactId)).thenReturn(Optional.of(7L));
+        counter.flush();
+        counter.flush();
+
+        /* ASSERT */
+        verify(repository).incrementAccessCounter(artifactId, 2);
+        assertEquals(7, counter.get(artifactId));
+    }
+
+    @Test
+    void flush_noNewAccesses_removeCounterFromMemory() {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(counter, "buffered", true);
+        counter.increment(artifactId);
+
+        /* ACT */
+        counter.flush();
+
+        /* ASSERT */
+        final var pending = (Map<?, ?>) ReflectionTestUtils.getField(counter, "pending");
+        assertTrue(pending.isEmpty());
+    }
+
+    @Test
+    void flush_databaseFails_keepAccessesInMemory() {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(counter, "buffered", true);
+        counter.increment(artifactId);
+        doThrow(new QueryTimeoutException("timeout"))
+                .when(repository).incrementAccessCounter(artifactId, 1);
+
+        /* ACT */
+        counter.flush();
+
+        /* ASSERT */
+        assertEquals(6, counter.get(artifactId));
+    }
+
+    @Test
+    void reserve_buffered_writePendingAccessesBeforeReserving() {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(counter, "buffered", true);
+        counter.increment(artifactId);
+        when(repository.reserveAccess(artifactId, 3)).thenReturn(0);
+
+        /* ACT */
+        final var result = counter.reserve(artifactId, 3);
+
+        /* ASSERT */
+        assertFalse(result);
+        final var order = Mockito.inOrder(repository);
+        order.verify(repository).incrementAccessCounter(artifactId, 1);
+        order.verify(repository).reserveAccess(artifactId, 3);
+    }
+
+    @Test
+    void reserve_buffered_collectNoAccessesWhileReserving() throws InterruptedException {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(counter, "buffered", true);
+        final var incrementer = new Thread(() -> counter.increment(artifactId));
+        final var blocked = new AtomicBoolean();
+        when(repository.reserveAccess(artifactId, 3)).thenAnswer(invocation -> {
+            incrementer.start();
+            incrementer.join(200);
+            blocked.set(incrementer.isAlive());
+            return 1;
+        });
+
+        /* ACT */
+        final var result = counter.reserve(artifactId, 3);
+        incrementer.join();
+
+        /* ASSERT */
+        assertTrue(result);
+        assertTrue(blocked.get());
+        assertEquals(6, counter.get(artifactId));
+    }
+
+    @Test
+    void release_reservedAccess_decrementCounter() {
+        /* ACT */
+        counter.release(artifactId);
+
+        /* ASSERT */
+        verify(repository).incrementAccessCounter(artifactId, -1);
+    }
+
+    @Test
+    void get_unknownArtifact_throwResourceNotFoundException() {
+        /* ARRANGE */
+        final var unknownId = UUID.randomUUID();
+        when(repository.findNumAccessed(unknownId)).thenReturn(Optional.empty());
+
+        /* ACT && ASSERT */
+        assertThrows(ResourceNotFoundException.class, () -> counter.get(unknownId));
+    }
+}
@@ -15,10 +15,18 @@
  */
 package io.dataspaceconnector.service;
 
+import de.fraunhofer.iais.eis.Message;
 import io.dataspaceconnector.common.exception.UnexpectedResponseException;
+import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.common.ids.message.MessageUtils;
+import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.model.agreement.Agreement;
+import io.dataspaceconnector.model.artifact.ArtifactDesc;
+import io.dataspaceconnector.model.artifact.ArtifactFactory;
+import io.dataspaceconnector.model.artifact.UploadSession;
 import io.dataspaceconnector.service.message.builder.type.ArtifactRequestService;
 import io.dataspaceconnector.service.resource.type.AgreementService;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,12 +35,19 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.time.ZonedDateTime;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 
 @SpringBootTest(classes = { ArtifactDataDownloader.class })
@@ -46,6 +61,15 @@ class ArtifactDataDownloaderTest {
     @MockBean
     private EntityPersistenceService persistenceSvc;
 
+    @MockBean
+    private ArtifactService artifactSvc;
+
+    @MockBean
+    private ArtifactUploadService uploadSvc;
+
+    @MockBean
+    private DeserializationService deserializationSvc;
+
     @Autowired
     private ArtifactDataDownloader downloader;
 
@@ -92,4 +116,62 @@ class ArtifactDataDownloaderTest {
         /* ACT && ASSERT */
         assertDoesNotThrow(() -> downloader.download(recipient, artifacts, agreementId));
     }
+
+    @Test
+    public void download_largeArtifact_downloadAndStoreRanges() throws Exception {
+        /* ARRANGE */
+        final var recipient = URI.create("https://recipient");
+        final var artifacts = Arrays.asList(URI.create("https://artifact1"));
+        final var agreementId = UUID.randomUUID();
+        final var artifactId = UUID.randomUUID();
+
+        final var agreement = new Agreement();
+        ReflectionTestUtils.setField(agreement, "remoteId", URI.create("https//remoteId"));
+
+        final var desc = new ArtifactDesc();
+        desc.setAdditional(Map.of("ids:byteSize", "10"));
+        final var artifact = new ArtifactFactory().create(desc);
+
+        ReflectionTestUtils.setField(downloader, "chunkSize", 4L);
+        Mockito.when(agreementService.get(eq(agreementId))).thenReturn(agreement);
+        Mockito.when(artifactSvc.identifyByRemoteId(eq(artifacts.get(0))))
+                .thenReturn(Optional.of(artifactId));
+        Mockito.when(artifactSvc.get(eq(artifactId))).thenReturn(artifact);
+        Mockito.when(uploadSvc.resumeSession(eq(artifactId), any())).thenAnswer(invocation ->
+                new UploadSession(invocation.getArgument(1), artifactId, "key", 0, 0,
+                        ZonedDateTime.now()));
+        Mockito.when(artifactReqSvc.sendMessage(eq(recipient), eq(artifacts.get(0)),
+                eq(agreement.getRemoteId()), any(QueryInput.class))).thenAnswer(invocation -> {
+            final QueryInput query = invocation.getArgument(3);
+            final var range = query.getHeaders().get("Range").substring("bytes=".length());
+            final var response = new HashMap<String, String>();
+            response.put("header", range);
+            response.put("payload", Base64.getEncoder().encodeToString(range.getBytes()));
+            return response;
+        });
+        Mockito.when(deserializationSvc.getMessage(any())).thenAnswer(invocation -> {
+            final String range = invocation.getArgument(0);
+            final var message = Mockito.mock(Message.class);
+            final var properties = new HashMap<String, Object>();
+            properties.put(MessageUtils.CONTENT_RANGE_PROPERTY, "bytes " + range + "/10");
+            Mockito.when(message.getProperties()).thenReturn(properties);
+            return message;
+        });
+        final var received = new StringBuilder();
+        Mockito.when(uploadSvc.appendChunk(eq(artifactId), any(), Mockito.anyLong(), any()))
+                .thenAnswer(invocation -> {
+                    final InputStream data = invocation.getArgument(3);
+                    received.append(new String(data.readAllBytes())).append(';');
+                    final long offset = invocation.getArgument(2);
+                    return offset + 4;
+                });
+
+        /* ACT */
+        downloader.download(recipient, artifacts, agreementId);
+
+        /* ASSERT */
+        assertEquals("0-3;4-7;8-9;", received.toString());
+        Mockito.verify(uploadSvc).commit(eq(artifactId), any());
+        Mockito.verify(persistenceSvc, Mockito.never()).saveData(any(), any());
+    }
 }
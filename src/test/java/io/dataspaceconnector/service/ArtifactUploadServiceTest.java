@@ -0,0 +1,221 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service;
+
+import io.dataspaceconnector.common.exception.UploadOffsetMismatchException;
+import io.dataspaceconnector.model.artifact.ArtifactImpl;
+import io.dataspaceconnector.model.artifact.LocalData;
+import io.dataspaceconnector.model.artifact.UploadSession;
+import io.dataspaceconnector.repository.UploadSessionRepository;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
+import io.dataspaceconnector.service.storage.BlobStore;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.PersistenceException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {ArtifactUploadService.class})
+class ArtifactUploadServiceTest {
+
+    @MockBean
+    private UploadSessionRepository sessionRepo;
+
+    @MockBean
+    private ArtifactService artifactService;
+
+    @MockBean
+    private BlobStore blobStore;
+
+    @Autowired
+    private ArtifactUploadService uploadService;
+
+    private final UUID artifactId = UUID.randomUUID();
+
+    private final UUID sessionId = UUID.randomUUID();
+
+    @Test
+    @SneakyThrows
+    void appendChunk_wrongOffset_throwUploadOffsetMismatchException() {
+        /* ARRANGE */
+        mockSession(5, 0);
+
+        /* ACT */
+        final var exception = assertThrows(UploadOffsetMismatchException.class,
+                () -> uploadService.appendChunk(artifactId, sessionId, 3,
+                        new ByteArrayInputStream(new byte[]{1})));
+
+        /* ASSERT */
+        assertEquals(5, exception.getOffset());
+        verify(blobStore, never()).write(any(), anyLong(), any());
+    }
+
+    @Test
+    @SneakyThrows
+    void appendChunk_concurrentPartWasFaster_throwUploadOffsetMismatchException() {
+        /* ARRANGE */
+        mockSession(0, 0);
+        when(sessionRepo.advance(eq(sessionId), eq(0L), anyLong(), anyLong(), any()))
+                .thenReturn(0);
+
+        /* ACT && ASSERT */
+        assertThrows(UploadOffsetMismatchException.class,
+                () -> uploadService.appendChunk(artifactId, sessionId, 0,
+                        new ByteArrayInputStream(new byte[]{1})));
+    }
+
+    @Test
+    @SneakyThrows
+    void appendChunk_secondPart_combineChecksums() {
+        /* ARRANGE */
+        final var first = "first part ".getBytes();
+        final var second = "second part".getBytes();
+        final var checksum = new CRC32C();
+        checksum.update(first);
+        mockSession(first.length, checksum.getValue());
+        doAnswer(invocation -> invocation.getArgument(2, InputStream.class).readAllBytes())
+                .when(blobStore).write(any(), anyLong(), any());
+        when(sessionRepo.advance(eq(sessionId), anyLong(), anyLong(), anyLong(), any()))
+                .thenReturn(1);
+
+        /* ACT */
+        final var result = uploadService.appendChunk(artifactId, sessionId, first.length,
+                new ByteArrayInputStream(second));
+
+        /* ASSERT */
+        checksum.update(second);
+        assertEquals(first.length + second.length, result);
+        verify(blobStore).write(eq(sessionKey()), eq((long) first.length), any());
+        verify(sessionRepo).advance(eq(sessionId), eq((long) first.length),
+                eq((long) first.length + second.length), eq(checksum.getValue()), any());
+    }
+
+    @Test
+    @SneakyThrows
+    void commit_receivedParts_setUploadedData() {
+        /* ARRANGE */
+        mockSession(10, 42);
+
+        /* ACT */
+        uploadService.commit(artifactId, sessionId);
+
+        /* ASSERT */
+        verify(sessionRepo).deleteById(eq(sessionId));
+        verify(artifactService).setUploadedData(eq(artifactId), eq(sessionKey()), eq(10L),
+                eq(42L));
+    }
+
+    @Test
+    @SneakyThrows
+    void removeAbandonedSessions_inactiveSession_deleteSessionAndData() {
+        /* ARRANGE */
+        final var session = mockSession(10, 42);
+        when(sessionRepo.findAllModifiedBefore(any())).thenReturn(List.of(session));
+
+        /* ACT */
+        uploadService.removeAbandonedSessions();
+
+        /* ASSERT */
+        verify(sessionRepo).deleteById(eq(sessionId));
+        verify(artifactService).releaseBlob(eq(sessionKey()));
+        verify(blobStore, never()).delete(any());
+    }
+
+    @Test
+    @SneakyThrows
+    void commit_settingDataFails_keepSession() {
+        /* ARRANGE */
+        mockSession(10, 42);
+        doThrow(new PersistenceException()).when(artifactService)
+                .setUploadedData(any(), any(), anyLong(), anyLong());
+
+        /* ACT */
+        assertThrows(PersistenceException.class,
+                () -> uploadService.commit(artifactId, sessionId));
+
+        /* ASSERT */
+        verify(sessionRepo, never()).deleteById(any());
+    }
+
+    @Test
+    void resumeSession_sameIdAfterCommit_useNewBlob() {
+        /* ARRANGE */
+        final var artifact = new ArtifactImpl();
+        ReflectionTestUtils.setField(artifact, "data", new LocalData());
+        when(artifactService.get(artifactId)).thenReturn(artifact);
+        when(sessionRepo.findById(eq(sessionId))).thenReturn(Optional.empty());
+        when(sessionRepo.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        /* ACT */
+        final var first = uploadService.resumeSession(artifactId, sessionId);
+        final var second = uploadService.resumeSession(artifactId, sessionId);
+
+        /* ASSERT */
+        assertNotEquals(first.getBlobKey(), second.getBlobKey());
+    }
+
+    @Test
+    void resumeSession_dataAlreadyCommitted_startNewUpload() {
+        /* ARRANGE */
+        final var session = mockSession(10, 42);
+        final var artifact = new ArtifactImpl();
+        ReflectionTestUtils.setField(artifact, "data", new LocalData());
+        when(artifactService.get(artifactId)).thenReturn(artifact);
+        when(artifactService.isBlobReferenced(sessionKey())).thenReturn(true);
+        when(sessionRepo.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        /* ACT */
+        final var result = uploadService.resumeSession(artifactId, sessionId);
+
+        /* ASSERT */
+        verify(sessionRepo).deleteById(eq(sessionId));
+        assertEquals(0, result.getByteSize());
+        assertNotEquals(session.getBlobKey(), result.getBlobKey());
+    }
+
+    private UploadSession mockSession(final long byteSize, final long checkSum) {
+        final var session = new UploadSession(sessionId, artifactId, sessionKey(), byteSize,
+                checkSum, ZonedDateTime.now());
+        when(sessionRepo.findById(eq(sessionId))).thenReturn(Optional.of(session));
+        return session;
+    }
+
+    private String sessionKey() {
+        return sessionId.toString().replace("-", "");
+    }
+}
@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.UUID;
 
+import io.dataspaceconnector.common.io.RangedInputStream;
 import io.dataspaceconnector.common.net.HttpResponse;
 import io.dataspaceconnector.common.net.HttpService;
 import io.dataspaceconnector.common.net.QueryInput;
@@ -29,10 +30,13 @@ import io.dataspaceconnector.common.routing.RouteDataRetriever;
 import io.dataspaceconnector.common.routing.RouteResponse;
 import io.dataspaceconnector.common.net.ApiReferenceHelper;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
+import io.dataspaceconnector.model.artifact.Compression;
 import io.dataspaceconnector.model.artifact.Data;
 import io.dataspaceconnector.model.artifact.LocalData;
 import io.dataspaceconnector.model.artifact.RemoteData;
 import io.dataspaceconnector.model.auth.Authentication;
+import io.dataspaceconnector.service.storage.BlobStore;
+import io.dataspaceconnector.service.storage.StorageCodec;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,6 +45,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -58,6 +63,9 @@ class DataRetrieverTest {
     @MockBean
     private ApiReferenceHelper apiReferenceHelper;
 
+    @MockBean
+    private BlobStore blobStore;
+
     @Autowired
     private DataRetriever retriever;
 
@@ -136,6 +144,92 @@ class DataRetrieverTest {
         assertTrue(Arrays.equals(res.readAllBytes(), value));
     }
 
+    @Test
+    @SneakyThrows
+    void retrieveData_localDataInBlobStore_returnData() {
+        /* ARRANGE */
+        final var data = new LocalData();
+        data.setBlobKey("key");
+        final var artifact = getArtifact(data);
+        final var dataValue = "data".getBytes();
+
+        when(blobStore.load("key")).thenReturn(new ByteArrayInputStream(dataValue));
+
+        /* ACT */
+        final var result = retriever.retrieveData(artifact, null);
+
+        /* ASSERT */
+        assertNotNull(result);
+        assertArrayEquals(dataValue, result.readAllBytes());
+    }
+
+    @Test
+    @SneakyThrows
+    void retrieveData_localDataWithRange_returnRange() {
+        /* ARRANGE */
+        final var data = new LocalData();
+        data.setBlobKey("key");
+        final var artifact = getArtifact(data);
+        ReflectionTestUtils.setField(artifact, "byteSize", 10L);
+        final var queryInput = new QueryInput();
+        queryInput.getHeaders().put("Range", "bytes=2-5");
+
+        when(blobStore.load("key", 2, 4)).thenReturn(new ByteArrayInputStream("2345".getBytes()));
+
+        /* ACT */
+        final var result = retriever.retrieveData(artifact, queryInput);
+
+        /* ASSERT */
+        assertTrue(result instanceof RangedInputStream);
+        assertEquals("bytes 2-5/10", ((RangedInputStream) result).getContentRange());
+        assertArrayEquals("2345".getBytes(), result.readAllBytes());
+    }
+
+    @Test
+    @SneakyThrows
+    void retrieveData_compressedDataWithRange_decodeAndReturnRange() {
+        /* ARRANGE */
+        final var data = new LocalData();
+        data.setBlobKey("key");
+        data.setCompression(Compression.GZIP);
+        final var artifact = getArtifact(data);
+        ReflectionTestUtils.setField(artifact, "byteSize", 10L);
+        final var queryInput = new QueryInput();
+        queryInput.getHeaders().put("Range", "bytes=2-5");
+        final var encoded = StorageCodec.encode(
+                new ByteArrayInputStream("0123456789".getBytes()), Compression.GZIP)
+                .readAllBytes();
+
+        when(blobStore.load("key")).thenReturn(new ByteArrayInputStream(encoded));
+
+        /* ACT */
+        final var result = retriever.retrieveData(artifact, queryInput);
+
+        /* ASSERT */
+        assertEquals("bytes 2-5/10", ((RangedInputStream) result).getContentRange());
+        assertArrayEquals("2345".getBytes(), result.readAllBytes());
+    }
+
+    @Test
+    @SneakyThrows
+    void retrieveData_remoteDataWithPartialContent_returnRange() {
+        /* ARRANGE */
+        final var data = getRemoteData();
+        final var artifact = getArtifact(data);
+        final var response = new HttpResponse(206, new ByteArrayInputStream("23".getBytes()),
+                "bytes 2-3/10");
+
+        when(apiReferenceHelper.isRouteReference(any())).thenReturn(false);
+        when(httpService.get(data.getAccessUrl(), (QueryInput) null)).thenReturn(response);
+
+        /* ACT */
+        final var result = retriever.retrieveData(artifact, null);
+
+        /* ASSERT */
+        assertTrue(result instanceof RangedInputStream);
+        assertEquals("bytes 2-3/10", ((RangedInputStream) result).getContentRange());
+    }
+
     private ArtifactImpl getArtifact(final Data data) {
         final var artifact = new ArtifactImpl();
         ReflectionTestUtils.setField(artifact, "id", UUID.randomUUID());
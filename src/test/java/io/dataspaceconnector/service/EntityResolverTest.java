@@ -53,6 +53,8 @@ import io.dataspaceconnector.service.resource.type.ContractService;
 import io.dataspaceconnector.service.resource.type.RepresentationService;
 import io.dataspaceconnector.service.resource.type.ResourceService;
 import io.dataspaceconnector.service.resource.type.RuleService;
+import io.dataspaceconnector.service.usagecontrol.AgreementPolicyCache;
+import io.dataspaceconnector.service.usagecontrol.CompiledAgreement;
 import io.dataspaceconnector.common.usagecontrol.AllowAccessVerifier;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
@@ -129,6 +131,9 @@ public class EntityResolverTest {
     @MockBean
     private DeserializationService deserializationService;
 
+    @MockBean
+    private AgreementPolicyCache agreementPolicyCache;
+
     @Autowired
     private EntityResolver resolver;
 
@@ -428,6 +433,28 @@ public class EntityResolverTest {
     }
 
 
+    @Test
+    void getCompiledAgreementsByTarget_validTarget_returnCompiledAgreements() {
+        /* ARRANGE */
+        final var endpointId = UUID.randomUUID();
+        final var target = URI.create("https://requested/" + endpointId);
+        final var agreement = new Agreement();
+        final var artifact = new ArtifactImpl();
+        ReflectionTestUtils.setField(artifact, "agreements", List.of(agreement));
+
+        Mockito.doReturn(artifact).when(artifactService).get(eq(endpointId));
+
+        final var compiled = new CompiledAgreement(List.of(), null);
+        Mockito.doReturn(compiled).when(agreementPolicyCache).get(eq(agreement));
+
+        /* ACT */
+        final var result = resolver.getCompiledAgreementsByTarget(target);
+
+        /* ASSERT */
+        assertEquals(List.of(compiled), result);
+        Mockito.verifyNoInteractions(deserializationService);
+    }
+
     /***********************************************************************************************
      * Utilities.                                                                                  *
      **********************************************************************************************/
@@ -18,6 +18,7 @@ package io.dataspaceconnector.service;
 import de.fraunhofer.iais.eis.RejectionReason;
 import io.dataspaceconnector.common.exception.DataRetrievalException;
 import io.dataspaceconnector.common.exception.UnexpectedResponseException;
+import io.dataspaceconnector.common.ids.DeserializationService;
 import io.dataspaceconnector.config.ConnectorConfig;
 import io.dataspaceconnector.model.artifact.Artifact;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
@@ -57,6 +58,9 @@ public class MultipartArtifactRetrieverTest {
     @MockBean
     private CamelContext camelContext;
 
+    @MockBean
+    private DeserializationService deserializationService;
+
     @Autowired
     private MultipartArtifactRetriever multipartArtifactRetriever;
 
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service;
+
+import io.dataspaceconnector.common.io.RangedInputStream;
+import io.dataspaceconnector.common.net.ByteRange;
+import io.dataspaceconnector.common.net.QueryInput;
+import io.dataspaceconnector.service.storage.FileSystemBlobStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+class ParallelDataDownloaderTest {
+
+    @TempDir
+    Path root;
+
+    private final URI recipient = URI.create("https://recipient");
+
+    private final URI contract = URI.create("https://contract");
+
+    private final byte[] data = new byte[90];
+
+    private ParallelDataDownloader downloader;
+
+    @BeforeEach
+    void init() {
+        for (var i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        downloader = new ParallelDataDownloader(new FileSystemBlobStore(root));
+        ReflectionTestUtils.setField(downloader, "parallelRanges", 3);
+        ReflectionTestUtils.setField(downloader, "minRangeSize", 10L);
+        ReflectionTestUtils.setField(downloader, "maxRangeSize", 30L);
+        ReflectionTestUtils.setField(downloader, "threads", 2);
+        ReflectionTestUtils.setField(downloader, "queueCapacity", 1);
+        downloader.init();
+    }
+
+    @AfterEach
+    void shutdown() {
+        downloader.shutdown();
+    }
+
+    @Test
+    void isApplicable_smallData_returnFalse() {
+        /* ACT && ASSERT */
+        assertFalse(downloader.isApplicable(19));
+        assertFalse(downloader.isApplicable(-1));
+        assertTrue(downloader.isApplicable(20));
+    }
+
+    @Test
+    void download_providerSupportsRanges_assembleRangesInOneBlob() throws IOException {
+        /* ARRANGE */
+        final var retriever = Mockito.mock(ArtifactRetriever.class);
+        Mockito.when(retriever.retrieve(any(), eq(recipient), eq(contract), any()))
+                .thenAnswer(invocation -> getRange(invocation.getArgument(3)));
+        final var checksum = new CRC32C();
+        checksum.update(data);
+
+        /* ACT */
+        final var result = downloader.download(retriever, UUID.randomUUID(), recipient, contract,
+                data.length);
+
+        /* ASSERT */
+        assertEquals(data.length, result.getByteSize());
+        assertEquals(checksum.getValue(), result.getCheckSum());
+        try (var stored = new FileSystemBlobStore(root).load(result.getBlobKey())) {
+            assertArrayEquals(data, stored.readAllBytes());
+        }
+
+        // Ranges of at most 30 bytes.
+        Mockito.verify(retriever, Mockito.times(3)).retrieve(any(), any(), any(), any());
+        try (var files = Files.walk(root)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void download_providerIgnoresRanges_returnCompleteData() throws IOException {
+        /* ARRANGE */
+        final var retriever = Mockito.mock(ArtifactRetriever.class);
+        Mockito.when(retriever.retrieve(any(), eq(recipient), eq(contract), any()))
+                .thenAnswer(invocation -> new ByteArrayInputStream(data));
+
+        /* ACT */
+        final var result = downloader.download(retriever, UUID.randomUUID(), recipient, contract,
+                data.length);
+
+        /* ASSERT */
+        assertNull(result.getBlobKey());
+        try (var complete = result.getData()) {
+            assertArrayEquals(data, complete.readAllBytes());
+        }
+
+        Mockito.verify(retriever, Mockito.times(1)).retrieve(any(), any(), any(), any());
+    }
+
+    @Test
+    void download_incompleteRange_throwIOExceptionAndRemoveBlob() throws IOException {
+        /* ARRANGE */
+        final var retriever = Mockito.mock(ArtifactRetriever.class);
+        Mockito.when(retriever.retrieve(any(), eq(recipient), eq(contract), any()))
+                .thenAnswer(invocation -> {
+                    final var range = (RangedInputStream) getRange(invocation.getArgument(3));
+                    if (range.getRange().getStart() == 60) {
+                        return new RangedInputStream(new ByteArrayInputStream(new byte[1]),
+                                range.getRange(), data.length);
+                    }
+                    return range;
+                });
+
+        /* ACT && ASSERT */
+        assertThrows(IOException.class, () -> downloader.download(retriever, UUID.randomUUID(),
+                recipient, contract, data.length));
+        try (var files = Files.walk(root)) {
+            assertEquals(0, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    private InputStream getRange(final QueryInput queryInput) {
+        final var range = ByteRange.parse(queryInput.getHeaders().get("Range"), data.length)
+                .orElseThrow();
+        return new RangedInputStream(new ByteArrayInputStream(data, (int) range.getStart(),
+                (int) range.getLength()), range, data.length);
+    }
+}
@@ -15,21 +15,46 @@
  */
 package io.dataspaceconnector.service.resource.type;
 
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import de.fraunhofer.iais.eis.Action;
+import de.fraunhofer.iais.eis.BinaryOperator;
+import de.fraunhofer.iais.eis.ConstraintBuilder;
+import de.fraunhofer.iais.eis.ContractAgreement;
+import de.fraunhofer.iais.eis.ContractAgreementBuilder;
+import de.fraunhofer.iais.eis.DutyBuilder;
+import de.fraunhofer.iais.eis.LeftOperand;
+import de.fraunhofer.iais.eis.PermissionBuilder;
+import de.fraunhofer.iais.eis.ProhibitionBuilder;
+import de.fraunhofer.iais.eis.util.RdfResource;
+import de.fraunhofer.iais.eis.util.Util;
+import de.fraunhofer.ids.messaging.util.IdsMessageUtils;
+import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.common.ids.policy.PolicyPattern;
 import io.dataspaceconnector.model.agreement.Agreement;
+import io.dataspaceconnector.model.agreement.AgreementDesc;
 import io.dataspaceconnector.model.agreement.AgreementFactory;
+import io.dataspaceconnector.model.agreement.DataRemoval;
 import io.dataspaceconnector.repository.AgreementRepository;
+import io.dataspaceconnector.repository.DataRemovalRepository;
+import io.dataspaceconnector.service.usagecontrol.PolicyExpirationScheduler;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -45,6 +70,15 @@ public class AgreementServiceTest {
     @MockBean
     private AgreementFactory agreementFactory;
 
+    @MockBean
+    private DeserializationService deserializationService;
+
+    @MockBean
+    private DataRemovalRepository removalRepository;
+
+    @MockBean
+    private PolicyExpirationScheduler expirationScheduler;
+
     @Autowired
     private AgreementService agreementService;
 
@@ -85,10 +119,152 @@ public class AgreementServiceTest {
         verify(agreementRepository, never()).confirmAgreement(agreement.getId());
     }
 
+    @Test
+    public void create_validAgreement_persistRulesWithParameters() {
+        /* ARRANGE */
+        final var agreement = getAgreement();
+        final var target = URI.create("https://target");
+        final var idsAgreement = new ContractAgreementBuilder(URI.create("https://agreement"))
+                ._contractStart_(IdsMessageUtils.getGregorianNow())
+                ._prohibition_(Util.asList(new ProhibitionBuilder()
+                        ._target_(target)
+                        ._action_(Util.asList(Action.USE))
+                        .build()))
+                .build();
+
+        when(agreementFactory.create(any())).thenReturn(agreement);
+        when(deserializationService.getContractAgreement("someValue")).thenReturn(idsAgreement);
+        when(agreementRepository.saveAndFlush(any())).thenAnswer(i -> i.getArgument(0));
+
+        /* ACT */
+        final var result = agreementService.create(new AgreementDesc());
+
+        /* ASSERT */
+        assertEquals(1, result.getRules().size());
+        assertEquals(target, result.getRules().get(0).getTarget());
+        assertEquals(PolicyPattern.PROHIBIT_ACCESS,
+                result.getRules().get(0).getParameters().getPattern());
+    }
+
+    @Test
+    public void create_invalidAgreement_persistWithoutRules() {
+        /* ARRANGE */
+        final var agreement = getAgreement();
+
+        when(agreementFactory.create(any())).thenReturn(agreement);
+        when(deserializationService.getContractAgreement("someValue"))
+                .thenThrow(IllegalArgumentException.class);
+        when(agreementRepository.saveAndFlush(any())).thenAnswer(i -> i.getArgument(0));
+
+        /* ACT */
+        final var result = agreementService.create(new AgreementDesc());
+
+        /* ASSERT */
+        assertTrue(result.getRules().isEmpty());
+        assertTrue(result.getRulesExtracted());
+    }
+
+    @Test
+    public void create_agreementWithDeletionDuty_scheduleDataRemoval() {
+        /* ARRANGE */
+        final var agreement = getAgreement();
+        final var target = URI.create("https://target");
+
+        when(agreementFactory.create(any())).thenReturn(agreement);
+        when(deserializationService.getContractAgreement("someValue"))
+                .thenReturn(getDeletionAgreement(target));
+        when(agreementRepository.saveAndFlush(any())).thenAnswer(i -> i.getArgument(0));
+
+        /* ACT */
+        agreementService.create(new AgreementDesc());
+
+        /* ASSERT */
+        verify(removalRepository, times(1)).deletePending(agreement.getId());
+        verify(removalRepository, times(1)).save(argThat((DataRemoval removal) ->
+                agreement.getId().equals(removal.getAgreementId())
+                        && target.equals(removal.getTarget())
+                        && ZonedDateTime.parse("2050-07-11T00:00:00Z").equals(removal.getDeadline())
+                        && !removal.isProcessed()));
+        verify(expirationScheduler, times(1)).reschedule(eq(agreement.getId()), any(), any());
+    }
+
+    @Test
+    public void create_dataAlreadyRemoved_doNotScheduleAgain() {
+        /* ARRANGE */
+        final var agreement = getAgreement();
+        final var target = URI.create("https://target");
+
+        when(agreementFactory.create(any())).thenReturn(agreement);
+        when(deserializationService.getContractAgreement("someValue"))
+                .thenReturn(getDeletionAgreement(target));
+        when(agreementRepository.saveAndFlush(any())).thenAnswer(i -> i.getArgument(0));
+        when(removalRepository.findAllProcessedTargets(agreement.getId()))
+                .thenReturn(List.of(target));
+
+        /* ACT */
+        agreementService.create(new AgreementDesc());
+
+        /* ASSERT */
+        verify(removalRepository, never()).save(any());
+    }
+
+    @Test
+    public void indexLegacyAgreements_agreementWithoutRules_persistRules() {
+        /* ARRANGE */
+        final var agreement = getAgreement();
+        final var target = URI.create("https://target");
+
+        when(agreementRepository.findAllIdsWithoutRules()).thenReturn(List.of(agreement.getId()));
+        when(agreementRepository.findById(agreement.getId())).thenReturn(Optional.of(agreement));
+        when(deserializationService.getContractAgreement("someValue"))
+                .thenReturn(getDeletionAgreement(target));
+        when(agreementRepository.saveAndFlush(any())).thenAnswer(i -> i.getArgument(0));
+
+        /* ACT */
+        agreementService.indexLegacyAgreements();
+
+        /* ASSERT */
+        assertEquals(1, agreement.getRules().size());
+        verify(removalRepository, times(1)).save(any());
+    }
+
+    @Test
+    public void delete_validId_cancelExpirationsAndPendingRemovals() {
+        /* ARRANGE */
+        final var agreementId = getAgreement().getId();
+
+        /* ACT */
+        agreementService.delete(agreementId);
+
+        /* ASSERT */
+        verify(agreementRepository, times(1)).deleteById(agreementId);
+        verify(removalRepository, times(1)).deletePending(agreementId);
+        verify(expirationScheduler, times(1)).cancel(agreementId);
+    }
+
     /***********************************************************************************************
      * Utilities.                                                                                  *
      **********************************************************************************************/
 
+    private ContractAgreement getDeletionAgreement(final URI target) {
+        return new ContractAgreementBuilder(URI.create("https://agreement"))
+                ._contractStart_(IdsMessageUtils.getGregorianNow())
+                ._permission_(Util.asList(new PermissionBuilder()
+                        ._target_(target)
+                        ._action_(Util.asList(Action.USE))
+                        ._postDuty_(Util.asList(new DutyBuilder()
+                                ._action_(Util.asList(Action.DELETE))
+                                ._constraint_(Util.asList(new ConstraintBuilder()
+                                        ._leftOperand_(LeftOperand.POLICY_EVALUATION_TIME)
+                                        ._operator_(BinaryOperator.TEMPORAL_EQUALS)
+                                        ._rightOperand_(new RdfResource("2050-07-11T00:00:00Z",
+                                                URI.create("xsd:dateTimeStamp")))
+                                        .build()))
+                                .build()))
+                        .build()))
+                .build();
+    }
+
     private Agreement getAgreement() {
         final var agreement = new Agreement();
         ReflectionTestUtils.setField(agreement, "id", UUID.randomUUID());
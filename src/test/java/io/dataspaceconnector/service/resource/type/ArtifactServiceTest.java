@@ -19,14 +19,19 @@ import io.dataspaceconnector.common.exception.InvalidEntityException;
 import io.dataspaceconnector.common.exception.ResourceNotFoundException;
 import io.dataspaceconnector.common.exception.UnexpectedResponseException;
 import io.dataspaceconnector.common.exception.UnreachableLineException;
+import io.dataspaceconnector.common.net.EntityTag;
 import io.dataspaceconnector.common.net.HttpResponse;
 import io.dataspaceconnector.common.net.HttpService;
 import io.dataspaceconnector.common.net.QueryInput;
-import io.dataspaceconnector.common.routing.RouteDataDispatcher;
-import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.common.routing.MultiRouteDispatcher;
+import io.dataspaceconnector.common.routing.dataretrieval.RetrievalInformation;
+import io.dataspaceconnector.common.usagecontrol.AccessVerificationInput;
+import io.dataspaceconnector.common.usagecontrol.PolicyVerifier;
+import io.dataspaceconnector.common.usagecontrol.VerificationResult;
 import io.dataspaceconnector.model.artifact.ArtifactDesc;
 import io.dataspaceconnector.model.artifact.ArtifactFactory;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
+import io.dataspaceconnector.model.artifact.Compression;
 import io.dataspaceconnector.model.artifact.Data;
 import io.dataspaceconnector.model.artifact.LocalData;
 import io.dataspaceconnector.model.artifact.RemoteData;
@@ -36,7 +41,11 @@ import io.dataspaceconnector.repository.ArtifactRepository;
 import io.dataspaceconnector.repository.AuthenticationRepository;
 import io.dataspaceconnector.repository.DataRepository;
 import io.dataspaceconnector.service.DataRetriever;
+import io.dataspaceconnector.service.ArtifactAccessCounter;
+import io.dataspaceconnector.service.ParallelDataDownloader;
 import io.dataspaceconnector.service.resource.relation.ArtifactRouteService;
+import io.dataspaceconnector.service.storage.BlobStore;
+import io.dataspaceconnector.service.storage.StagedBlob;
 import lombok.SneakyThrows;
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Test;
@@ -48,21 +57,28 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.lang.reflect.Field;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.zip.CRC32C;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -71,7 +87,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = {ArtifactService.class, ArtifactFactory.class, ArtifactRepository.class,
-        DataRepository.class, AuthenticationRepository.class, HttpService.class})
+        DataRepository.class, AuthenticationRepository.class, HttpService.class,
+        ArtifactDataComponents.class})
 class ArtifactServiceTest {
 
     @MockBean
@@ -96,7 +113,16 @@ class ArtifactServiceTest {
     private DataRetriever dataRetriever;
 
     @MockBean
-    private RouteDataDispatcher routeDataDispatcher;
+    private MultiRouteDispatcher routeDispatcher;
+
+    @MockBean
+    private BlobStore blobStore;
+
+    @MockBean
+    private ParallelDataDownloader parallelDownloader;
+
+    @MockBean
+    private ArtifactAccessCounter accessCounter;
 
     @Autowired
     private ArtifactService service;
@@ -186,6 +212,69 @@ class ArtifactServiceTest {
         verify(dataRepository, times(1)).saveAndFlush(data);
     }
 
+    @Test
+    @SneakyThrows
+    public void create_localDataWithValue_moveValueToBlobStore() {
+        /* ARRANGE */
+        final var desc = new ArtifactDesc();
+        final var data = new LocalData();
+        data.setValue("some value".getBytes());
+
+        final var artifact = new ArtifactImpl();
+        ReflectionTestUtils.setField(artifact, "data", data);
+
+        when(artifactFactory.create(desc)).thenReturn(artifact);
+        when(artifactRepository.saveAndFlush(artifact)).thenReturn(artifact);
+        when(dataRepository.saveAndFlush(data)).thenReturn(data);
+        final var staged = new StagedBlob("tmp", "key");
+        when(blobStore.stage(any())).thenReturn(staged);
+        when(blobStore.publish(staged)).thenReturn("key");
+
+        /* ACT */
+        service.create(desc);
+
+        /* ASSERT */
+        verify(blobStore, times(1)).stage(any());
+        verify(blobStore, times(1)).publish(staged);
+        assertEquals("key", data.getBlobKey());
+        assertNull(data.getValue());
+        verify(dataRepository, times(1)).saveAndFlush(data);
+    }
+
+    @Test
+    @SneakyThrows
+    public void create_localDataWithValue_calculateChecksumWhileStoring() {
+        /* ARRANGE */
+        final var desc = new ArtifactDesc();
+        final var bytes = "some value".getBytes(StandardCharsets.UTF_8);
+        final var data = new LocalData();
+        data.setValue(bytes);
+
+        final var artifact = new ArtifactImpl();
+        ReflectionTestUtils.setField(artifact, "data", data);
+
+        final var checksum = new CRC32C();
+        checksum.update(bytes, 0, bytes.length);
+
+        when(artifactFactory.create(desc)).thenReturn(artifact);
+        when(artifactRepository.saveAndFlush(artifact)).thenReturn(artifact);
+        when(dataRepository.saveAndFlush(data)).thenReturn(data);
+        final var staged = new StagedBlob("tmp", "key");
+        when(blobStore.stage(any())).thenAnswer(invocation -> {
+            invocation.getArgument(0, InputStream.class).readAllBytes();
+            return staged;
+        });
+        when(blobStore.publish(staged)).thenReturn("key");
+
+        /* ACT */
+        service.create(desc);
+
+        /* ASSERT */
+        verify(artifactFactory, times(1))
+                .updateByteSize(artifact, bytes.length, checksum.getValue());
+        verify(artifactRepository, times(1)).saveAndFlush(artifact);
+    }
+
     /**************************************************************************
      * update
      *************************************************************************/
@@ -328,17 +417,12 @@ class ArtifactServiceTest {
         when(dataRetriever.retrieveData(eq(localArtifact), any()))
                 .thenReturn(new ByteArrayInputStream(getLocalData().getValue()));
 
-        final var before = localArtifact.getNumAccessed();
-
         /* ACT */
         service.getData(null, null, localArtifact.getId(), (QueryInput) null, null);
 
         /* ASSERT */
-        Field numAccessedField = Artifact.class.getDeclaredField("numAccessed");
-        numAccessedField.setAccessible(true);
-        numAccessedField.set(localArtifact, before + 1);
-
-        verify(artifactRepository, times(1)).saveAndFlush(localArtifact);
+        verify(accessCounter, times(1)).increment(localArtifact.getId());
+        verify(artifactRepository, never()).saveAndFlush(localArtifact);
     }
 
     @SneakyThrows
@@ -470,6 +554,191 @@ class ArtifactServiceTest {
                              null));
     }
 
+    @Test
+    @SneakyThrows
+    public void setData_localData_streamDataAndUpdateChecksum() {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final var data = new LocalData();
+        ReflectionTestUtils.setField(data, "id", 1L);
+        final var artifact = new ArtifactImpl();
+        ReflectionTestUtils.setField(artifact, "data", data);
+
+        final var bytes = "data".getBytes(StandardCharsets.UTF_8);
+        final var checksum = new CRC32C();
+        checksum.update(bytes, 0, bytes.length);
+
+        when(artifactRepository.findById(artifactId)).thenReturn(Optional.of(artifact));
+        final var staged = new StagedBlob("tmp", "key");
+        when(blobStore.stage(any())).thenAnswer(invocation -> {
+            invocation.getArgument(0, InputStream.class).readAllBytes();
+            return staged;
+        });
+        when(blobStore.publish(staged)).thenReturn("key");
+        when(blobStore.load("key")).thenReturn(new ByteArrayInputStream(bytes));
+        when(artifactFactory.updateByteSize(artifact, bytes.length, checksum.getValue()))
+                .thenReturn(true);
+
+        /* ACT */
+        final var result = service.setData(artifactId, new ByteArrayInputStream(bytes));
+
+        /* ASSERT */
+        assertArrayEquals(bytes, result.readAllBytes());
+        assertEquals("key", data.getBlobKey());
+        verify(dataRepository, times(1)).setBlobKey(1L, "key", Compression.NONE);
+        verify(artifactFactory, times(1))
+                .updateByteSize(artifact, bytes.length, checksum.getValue());
+        verify(artifactRepository, times(1)).setArtifactData(eq(artifactId), anyLong(), anyLong());
+    }
+
+    @Test
+    public void isDataUnchanged_matchingEntityTag_countAccessWithoutReadingData() {
+        /* ARRANGE */
+        final var artifact = getLocalArtifact();
+        final var entityTag = EntityTag.of(artifact.getCheckSum(), artifact.getByteSize());
+
+        when(artifactRepository.findById(artifact.getId())).thenReturn(Optional.of(artifact));
+        when(artifactRepository.findRemoteOriginAgreements(artifact.getId()))
+                .thenReturn(List.of());
+
+        /* ACT */
+        final var result = service.isDataUnchanged(null, artifact.getId(), null, entityTag,
+                null);
+
+        /* ASSERT */
+        assertTrue(result);
+        verify(accessCounter, times(1)).increment(artifact.getId());
+        Mockito.verifyNoInteractions(dataRetriever, blobStore);
+    }
+
+    @Test
+    @SneakyThrows
+    public void getData_accessCountedByVerification_doNotCountAgain() {
+        /* ARRANGE */
+        final var artifact = getReservedArtifact();
+        when(dataRetriever.retrieveData(eq(artifact), any()))
+                .thenReturn(new ByteArrayInputStream(getLocalData().getValue()));
+
+        /* ACT */
+        service.getData(getReservingVerifier(), null, artifact.getId(),
+                new RetrievalInformation(URI.create("https://agreement"), null, null), null);
+
+        /* ASSERT */
+        verify(accessCounter, never()).increment(any());
+        verify(accessCounter, never()).release(any());
+    }
+
+    @Test
+    @SneakyThrows
+    public void getData_retrievalFailsAfterReservation_releaseAccess() {
+        /* ARRANGE */
+        final var artifact = getReservedArtifact();
+        when(dataRetriever.retrieveData(eq(artifact), any())).thenThrow(new IOException());
+
+        /* ACT */
+        assertThrows(IOException.class, () -> service.getData(getReservingVerifier(), null,
+                artifact.getId(),
+                new RetrievalInformation(URI.create("https://agreement"), null, null), null));
+
+        /* ASSERT */
+        verify(accessCounter, times(1)).release(artifact.getId());
+        verify(accessCounter, never()).increment(any());
+    }
+
+    @Test
+    public void isDataUnchanged_entityTagOfEncodedData_matchOnlyWithCoding() {
+        /* ARRANGE */
+        final var artifact = getLocalArtifact();
+        final var entityTag = EntityTag.withCoding(
+                EntityTag.of(artifact.getCheckSum(), artifact.getByteSize()), "gzip");
+
+        when(artifactRepository.findById(artifact.getId())).thenReturn(Optional.of(artifact));
+        when(artifactRepository.findRemoteOriginAgreements(artifact.getId()))
+                .thenReturn(List.of());
+
+        /* ACT */
+        final var unencoded = service.isDataUnchanged(null, artifact.getId(), null, entityTag,
+                null);
+        final var encoded = service.isDataUnchanged(null, artifact.getId(), null, entityTag,
+                "gzip");
+
+        /* ASSERT */
+        assertFalse(unencoded);
+        assertTrue(encoded);
+        verify(accessCounter, times(1)).increment(artifact.getId());
+    }
+
+    @Test
+    public void isDataUnchanged_differentEntityTag_returnFalse() {
+        /* ARRANGE */
+        final var artifact = getLocalArtifact();
+
+        when(artifactRepository.findById(artifact.getId())).thenReturn(Optional.of(artifact));
+
+        /* ACT */
+        final var result = service.isDataUnchanged(null, artifact.getId(), null, "\"other\"",
+                null);
+
+        /* ASSERT */
+        assertFalse(result);
+        verify(accessCounter, never()).increment(any());
+    }
+
+    @Test
+    @SneakyThrows
+    public void delete_blobStillReferenced_keepBlob() {
+        /* ARRANGE */
+        final var artifact = getArtifactWithBlob("key");
+
+        when(artifactRepository.findById(artifact.getId())).thenReturn(Optional.of(artifact));
+        when(dataRepository.countByBlobKey("key")).thenReturn(1L);
+
+        /* ACT */
+        service.delete(artifact.getId());
+
+        /* ASSERT */
+        verify(artifactRepository, times(1)).deleteById(artifact.getId());
+        verify(blobStore, never()).delete(any());
+    }
+
+    @Test
+    @SneakyThrows
+    public void delete_lastReference_deleteBlob() {
+        /* ARRANGE */
+        final var artifact = getArtifactWithBlob("key");
+
+        when(artifactRepository.findById(artifact.getId())).thenReturn(Optional.of(artifact));
+        when(dataRepository.countByBlobKey("key")).thenReturn(0L);
+
+        /* ACT */
+        service.delete(artifact.getId());
+
+        /* ASSERT */
+        verify(blobStore, times(1)).delete("key");
+    }
+
+    @Test
+    @SneakyThrows
+    public void deleteData_lastReference_removeReferenceAndDeleteBlob() {
+        /* ARRANGE */
+        final var artifact = getArtifactWithBlob("key");
+        ReflectionTestUtils.setField(artifact, "byteSize", 4L);
+        ReflectionTestUtils.setField(artifact, "checkSum", 1L);
+
+        when(artifactRepository.findById(artifact.getId())).thenReturn(Optional.of(artifact));
+        when(dataRepository.countByBlobKey("key")).thenReturn(0L);
+        when(artifactFactory.updateByteSize(artifact, 0, 0)).thenReturn(true);
+
+        /* ACT */
+        service.deleteData(artifact.getId());
+
+        /* ASSERT */
+        verify(dataRepository, times(1)).setBlobKey(1L, null, null);
+        verify(blobStore, times(1)).delete("key");
+        verify(artifactFactory, times(1)).updateByteSize(artifact, 0, 0);
+        assertNull(((LocalData) artifact.getData()).getBlobKey());
+    }
+
     @Test
     public void getAllByAgreement_validUuid_returnList() {
         /* ARRANGE */
@@ -535,6 +804,32 @@ class ArtifactServiceTest {
         return artifact;
     }
 
+    private ArtifactImpl getReservedArtifact() {
+        final var artifact = getLocalArtifact();
+        ReflectionTestUtils.setField(artifact, "additional",
+                new HashMap<>(Map.of("ids:byteSize", "0")));
+        when(artifactRepository.findById(artifact.getId())).thenReturn(Optional.of(artifact));
+        return artifact;
+    }
+
+    private PolicyVerifier<AccessVerificationInput> getReservingVerifier() {
+        return input -> {
+            input.setAccessCounted(true);
+            return VerificationResult.ALLOWED;
+        };
+    }
+
+    private ArtifactImpl getArtifactWithBlob(final String blobKey) {
+        final var data = new LocalData();
+        ReflectionTestUtils.setField(data, "id", 1L);
+        data.setBlobKey(blobKey);
+
+        final var artifact = new ArtifactImpl();
+        ReflectionTestUtils.setField(artifact, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(artifact, "data", data);
+        return artifact;
+    }
+
     @SneakyThrows
     private ArtifactImpl getUnknownArtifact() {
         final var artifactConstructor = ArtifactImpl.class.getConstructor();
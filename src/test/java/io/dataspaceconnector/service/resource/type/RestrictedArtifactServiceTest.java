@@ -17,7 +17,7 @@ package io.dataspaceconnector.service.resource.type;
 
 import io.dataspaceconnector.common.net.HttpService;
 import io.dataspaceconnector.common.net.QueryInput;
-import io.dataspaceconnector.common.routing.RouteDataDispatcher;
+import io.dataspaceconnector.common.routing.MultiRouteDispatcher;
 import io.dataspaceconnector.model.artifact.ArtifactFactory;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
 import io.dataspaceconnector.model.artifact.LocalData;
@@ -26,8 +26,12 @@ import io.dataspaceconnector.repository.AuthenticationRepository;
 import io.dataspaceconnector.repository.DataRepository;
 import io.dataspaceconnector.service.DataRetriever;
 import io.dataspaceconnector.service.MultipartArtifactRetriever;
+import io.dataspaceconnector.service.ArtifactAccessCounter;
+import io.dataspaceconnector.service.ParallelDataDownloader;
 import io.dataspaceconnector.common.usagecontrol.AllowAccessVerifier;
 import io.dataspaceconnector.service.resource.relation.ArtifactRouteService;
+import io.dataspaceconnector.service.storage.BlobStore;
+import io.dataspaceconnector.service.storage.StagedBlob;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -47,7 +51,8 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(classes = {ArtifactService.class, ArtifactFactory.class, ArtifactRepository.class,
-        DataRepository.class, HttpService.class, MultipartArtifactRetriever.class})
+        DataRepository.class, HttpService.class, MultipartArtifactRetriever.class,
+        ArtifactDataComponents.class})
 public class RestrictedArtifactServiceTest {
 
     @MockBean
@@ -72,11 +77,20 @@ public class RestrictedArtifactServiceTest {
     private DataRetriever dataRetriever;
 
     @MockBean
-    private RouteDataDispatcher routeDataDispatcher;
+    private MultiRouteDispatcher routeDispatcher;
 
     @MockBean
     private MultipartArtifactRetriever artifactReceiver;
 
+    @MockBean
+    private BlobStore blobStore;
+
+    @MockBean
+    private ParallelDataDownloader parallelDownloader;
+
+    @MockBean
+    private ArtifactAccessCounter accessCounter;
+
     @SpyBean
     private ArtifactService service;
 
@@ -98,6 +112,11 @@ public class RestrictedArtifactServiceTest {
         Mockito.doReturn(agreements).when(artifactRepository).findRemoteOriginAgreements(artifactId);
         Mockito.doReturn(artifact).when(service).get(artifactId);
         Mockito.doReturn(data).when(artifactReceiver).retrieve(artifactId, artifact.getRemoteAddress(), agreements.get(0), null);
+        final var staged = new StagedBlob("tmp", "key");
+        Mockito.doReturn(staged).when(blobStore).stage(Mockito.any());
+        Mockito.doReturn("key").when(blobStore).publish(staged);
+        Mockito.doAnswer(invocation -> new ByteArrayInputStream(dataString))
+                .when(blobStore).load("key");
 
         /* ACT */
         final var result = service.getData(verifier, artifactReceiver, artifactId,
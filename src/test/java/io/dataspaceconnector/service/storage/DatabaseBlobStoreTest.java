@@ -0,0 +1,242 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.storage;
+
+import io.dataspaceconnector.model.artifact.BlobChunk;
+import io.dataspaceconnector.repository.BlobChunkRepository;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {DatabaseBlobStore.class})
+class DatabaseBlobStoreTest {
+
+    @MockBean
+    private BlobChunkRepository chunkRepository;
+
+    @Autowired
+    private DatabaseBlobStore store;
+
+    @Test
+    @SneakyThrows
+    void store_dataLargerThanChunk_splitIntoChunksAndLoadReturnsData() {
+        /* ARRANGE */
+        final var chunks = new HashMap<Integer, byte[]>();
+        mockChunks(chunks);
+
+        final var data = new byte[BlobChunk.CHUNK_SIZE * 2 + 1];
+        data[data.length - 1] = 1;
+
+        /* ACT */
+        final var key = store.store(new ByteArrayInputStream(data));
+
+        /* ASSERT */
+        assertEquals(3, chunks.size());
+        assertEquals(1, chunks.get(2).length);
+        try (var result = store.load(key)) {
+            assertArrayEquals(data, result.readAllBytes());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void writeRange_alignedRangesInAnyOrder_loadReturnsAssembledData() {
+        /* ARRANGE */
+        final var chunks = new HashMap<Integer, byte[]>();
+        mockChunks(chunks);
+
+        final var data = new byte[BlobChunk.CHUNK_SIZE * 2 + 3];
+        for (var i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        /* ACT */
+        store.writeRange("key", BlobChunk.CHUNK_SIZE, new ByteArrayInputStream(data,
+                BlobChunk.CHUNK_SIZE, data.length - BlobChunk.CHUNK_SIZE));
+        store.writeRange("key", 0, new ByteArrayInputStream(data, 0, BlobChunk.CHUNK_SIZE));
+
+        /* ASSERT */
+        assertEquals(BlobChunk.CHUNK_SIZE, store.getRangeAlignment());
+        try (var result = store.load("key")) {
+            assertArrayEquals(data, result.readAllBytes());
+        }
+        assertThrows(IOException.class,
+                () -> store.writeRange("key", 1, new ByteArrayInputStream(new byte[1])));
+    }
+
+    @Test
+    @SneakyThrows
+    void load_rangeAcrossChunks_readOnlyRequiredChunks() {
+        /* ARRANGE */
+        final var chunks = new HashMap<Integer, byte[]>();
+        mockChunks(chunks);
+
+        final var data = new byte[BlobChunk.CHUNK_SIZE * 3];
+        for (var i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        final var key = store.store(new ByteArrayInputStream(data));
+        final var offset = BlobChunk.CHUNK_SIZE * 2L - 5;
+
+        /* ACT */
+        final byte[] result;
+        try (var stream = store.load(key, offset, 10)) {
+            result = stream.readAllBytes();
+        }
+
+        /* ASSERT */
+        assertArrayEquals(Arrays.copyOfRange(data, (int) offset, (int) offset + 10), result);
+        verify(chunkRepository, never()).findContent(anyString(), eq(0));
+        verify(chunkRepository, never()).findContent(anyString(), eq(3));
+    }
+
+    @Test
+    @SneakyThrows
+    void store_emptyData_loadReturnsEmptyData() {
+        /* ARRANGE */
+        final var chunks = new HashMap<Integer, byte[]>();
+        mockChunks(chunks);
+
+        /* ACT */
+        final var key = store.store(new ByteArrayInputStream(new byte[0]));
+
+        /* ASSERT */
+        assertEquals(0, chunks.size());
+        try (var result = store.load(key)) {
+            assertEquals(-1, result.read());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void store_newData_publishUnderContentHash() {
+        /* ARRANGE */
+        mockChunks(new HashMap<>());
+        final var data = "data".getBytes(StandardCharsets.UTF_8);
+        final var expected = HexFormat.of()
+                .formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+
+        /* ACT */
+        final var key = store.store(new ByteArrayInputStream(data));
+
+        /* ASSERT */
+        assertEquals(expected, key);
+        verify(chunkRepository).renameBlob(anyString(), eq(key));
+    }
+
+    @Test
+    @SneakyThrows
+    void store_existingData_dropDuplicateChunks() {
+        /* ARRANGE */
+        mockChunks(new HashMap<>());
+        final var tmpKey = ArgumentCaptor.forClass(String.class);
+        when(chunkRepository.countChunks(anyString())).thenReturn(1L);
+
+        /* ACT */
+        final var key = store.store(new ByteArrayInputStream("data".getBytes()));
+
+        /* ASSERT */
+        verify(chunkRepository).insertChunk(tmpKey.capture(), eq(0), any());
+        verify(chunkRepository).deleteChunks(tmpKey.getValue());
+        verify(chunkRepository, never()).renameBlob(anyString(), anyString());
+        assertNotEquals(tmpKey.getValue(), key);
+    }
+
+    @Test
+    @SneakyThrows
+    void write_partEndingInsideChunk_continueChunkWithNextPart() {
+        /* ARRANGE */
+        final var chunks = new HashMap<Integer, byte[]>();
+        mockChunks(chunks);
+
+        final var data = new byte[BlobChunk.CHUNK_SIZE * 2];
+        Arrays.fill(data, BlobChunk.CHUNK_SIZE, data.length, (byte) 1);
+        final var split = BlobChunk.CHUNK_SIZE + 1;
+
+        /* ACT */
+        store.write("upload", 0, new ByteArrayInputStream(Arrays.copyOf(data, split)));
+        store.write("upload", split,
+                new ByteArrayInputStream(Arrays.copyOfRange(data, split, data.length)));
+
+        /* ASSERT */
+        assertEquals(2, chunks.size());
+        try (var result = store.load("upload")) {
+            assertArrayEquals(data, result.readAllBytes());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void write_repeatedPart_discardDataBehindOffset() {
+        /* ARRANGE */
+        final var chunks = new HashMap<Integer, byte[]>();
+        mockChunks(chunks);
+        store.write("upload", 0, new ByteArrayInputStream(new byte[BlobChunk.CHUNK_SIZE * 2]));
+
+        /* ACT */
+        store.write("upload", 2, new ByteArrayInputStream(new byte[]{1}));
+
+        /* ASSERT */
+        assertEquals(1, chunks.size());
+        assertArrayEquals(new byte[]{0, 0, 1}, chunks.get(0));
+    }
+
+    private void mockChunks(final Map<Integer, byte[]> chunks) {
+        doAnswer(invocation -> {
+            final byte[] content = invocation.getArgument(2);
+            chunks.put(invocation.getArgument(1), content.clone());
+            return null;
+        }).when(chunkRepository).insertChunk(anyString(), anyInt(), any());
+        doAnswer(invocation -> {
+            final byte[] content = invocation.getArgument(2);
+            chunks.put(invocation.getArgument(1), content.clone());
+            return null;
+        }).when(chunkRepository).updateChunk(anyString(), anyInt(), any());
+        doAnswer(invocation -> {
+            final int from = invocation.getArgument(1);
+            chunks.keySet().removeIf(index -> index >= from);
+            return null;
+        }).when(chunkRepository).deleteChunksFrom(anyString(), anyInt());
+        when(chunkRepository.findContent(anyString(), anyInt())).thenAnswer(
+                invocation -> Optional.ofNullable(chunks.get((int) invocation.getArgument(1))));
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.storage;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileSystemBlobStoreTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    @SneakyThrows
+    void store_data_loadReturnsData() {
+        /* ARRANGE */
+        final var store = new FileSystemBlobStore(root);
+        final var data = "some data".getBytes(StandardCharsets.UTF_8);
+
+        /* ACT */
+        final var key = store.store(new ByteArrayInputStream(data));
+
+        /* ASSERT */
+        try (var result = store.load(key)) {
+            assertArrayEquals(data, result.readAllBytes());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void store_sameDataTwice_returnSameKey() {
+        /* ARRANGE */
+        final var store = new FileSystemBlobStore(root);
+        final var data = "some data".getBytes(StandardCharsets.UTF_8);
+
+        /* ACT */
+        final var first = store.store(new ByteArrayInputStream(data));
+        final var second = store.store(new ByteArrayInputStream(data));
+        final var other = store.store(new ByteArrayInputStream("other".getBytes()));
+
+        /* ASSERT */
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+        try (var files = Files.walk(root)) {
+            assertEquals(2, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void stage_data_onlyAvailableOncePublished() {
+        /* ARRANGE */
+        final var store = new FileSystemBlobStore(root);
+        final var data = "some data".getBytes(StandardCharsets.UTF_8);
+
+        /* ACT */
+        final var staged = store.stage(new ByteArrayInputStream(data));
+
+        /* ASSERT */
+        assertThrows(IOException.class, () -> store.load(staged.getKey()));
+        final var key = store.publish(staged);
+        assertEquals(staged.getKey(), key);
+        try (var result = store.load(key)) {
+            assertArrayEquals(data, result.readAllBytes());
+        }
+        try (var files = Files.walk(root)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void load_range_returnOnlyRange() {
+        /* ARRANGE */
+        final var store = new FileSystemBlobStore(root);
+        final var key = store.store(new ByteArrayInputStream("0123456789".getBytes()));
+
+        /* ACT */
+        try (var result = store.load(key, 3, 4)) {
+            /* ASSERT */
+            assertArrayEquals("3456".getBytes(), result.readAllBytes());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void delete_storedData_removeData() {
+        /* ARRANGE */
+        final var store = new FileSystemBlobStore(root);
+        final var key = store.store(new ByteArrayInputStream("some data".getBytes()));
+
+        /* ACT */
+        store.delete(key);
+
+        /* ASSERT */
+        try (var files = Files.walk(root)) {
+            assertFalse(files.anyMatch(Files::isRegularFile));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void write_consecutiveParts_appendParts() {
+        /* ARRANGE */
+        final var store = new FileSystemBlobStore(root);
+
+        /* ACT */
+        store.write("upload", 0, new ByteArrayInputStream("01234".getBytes()));
+        store.write("upload", 5, new ByteArrayInputStream("56789".getBytes()));
+
+        /* ASSERT */
+        try (var result = store.load("upload")) {
+            assertArrayEquals("0123456789".getBytes(), result.readAllBytes());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void write_repeatedPart_discardDataBehindOffset() {
+        /* ARRANGE */
+        final var store = new FileSystemBlobStore(root);
+        store.write("upload", 0, new ByteArrayInputStream("0123456789".getBytes()));
+
+        /* ACT */
+        store.write("upload", 5, new ByteArrayInputStream("ab".getBytes()));
+
+        /* ASSERT */
+        try (var result = store.load("upload")) {
+            assertArrayEquals("01234ab".getBytes(), result.readAllBytes());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void write_offsetBehindEnd_throwIOException() {
+        /* ARRANGE */
+        final var store = new FileSystemBlobStore(root);
+        store.write("upload", 0, new ByteArrayInputStream("01234".getBytes()));
+
+        /* ACT && ASSERT */
+        assertThrows(IOException.class,
+                () -> store.write("upload", 6, new ByteArrayInputStream("6".getBytes())));
+    }
+
+    @Test
+    void load_invalidKey_throwIOException() {
+        /* ARRANGE */
+        final var store = new FileSystemBlobStore(root);
+
+        /* ACT && ASSERT */
+        assertThrows(IOException.class, () -> store.load("../secret"));
+    }
+}
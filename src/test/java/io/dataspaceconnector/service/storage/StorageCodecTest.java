@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.storage;
+
+import io.dataspaceconnector.model.artifact.Compression;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StorageCodecTest {
+
+    private static final byte[] DATA = "a,b,c\na,b,c\na,b,c\na,b,c\n".repeat(100)
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void decode_encodedData_returnOriginalData() throws IOException {
+        for (final var compression : Compression.values()) {
+            /* ACT */
+            final byte[] encoded;
+            try (var stream = StorageCodec.encode(new ByteArrayInputStream(DATA), compression)) {
+                encoded = stream.readAllBytes();
+            }
+
+            /* ASSERT */
+            try (var decoded = StorageCodec.decode(new ByteArrayInputStream(encoded),
+                    compression)) {
+                assertArrayEquals(DATA, decoded.readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    void decode_noCompression_returnSameStream() {
+        /* ARRANGE */
+        final var data = new ByteArrayInputStream(DATA);
+
+        /* ACT && ASSERT */
+        assertSame(data, StorageCodec.decode(data, Compression.NONE));
+    }
+
+    @Test
+    void getEncodedData_unreadStream_returnCompressedData() throws IOException {
+        /* ARRANGE */
+        final var encoded = StorageCodec.encode(new ByteArrayInputStream(DATA), Compression.GZIP)
+                .readAllBytes();
+        final var stream = StorageCodec.decode(new ByteArrayInputStream(encoded),
+                Compression.GZIP);
+
+        /* ACT */
+        assertTrue(stream instanceof EncodedInputStream);
+        final var result = ((EncodedInputStream) stream).getEncodedData().readAllBytes();
+
+        /* ASSERT */
+        assertEquals("gzip", ((EncodedInputStream) stream).getContentEncoding());
+        assertArrayEquals(encoded, result);
+        try (var decoded = new GZIPInputStream(new ByteArrayInputStream(result))) {
+            assertArrayEquals(DATA, decoded.readAllBytes());
+        }
+    }
+
+    @Test
+    void getEncodedData_readStream_throwIllegalStateException() throws IOException {
+        /* ARRANGE */
+        final var encoded = StorageCodec.encode(new ByteArrayInputStream(DATA), Compression.ZSTD)
+                .readAllBytes();
+        final var stream = (EncodedInputStream) StorageCodec.decode(
+                new ByteArrayInputStream(encoded), Compression.ZSTD);
+        stream.read();
+
+        /* ACT && ASSERT */
+        assertThrows(IllegalStateException.class, stream::getEncodedData);
+    }
+}
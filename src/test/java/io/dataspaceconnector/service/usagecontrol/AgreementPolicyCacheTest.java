@@ -0,0 +1,202 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import de.fraunhofer.iais.eis.Action;
+import de.fraunhofer.iais.eis.ContractAgreement;
+import de.fraunhofer.iais.eis.ContractAgreementBuilder;
+import de.fraunhofer.iais.eis.PermissionBuilder;
+import de.fraunhofer.iais.eis.ProhibitionBuilder;
+import de.fraunhofer.iais.eis.util.Util;
+import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.common.ids.mapping.ToIdsObjectMapper;
+import io.dataspaceconnector.common.ids.policy.PolicyPattern;
+import io.dataspaceconnector.common.ids.policy.RuleParameters;
+import io.dataspaceconnector.model.agreement.Agreement;
+import io.dataspaceconnector.model.agreement.AgreementRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AgreementPolicyCacheTest {
+
+    private final URI permittedTarget = URI.create("https://permitted");
+
+    private final URI prohibitedTarget = URI.create("https://prohibited");
+
+    private DeserializationService deserializationService;
+
+    private AgreementPolicyCache cache;
+
+    @BeforeEach
+    void init() {
+        deserializationService = Mockito.mock(DeserializationService.class);
+        when(deserializationService.getContractAgreement(Mockito.anyString()))
+                .thenReturn(getContractAgreement());
+        cache = new AgreementPolicyCache(deserializationService);
+        ReflectionTestUtils.setField(cache, "maxSize", 2);
+    }
+
+    @Test
+    void get_sameAgreementTwice_deserializeOnce() {
+        /* ARRANGE */
+        final var agreement = getAgreement("A");
+
+        /* ACT */
+        final var first = cache.get(agreement);
+        final var second = cache.get(agreement);
+
+        /* ASSERT */
+        assertSame(first, second);
+        verify(deserializationService, times(1)).getContractAgreement("A");
+    }
+
+    @Test
+    void get_agreementModified_deserializeAgain() {
+        /* ARRANGE */
+        final var agreement = getAgreement("A");
+        cache.get(agreement);
+        ReflectionTestUtils.setField(agreement, "modificationDate",
+                agreement.getModificationDate().plusSeconds(1));
+
+        /* ACT */
+        final var result = cache.get(agreement);
+
+        /* ASSERT */
+        assertEquals(agreement.getModificationDate(), result.getModificationDate());
+        verify(deserializationService, times(2)).getContractAgreement("A");
+    }
+
+    @Test
+    void get_cacheFull_evictLeastRecentlyUsed() {
+        /* ARRANGE */
+        final var first = getAgreement("A");
+        final var second = getAgreement("B");
+        final var third = getAgreement("C");
+
+        /* ACT */
+        cache.get(first);
+        cache.get(second);
+        cache.get(first);
+        cache.get(third);
+        cache.get(first);
+        cache.get(second);
+
+        /* ASSERT */
+        verify(deserializationService, times(1)).getContractAgreement("A");
+        verify(deserializationService, times(2)).getContractAgreement("B");
+    }
+
+    @Test
+    void get_cacheDisabled_deserializeEveryTime() {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(cache, "maxSize", 0);
+        final var agreement = getAgreement("A");
+
+        /* ACT */
+        cache.get(agreement);
+        cache.get(agreement);
+
+        /* ASSERT */
+        verify(deserializationService, times(2)).getContractAgreement("A");
+    }
+
+    @Test
+    void get_rulesStoredWithAgreement_doNotDeserialize() {
+        /* ARRANGE */
+        final var parameters = new RuleParameters();
+        parameters.setPattern(PolicyPattern.PROVIDE_ACCESS);
+        final var agreement = getAgreement("A");
+        agreement.setRules(List.of(new AgreementRule(permittedTarget, parameters)));
+
+        /* ACT */
+        final var result = cache.get(agreement);
+
+        /* ASSERT */
+        assertEquals(List.of(parameters), result.getRules(permittedTarget));
+        verify(deserializationService, never()).getContractAgreement(Mockito.anyString());
+    }
+
+    @Test
+    void get_agreementWithoutExtractedRules_doNotDeserialize() {
+        /* ARRANGE */
+        final var agreement = getAgreement("A");
+        agreement.setRules(List.of());
+        agreement.setRulesExtracted(true);
+
+        /* ACT */
+        final var result = cache.get(agreement);
+
+        /* ASSERT */
+        assertTrue(result.getRules(permittedTarget).isEmpty());
+        verify(deserializationService, never()).getContractAgreement(Mockito.anyString());
+    }
+
+    @Test
+    void get_validAgreement_groupRulesByTarget() {
+        /* ACT */
+        final var result = cache.get(getAgreement("A"));
+
+        /* ASSERT */
+        assertEquals(1, result.getRules(permittedTarget).size());
+        assertEquals(PolicyPattern.PROVIDE_ACCESS,
+                result.getRules(permittedTarget).get(0).getPattern());
+        assertEquals(1, result.getRules(prohibitedTarget).size());
+        assertEquals(PolicyPattern.PROHIBIT_ACCESS,
+                result.getRules(prohibitedTarget).get(0).getPattern());
+        assertTrue(result.getRules(URI.create("https://other")).isEmpty());
+    }
+
+    /***********************************************************************************************
+     * Utilities.                                                                                  *
+     **********************************************************************************************/
+
+    private Agreement getAgreement(final String value) {
+        final var agreement = new Agreement();
+        ReflectionTestUtils.setField(agreement, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(agreement, "value", value);
+        ReflectionTestUtils.setField(agreement, "modificationDate", ZonedDateTime.now());
+        return agreement;
+    }
+
+    private ContractAgreement getContractAgreement() {
+        return new ContractAgreementBuilder(URI.create("https://agreement"))
+                ._contractStart_(ToIdsObjectMapper.getGregorianOf(ZonedDateTime.now()))
+                ._permission_(Util.asList(new PermissionBuilder()
+                        ._target_(permittedTarget)
+                        ._action_(Util.asList(Action.USE))
+                        .build()))
+                ._prohibition_(Util.asList(new ProhibitionBuilder()
+                        ._target_(prohibitedTarget)
+                        ._action_(Util.asList(Action.USE))
+                        .build()))
+                .build();
+    }
+}
@@ -27,7 +27,10 @@ import de.fraunhofer.iais.eis.util.RdfResource;
 import de.fraunhofer.iais.eis.util.TypedLiteral;
 import de.fraunhofer.iais.eis.util.Util;
 import de.fraunhofer.ids.messaging.util.IdsMessageUtils;
+import io.dataspaceconnector.common.exception.PolicyExecutionException;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
+import io.dataspaceconnector.common.ids.policy.PolicyPattern;
+import io.dataspaceconnector.common.ids.policy.RuleParameters;
 import io.dataspaceconnector.common.net.SelfLinkHelper;
 import io.dataspaceconnector.config.ConnectorConfig;
 import io.dataspaceconnector.model.artifact.Artifact;
@@ -42,13 +45,23 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.net.URI;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = {DataAccessVerifier.class})
@@ -66,6 +79,9 @@ public class DataAccessVerifierTest {
     @MockBean
     private SelfLinkHelper selfLinkHelper;
 
+    @MockBean
+    private PolicyDecisionCache decisionCache;
+
     @Autowired
     private DataAccessVerifier verifier;
 
@@ -80,8 +96,8 @@ public class DataAccessVerifierTest {
         final var agreement = getContractAgreement();
         final var input = new AccessVerificationInput(agreement.getId(), artifact);
 
-        when(entityResolver.getContractAgreementsByTarget(any())).thenReturn(List.of(agreement));
-        doNothing().when(ruleValidator).validatePolicy(any(), any(), any(), any(), any(), any());
+        when(entityResolver.getCompiledAgreementsByTarget(any())).thenReturn(compile(agreement));
+        doNothing().when(ruleValidator).validatePolicy(any(RuleParameters.class), any(), any(), any(), any());
 
         /* ACT */
         final var result = verifier.verify(input);
@@ -97,9 +113,48 @@ public class DataAccessVerifierTest {
         final var agreement = getContractAgreement();
         final var input = new AccessVerificationInput(agreement.getId(), artifact);
 
-        when(entityResolver.getContractAgreementsByTarget(any())).thenReturn(List.of(agreement));
+        when(entityResolver.getCompiledAgreementsByTarget(any())).thenReturn(compile(agreement));
         doThrow(PolicyRestrictionException.class)
-                .when(ruleValidator).validatePolicy(any(), any(), any(), any(), any(), any());
+                .when(ruleValidator).validatePolicy(any(RuleParameters.class), any(), any(), any(), any());
+        when(connectorConfig.isAllowUnsupported()).thenReturn(false);
+
+        /* ACT */
+        final var result = verifier.verify(input);
+
+        /* ASSERT */
+        assertEquals(VerificationResult.DENIED, result);
+    }
+
+    @Test
+    public void verify_accessNumberRestricted_reserveAccessWithLowestMaximum() {
+        /* ARRANGE */
+        final var artifact = getArtifact();
+        final var agreement = getNTimesAgreement(URI.create("https://agreement.com/1"), "5");
+        final var otherAgreement = getNTimesAgreement(URI.create("https://agreement.com/2"), "3");
+        final var input = new AccessVerificationInput(agreement.getId(), artifact);
+
+        when(entityResolver.getCompiledAgreementsByTarget(any()))
+                .thenReturn(compile(agreement, otherAgreement));
+
+        /* ACT */
+        final var result = verifier.verify(input);
+
+        /* ASSERT */
+        assertEquals(VerificationResult.ALLOWED, result);
+        assertTrue(input.isAccessCounted());
+        verify(ruleValidator, times(1)).reserveAccess(any(), eq(3L));
+        verify(ruleValidator, never()).validatePolicy(any(RuleParameters.class), any(), any(), any(), any());
+    }
+
+    @Test
+    public void verify_accessNumberReached_denyAccess() {
+        /* ARRANGE */
+        final var artifact = getArtifact();
+        final var agreement = getNTimesAgreement(URI.create("https://agreement.com"), "5");
+        final var input = new AccessVerificationInput(agreement.getId(), artifact);
+
+        when(entityResolver.getCompiledAgreementsByTarget(any())).thenReturn(compile(agreement));
+        doThrow(PolicyRestrictionException.class).when(ruleValidator).reserveAccess(any(), eq(5L));
         when(connectorConfig.isAllowUnsupported()).thenReturn(false);
 
         /* ACT */
@@ -107,12 +162,148 @@ public class DataAccessVerifierTest {
 
         /* ASSERT */
         assertEquals(VerificationResult.DENIED, result);
+        assertFalse(input.isAccessCounted());
+    }
+
+    @Test
+    public void verify_accessNumberNotRestricted_doNotCountAccess() {
+        /* ARRANGE */
+        final var artifact = getArtifact();
+        final var agreement = getContractAgreement();
+        final var input = new AccessVerificationInput(agreement.getId(), artifact);
+
+        when(entityResolver.getCompiledAgreementsByTarget(any())).thenReturn(compile(agreement));
+
+        /* ACT */
+        verifier.verify(input);
+
+        /* ASSERT */
+        assertFalse(input.isAccessCounted());
+        verify(ruleValidator, never()).reserveAccess(any(), anyLong());
+    }
+
+    @Test
+    public void verify_decisionCached_executeOnlyEffectsAndReserveAccess() {
+        /* ARRANGE */
+        final var artifact = getArtifact();
+        final var agreement = getNTimesAgreement(URI.create("https://agreement.com/1"), "5");
+        final var input = new AccessVerificationInput(agreement.getId(), artifact);
+        final var agreements = compile(agreement);
+        final var logging = new RuleParameters();
+        logging.setPattern(PolicyPattern.USAGE_LOGGING);
+
+        when(entityResolver.getCompiledAgreementsByTarget(any())).thenReturn(agreements);
+        when(decisionCache.get(any(), any(), any(), eq(agreements)))
+                .thenReturn(new PolicyDecision(agreements, null, List.of(logging), 5L));
+
+        /* ACT */
+        final var result = verifier.verify(input);
+
+        /* ASSERT */
+        assertEquals(VerificationResult.ALLOWED, result);
+        assertTrue(input.isAccessCounted());
+        verify(ruleValidator, times(1)).validatePolicy(eq(logging), any(), any(), any(), any());
+        verify(ruleValidator, times(1)).reserveAccess(any(), eq(5L));
+        verify(decisionCache, never()).put(any(), any(), any(), any());
+    }
+
+    @Test
+    public void verify_notificationFailsAndAccessNumberReached_denyAccess() {
+        /* ARRANGE */
+        final var artifact = getArtifact();
+        final var agreement = getNTimesAgreement(URI.create("https://agreement.com/1"), "5");
+        final var input = new AccessVerificationInput(agreement.getId(), artifact);
+        final var agreements = compile(agreement);
+        final var notification = new RuleParameters();
+        notification.setPattern(PolicyPattern.USAGE_NOTIFICATION);
+
+        when(entityResolver.getCompiledAgreementsByTarget(any())).thenReturn(agreements);
+        when(decisionCache.get(any(), any(), any(), eq(agreements)))
+                .thenReturn(new PolicyDecision(agreements, null, List.of(notification), 5L));
+        doThrow(PolicyExecutionException.class).when(ruleValidator)
+                .validatePolicy(eq(notification), any(), any(), any(), any());
+        doThrow(PolicyRestrictionException.class).when(ruleValidator).reserveAccess(any(), eq(5L));
+        when(connectorConfig.isAllowUnsupported()).thenReturn(false);
+
+        /* ACT */
+        final var result = verifier.verify(input);
+
+        /* ASSERT */
+        assertEquals(VerificationResult.DENIED, result);
+        verify(ruleValidator, never()).validatePolicy(eq(notification), any(), any(), any(), any());
+    }
+
+    @Test
+    public void verify_notificationFails_allowAndCountAccess() {
+        /* ARRANGE */
+        final var artifact = getArtifact();
+        final var agreement = getNTimesAgreement(URI.create("https://agreement.com/1"), "5");
+        final var input = new AccessVerificationInput(agreement.getId(), artifact);
+        final var agreements = compile(agreement);
+        final var notification = new RuleParameters();
+        notification.setPattern(PolicyPattern.USAGE_NOTIFICATION);
+
+        when(entityResolver.getCompiledAgreementsByTarget(any())).thenReturn(agreements);
+        when(decisionCache.get(any(), any(), any(), eq(agreements)))
+                .thenReturn(new PolicyDecision(agreements, null, List.of(notification), 5L));
+        doThrow(PolicyExecutionException.class).when(ruleValidator)
+                .validatePolicy(eq(notification), any(), any(), any(), any());
+
+        /* ACT */
+        final var result = verifier.verify(input);
+
+        /* ASSERT */
+        assertEquals(VerificationResult.ALLOWED, result);
+        assertTrue(input.isAccessCounted());
+        verify(ruleValidator, times(1)).reserveAccess(any(), eq(5L));
+    }
+
+    @Test
+    public void verify_decisionNotCached_cacheDecision() {
+        /* ARRANGE */
+        final var artifact = getArtifact();
+        final var agreement = getNTimesAgreement(URI.create("https://agreement.com/1"), "5");
+        final var input = new AccessVerificationInput(agreement.getId(), artifact);
+
+        when(entityResolver.getCompiledAgreementsByTarget(any())).thenReturn(compile(agreement));
+
+        /* ACT */
+        verifier.verify(input);
+
+        /* ASSERT */
+        verify(decisionCache, times(1)).put(any(), eq(agreement.getId()), any(),
+                argThat((PolicyDecision decision) -> decision.getMaxAccess() == 5L
+                        && decision.getExpiry() == null && decision.getEffects().isEmpty()));
+    }
+
+    @Test
+    public void verify_accessNotAllowed_doNotCacheDecision() {
+        /* ARRANGE */
+        final var artifact = getArtifact();
+        final var agreement = getContractAgreement();
+        final var input = new AccessVerificationInput(agreement.getId(), artifact);
+
+        when(entityResolver.getCompiledAgreementsByTarget(any())).thenReturn(compile(agreement));
+        doThrow(PolicyRestrictionException.class)
+                .when(ruleValidator).validatePolicy(any(RuleParameters.class), any(), any(), any(), any());
+
+        /* ACT */
+        verifier.verify(input);
+
+        /* ASSERT */
+        verify(decisionCache, never()).put(any(), any(), any(), any());
     }
 
     /***********************************************************************************************
      * Utilities.                                                                                  *
      **********************************************************************************************/
 
+    private List<CompiledAgreement> compile(final ContractAgreement... agreements) {
+        return Arrays.stream(agreements)
+                .map(agreement -> CompiledAgreement.of(agreement, null))
+                .collect(Collectors.toList());
+    }
+
     private ContractAgreement getContractAgreement() {
         return new ContractAgreementBuilder(URI.create("https://agreement.com"))
                 ._contractStart_(IdsMessageUtils.getGregorianNow())
@@ -123,6 +314,22 @@ public class DataAccessVerifierTest {
                 .build();
     }
 
+    private ContractAgreement getNTimesAgreement(final URI id, final String max) {
+        return new ContractAgreementBuilder(id)
+                ._contractStart_(IdsMessageUtils.getGregorianNow())
+                ._contractEnd_(IdsMessageUtils.getGregorianNow())
+                ._permission_(Util.asList(new PermissionBuilder()
+                        ._target_(remoteId)
+                        ._action_(Util.asList(Action.USE))
+                        ._constraint_(Util.asList(new ConstraintBuilder()
+                                ._leftOperand_(LeftOperand.COUNT)
+                                ._operator_(BinaryOperator.LTEQ)
+                                ._rightOperand_(new RdfResource(max))
+                                .build()))
+                        .build()))
+                .build();
+    }
+
     private Permission getPermission() {
         return new PermissionBuilder()
                 ._title_(Util.asList(new TypedLiteral("Example Usage Policy")))
@@ -29,6 +29,7 @@ import de.fraunhofer.iais.eis.util.TypedLiteral;
 import de.fraunhofer.iais.eis.util.Util;
 import de.fraunhofer.ids.messaging.util.IdsMessageUtils;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
+import io.dataspaceconnector.common.ids.policy.RuleParameters;
 import io.dataspaceconnector.config.ConnectorConfig;
 import io.dataspaceconnector.common.usagecontrol.VerificationResult;
 import org.junit.jupiter.api.Test;
@@ -68,7 +69,7 @@ public class DataProvisionVerifierTest {
 
         final var input = new ProvisionVerificationInput(target, issuerConnector, agreement, profile);
 
-        doNothing().when(ruleValidator).validatePolicy(any(), any(), any(), any(), any(), any());
+        doNothing().when(ruleValidator).validatePolicy(any(RuleParameters.class), any(), any(), any(), any());
 
         /* ACT */
         final var result = verifier.verify(input);
@@ -87,7 +88,7 @@ public class DataProvisionVerifierTest {
         final var input = new ProvisionVerificationInput(target, issuerConnector, agreement, profile);
 
         doThrow(PolicyRestrictionException.class)
-                .when(ruleValidator).validatePolicy(any(), any(), any(), any(), any(), any());
+                .when(ruleValidator).validatePolicy(any(RuleParameters.class), any(), any(), any(), any());
         when(connectorConfig.isAllowUnsupported()).thenReturn(false);
 
         /* ACT */
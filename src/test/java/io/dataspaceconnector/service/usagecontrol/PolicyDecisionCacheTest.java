@@ -0,0 +1,171 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import io.dataspaceconnector.common.ids.policy.PolicyPattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PolicyDecisionCacheTest {
+
+    private final URI target = URI.create("https://artifact");
+
+    private final URI agreementId = URI.create("https://agreement");
+
+    private final List<PolicyPattern> patterns = List.of(PolicyPattern.PROVIDE_ACCESS);
+
+    private final List<CompiledAgreement> agreements =
+            List.of(new CompiledAgreement(new ArrayList<>(), null));
+
+    private PolicyDecisionCache cache;
+
+    @BeforeEach
+    void init() {
+        cache = new PolicyDecisionCache();
+        ReflectionTestUtils.setField(cache, "maxSize", 2);
+    }
+
+    @Test
+    void get_decisionCached_returnDecision() {
+        /* ARRANGE */
+        final var decision = getDecision(null);
+        cache.put(target, agreementId, patterns, decision);
+
+        /* ACT */
+        final var result = cache.get(target, agreementId, patterns, agreements);
+
+        /* ASSERT */
+        assertSame(decision, result);
+    }
+
+    @Test
+    void get_decisionExpired_returnNull() {
+        /* ARRANGE */
+        cache.put(target, agreementId, patterns, getDecision(ZonedDateTime.now().minusDays(1)));
+
+        /* ACT */
+        final var result = cache.get(target, agreementId, patterns, agreements);
+
+        /* ASSERT */
+        assertNull(result);
+    }
+
+    @Test
+    void get_decisionNotYetExpired_returnDecision() {
+        /* ARRANGE */
+        final var decision = getDecision(ZonedDateTime.now().plusDays(1));
+        cache.put(target, agreementId, patterns, decision);
+
+        /* ACT */
+        final var result = cache.get(target, agreementId, patterns, agreements);
+
+        /* ASSERT */
+        assertSame(decision, result);
+    }
+
+    @Test
+    void get_agreementChanged_returnNull() {
+        /* ARRANGE */
+        cache.put(target, agreementId, patterns, getDecision(null));
+        final var changed = List.of(new CompiledAgreement(new ArrayList<>(), null));
+
+        /* ACT */
+        final var result = cache.get(target, agreementId, patterns, changed);
+
+        /* ASSERT */
+        assertNull(result);
+    }
+
+    @Test
+    void get_otherAgreementId_returnNull() {
+        /* ARRANGE */
+        cache.put(target, agreementId, patterns, getDecision(null));
+
+        /* ACT */
+        final var result = cache.get(target, URI.create("https://other"), patterns, agreements);
+
+        /* ASSERT */
+        assertNull(result);
+    }
+
+    @Test
+    void put_cacheFull_evictLeastRecentlyUsed() {
+        /* ARRANGE */
+        final var first = URI.create("https://artifact/1");
+        final var second = URI.create("https://artifact/2");
+        final var third = URI.create("https://artifact/3");
+        cache.put(first, agreementId, patterns, getDecision(null));
+        cache.put(second, agreementId, patterns, getDecision(null));
+        cache.get(first, agreementId, patterns, agreements);
+
+        /* ACT */
+        cache.put(third, agreementId, patterns, getDecision(null));
+
+        /* ASSERT */
+        assertNull(cache.get(second, agreementId, patterns, agreements));
+    }
+
+    @Test
+    void put_cacheDisabled_doNotCache() {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(cache, "maxSize", 0);
+
+        /* ACT */
+        cache.put(target, agreementId, patterns, getDecision(null));
+
+        /* ASSERT */
+        assertNull(cache.get(target, agreementId, patterns, agreements));
+    }
+
+    @Test
+    void handleExpiration_decisionExpired_dropDecision() {
+        /* ARRANGE */
+        final var valid = URI.create("https://artifact/valid");
+        final var decision = getDecision(ZonedDateTime.now().plusDays(1));
+        cache.put(target, agreementId, patterns, getDecision(ZonedDateTime.now().minusDays(1)));
+        cache.put(valid, agreementId, patterns, decision);
+
+        /* ACT */
+        cache.handleExpiration(new PolicyExpirationEvent(
+                PolicyExpirationEvent.Type.RULE_EXPIRED, Set.of(UUID.randomUUID())));
+
+        /* ASSERT */
+        final var cached = (Map<?, ?>) ReflectionTestUtils.getField(cache, "cache");
+        assertEquals(1, cached.size());
+        assertSame(decision, cache.get(valid, agreementId, patterns, agreements));
+    }
+
+    /***********************************************************************************************
+     * Utilities.                                                                                  *
+     **********************************************************************************************/
+
+    private PolicyDecision getDecision(final ZonedDateTime expiry) {
+        return new PolicyDecision(agreements, expiry, new ArrayList<>(), Long.MAX_VALUE);
+    }
+}
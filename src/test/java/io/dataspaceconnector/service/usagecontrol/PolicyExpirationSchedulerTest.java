@@ -0,0 +1,160 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import io.dataspaceconnector.common.ids.policy.PolicyPattern;
+import io.dataspaceconnector.common.ids.policy.RuleParameters;
+import io.dataspaceconnector.common.time.TimingWheel;
+import io.dataspaceconnector.model.agreement.AgreementRule;
+import io.dataspaceconnector.model.agreement.DataRemoval;
+import io.dataspaceconnector.repository.AgreementRepository;
+import io.dataspaceconnector.repository.DataRemovalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PolicyExpirationSchedulerTest {
+
+    private final UUID agreementId = UUID.randomUUID();
+
+    private DataRemovalRepository removalRepository;
+
+    private AgreementRepository agreementRepository;
+
+    private ApplicationEventPublisher publisher;
+
+    private PolicyExpirationScheduler scheduler;
+
+    @BeforeEach
+    void init() {
+        removalRepository = Mockito.mock(DataRemovalRepository.class);
+        agreementRepository = Mockito.mock(AgreementRepository.class);
+        publisher = Mockito.mock(ApplicationEventPublisher.class);
+        scheduler = new PolicyExpirationScheduler(removalRepository, agreementRepository,
+                publisher);
+        ReflectionTestUtils.setField(scheduler, "tick", 1000L);
+    }
+
+    @Test
+    void advance_pendingRemovalDue_publishDataRemovalEvent() {
+        /* ARRANGE */
+        when(removalRepository.findAllPending())
+                .thenReturn(List.of(getRemoval(ZonedDateTime.now().minusMinutes(1))));
+        scheduler.load();
+
+        /* ACT */
+        scheduler.advance();
+
+        /* ASSERT */
+        verify(publisher, times(1)).publishEvent(argThat((Object event) ->
+                event instanceof PolicyExpirationEvent
+                        && ((PolicyExpirationEvent) event).getType()
+                        == PolicyExpirationEvent.Type.DATA_REMOVAL
+                        && ((PolicyExpirationEvent) event).getAgreements()
+                        .equals(Set.of(agreementId))));
+    }
+
+    @Test
+    void advance_removalNotDue_publishNothing() {
+        /* ARRANGE */
+        when(removalRepository.findAllPending())
+                .thenReturn(List.of(getRemoval(ZonedDateTime.now().plusDays(1))));
+        scheduler.load();
+
+        /* ACT */
+        scheduler.advance();
+
+        /* ASSERT */
+        verify(publisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void reschedule_ruleIntervalRunning_scheduleOnlyRunningInterval() {
+        /* ARRANGE */
+        scheduler.load();
+        final var running = getRule(ZonedDateTime.now().plusDays(1));
+        final var ended = getRule(ZonedDateTime.now().minusDays(1));
+
+        /* ACT */
+        scheduler.reschedule(agreementId, List.of(running, ended), List.of());
+
+        /* ASSERT */
+        final var wheel = (TimingWheel<?>) ReflectionTestUtils.getField(scheduler, "wheel");
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void reschedule_previousExpirations_cancelPreviousExpirations() {
+        /* ARRANGE */
+        scheduler.load();
+        scheduler.reschedule(agreementId, List.of(),
+                List.of(getRemoval(ZonedDateTime.now().minusMinutes(1))));
+
+        /* ACT */
+        scheduler.reschedule(agreementId, List.of(), List.of());
+        scheduler.advance();
+
+        /* ASSERT */
+        verify(publisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void cancel_scheduledRemoval_publishNothing() {
+        /* ARRANGE */
+        scheduler.load();
+        scheduler.reschedule(agreementId, List.of(),
+                List.of(getRemoval(ZonedDateTime.now().minusMinutes(1))));
+
+        /* ACT */
+        scheduler.cancel(agreementId);
+        scheduler.advance();
+
+        /* ASSERT */
+        verify(publisher, never()).publishEvent(any());
+    }
+
+    /***********************************************************************************************
+     * Utilities.                                                                                  *
+     **********************************************************************************************/
+
+    private AgreementRule getRule(final ZonedDateTime end) {
+        final var parameters = new RuleParameters();
+        parameters.setPattern(PolicyPattern.USAGE_DURING_INTERVAL);
+        parameters.setIntervalEnd(end);
+        return new AgreementRule(URI.create("https://target"), parameters);
+    }
+
+    private DataRemoval getRemoval(final ZonedDateTime deadline) {
+        return new DataRemoval(UUID.randomUUID(), agreementId, URI.create("https://target"),
+                deadline, false);
+    }
+}
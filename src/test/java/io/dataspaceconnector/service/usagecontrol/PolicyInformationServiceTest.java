@@ -17,6 +17,7 @@ package io.dataspaceconnector.service.usagecontrol;
 
 import io.dataspaceconnector.model.artifact.Artifact;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
+import io.dataspaceconnector.service.ArtifactAccessCounter;
 import io.dataspaceconnector.service.resource.type.ArtifactService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,6 +31,7 @@ import java.time.ZonedDateTime;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = {PolicyInformationService.class})
@@ -38,6 +40,9 @@ public class PolicyInformationServiceTest {
     @MockBean
     private ArtifactService artifactService;
 
+    @MockBean
+    private ArtifactAccessCounter accessCounter;
+
     @Autowired
     private PolicyInformationService policyInformationService;
 
@@ -66,7 +71,7 @@ public class PolicyInformationServiceTest {
         final var artifact = getArtifact();
         final var targetUri = URI.create("https://localhost:8080/api/artifacts" + artifact.getId());
 
-        when(artifactService.get(artifact.getId())).thenReturn(artifact);
+        when(accessCounter.get(artifact.getId())).thenReturn(numAccessed);
 
         /* ACT */
         final var result = policyInformationService.getAccessNumber(targetUri);
@@ -75,6 +80,21 @@ public class PolicyInformationServiceTest {
         assertEquals(numAccessed, result);
     }
 
+    @Test
+    public void reserveAccess_artifactPresent_reserveViaCounter() {
+        /* ARRANGE */
+        final var artifact = getArtifact();
+        final var targetUri = URI.create("https://localhost:8080/api/artifacts" + artifact.getId());
+
+        when(accessCounter.reserve(artifact.getId(), 5)).thenReturn(true);
+
+        /* ACT */
+        final var result = policyInformationService.reserveAccess(targetUri, 5);
+
+        /* ASSERT */
+        assertTrue(result);
+    }
+
     /***********************************************************************************************
      * Utilities.                                                                                  *
      **********************************************************************************************/
@@ -20,11 +20,14 @@ import de.fraunhofer.iais.eis.BinaryOperator;
 import de.fraunhofer.iais.eis.ConstraintBuilder;
 import de.fraunhofer.iais.eis.LeftOperand;
 import de.fraunhofer.iais.eis.PermissionBuilder;
+import de.fraunhofer.iais.eis.Rule;
 import de.fraunhofer.iais.eis.SecurityProfile;
 import de.fraunhofer.iais.eis.util.RdfResource;
 import de.fraunhofer.iais.eis.util.Util;
 import io.dataspaceconnector.common.exception.ErrorMessage;
 import io.dataspaceconnector.common.ids.policy.PolicyPattern;
+import io.dataspaceconnector.common.ids.policy.RuleParameters;
+import io.dataspaceconnector.common.ids.policy.RuleUtils;
 import io.dataspaceconnector.controller.policy.util.PatternUtils;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
 import io.dataspaceconnector.model.pattern.SecurityRestrictionDesc;
@@ -38,6 +41,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
 import java.net.URI;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -86,7 +90,7 @@ class RuleValidatorTest {
         final var agreementId = URI.create("https://target");
 
         /* ACT && ASSERT */
-        assertDoesNotThrow(() -> validator.validatePolicy( PolicyPattern.USAGE_DURING_INTERVAL, rule, target, recipient, Optional.empty(), agreementId));
+        assertDoesNotThrow(() -> validator.validatePolicy(getParameters(PolicyPattern.USAGE_DURING_INTERVAL, rule), target, recipient, Optional.empty(), agreementId));
     }
 
     @Test
@@ -110,7 +114,7 @@ class RuleValidatorTest {
         final var agreementId = URI.create("https://target");
 
         /* ACT && ASSERT */
-        final var result = assertThrows(PolicyRestrictionException.class, () -> validator.validatePolicy( PolicyPattern.USAGE_DURING_INTERVAL, rule, target, recipient, Optional.empty(), agreementId));
+        final var result = assertThrows(PolicyRestrictionException.class, () -> validator.validatePolicy(getParameters(PolicyPattern.USAGE_DURING_INTERVAL, rule), target, recipient, Optional.empty(), agreementId));
         assertEquals(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL.toString(), result.getMessage());
     }
 
@@ -135,7 +139,7 @@ class RuleValidatorTest {
         final var agreementId = URI.create("https://target");
 
         /* ACT && ASSERT */
-        final var result = assertThrows(PolicyRestrictionException.class, () -> validator.validatePolicy(PolicyPattern.USAGE_DURING_INTERVAL, rule, target, recipient, Optional.empty(), agreementId));
+        final var result = assertThrows(PolicyRestrictionException.class, () -> validator.validatePolicy(getParameters(PolicyPattern.USAGE_DURING_INTERVAL, rule), target, recipient, Optional.empty(), agreementId));
         assertEquals(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL.toString(), result.getMessage());
     }
 
@@ -157,7 +161,7 @@ class RuleValidatorTest {
         Mockito.when(informationService.getAccessNumber(eq(target))).thenReturn(0L);
 
         /* ACT && ASSERT */
-        assertDoesNotThrow(() -> validator.validatePolicy( PolicyPattern.N_TIMES_USAGE, rule, target, recipient, Optional.empty(),agreementId));
+        assertDoesNotThrow(() -> validator.validatePolicy(getParameters(PolicyPattern.N_TIMES_USAGE, rule), target, recipient, Optional.empty(),agreementId));
     }
 
     @Test
@@ -178,7 +182,67 @@ class RuleValidatorTest {
         Mockito.when(informationService.getAccessNumber(eq(target))).thenReturn(6L);
 
         /* ACT && ASSERT */
-        final var result = assertThrows(PolicyRestrictionException.class, () -> validator.validatePolicy(PolicyPattern.N_TIMES_USAGE, rule, target, recipient, Optional.empty(), agreementId));
+        final var result = assertThrows(PolicyRestrictionException.class, () -> validator.validatePolicy(getParameters(PolicyPattern.N_TIMES_USAGE, rule), target, recipient, Optional.empty(), agreementId));
+        assertEquals(ErrorMessage.DATA_ACCESS_NUMBER_REACHED.toString(), result.getMessage());
+    }
+
+    @Test
+    public void validatePolicy_parametersWithinInterval_doNothing() {
+        /* ARRANGE */
+        final var parameters = new RuleParameters();
+        parameters.setPattern(PolicyPattern.USAGE_DURING_INTERVAL);
+        parameters.setIntervalStart(ZonedDateTime.now().minusDays(1));
+        parameters.setIntervalEnd(ZonedDateTime.now().plusDays(1));
+
+        /* ACT && ASSERT */
+        assertDoesNotThrow(() -> validator.validatePolicy(parameters, URI.create("https://target"),
+                null, Optional.empty(), URI.create("https://agreement")));
+    }
+
+    @Test
+    public void validatePolicy_parametersWithoutMaxAccess_throwPolicyRestrictionException() {
+        /* ARRANGE */
+        final var parameters = new RuleParameters();
+        parameters.setPattern(PolicyPattern.N_TIMES_USAGE);
+
+        /* ACT && ASSERT */
+        final var result = assertThrows(PolicyRestrictionException.class,
+                () -> validator.validatePolicy(parameters, URI.create("https://target"), null,
+                        Optional.empty(), URI.create("https://agreement")));
+        assertEquals(ErrorMessage.DATA_ACCESS_NUMBER_REACHED.toString(), result.getMessage());
+        Mockito.verifyNoInteractions(informationService);
+    }
+
+    @Test
+    public void validatePolicy_parametersWithoutPattern_throwPolicyRestrictionException() {
+        /* ACT && ASSERT */
+        final var result = assertThrows(PolicyRestrictionException.class,
+                () -> validator.validatePolicy(new RuleParameters(), URI.create("https://target"),
+                        null, Optional.empty(), URI.create("https://agreement")));
+        assertEquals(ErrorMessage.POLICY_RESTRICTION.toString(), result.getMessage());
+    }
+
+    @Test
+    public void reserveAccess_accessNumberNotReached_doNothing() {
+        /* ARRANGE */
+        final var target = URI.create("https://target");
+
+        Mockito.when(informationService.reserveAccess(eq(target), eq(5L))).thenReturn(true);
+
+        /* ACT && ASSERT */
+        assertDoesNotThrow(() -> validator.reserveAccess(target, 5));
+    }
+
+    @Test
+    public void reserveAccess_accessNumberReached_throwPolicyRestrictionException() {
+        /* ARRANGE */
+        final var target = URI.create("https://target");
+
+        Mockito.when(informationService.reserveAccess(eq(target), eq(5L))).thenReturn(false);
+
+        /* ACT && ASSERT */
+        final var result = assertThrows(PolicyRestrictionException.class,
+                () -> validator.reserveAccess(target, 5));
         assertEquals(ErrorMessage.DATA_ACCESS_NUMBER_REACHED.toString(), result.getMessage());
     }
 
@@ -198,7 +262,7 @@ class RuleValidatorTest {
         final var agreementId = URI.create("https://target");
 
         /* ACT && ASSERT */
-        assertDoesNotThrow(() -> validator.validatePolicy( PolicyPattern.CONNECTOR_RESTRICTED_USAGE, rule, target, recipient, Optional.empty(), agreementId));
+        assertDoesNotThrow(() -> validator.validatePolicy(getParameters(PolicyPattern.CONNECTOR_RESTRICTED_USAGE, rule), target, recipient, Optional.empty(), agreementId));
     }
 
     @Test
@@ -218,7 +282,7 @@ class RuleValidatorTest {
         final var agreementId = URI.create("https://target");
 
         /* ACT && ASSERT */
-        final var result = assertThrows(PolicyRestrictionException.class, () -> validator.validatePolicy(PolicyPattern.CONNECTOR_RESTRICTED_USAGE, rule, target, recipient, Optional.empty(), agreementId));
+        final var result = assertThrows(PolicyRestrictionException.class, () -> validator.validatePolicy(getParameters(PolicyPattern.CONNECTOR_RESTRICTED_USAGE, rule), target, recipient, Optional.empty(), agreementId));
         assertEquals(ErrorMessage.DATA_ACCESS_INVALID_CONSUMER.toString(), result.getMessage());
     }
 
@@ -237,7 +301,13 @@ class RuleValidatorTest {
 
         /* ACT & ASSERT */
         assertDoesNotThrow(() -> validator.validatePolicy(
-                PolicyPattern.SECURITY_PROFILE_RESTRICTED_USAGE, rule, target, issuer,
-                Optional.of(profile), agreementId));
+                getParameters(PolicyPattern.SECURITY_PROFILE_RESTRICTED_USAGE, rule), target,
+                issuer, Optional.of(profile), agreementId));
+    }
+
+    private RuleParameters getParameters(final PolicyPattern pattern, final Rule rule) {
+        final var parameters = RuleUtils.getParameters(rule);
+        parameters.setPattern(pattern);
+        return parameters;
     }
 }
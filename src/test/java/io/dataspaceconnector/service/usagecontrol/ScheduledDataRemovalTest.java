@@ -0,0 +1,230 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import io.dataspaceconnector.common.exception.ResourceNotFoundException;
+import io.dataspaceconnector.common.ids.policy.UsageControlFramework;
+import io.dataspaceconnector.config.ConnectorConfig;
+import io.dataspaceconnector.model.agreement.DataRemoval;
+import io.dataspaceconnector.repository.DataRemovalRepository;
+import io.dataspaceconnector.service.resource.type.AgreementService;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageRequest;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScheduledDataRemovalTest {
+
+    private final URI target = URI.create("https://target");
+
+    private final UUID artifactId = UUID.randomUUID();
+
+    private ConnectorConfig connectorConfig;
+
+    private AgreementService agreementService;
+
+    private ArtifactService artifactService;
+
+    private DataRemovalRepository removalRepository;
+
+    private ScheduledDataRemoval scheduler;
+
+    @BeforeEach
+    void init() {
+        connectorConfig = Mockito.mock(ConnectorConfig.class);
+        agreementService = Mockito.mock(AgreementService.class);
+        artifactService = Mockito.mock(ArtifactService.class);
+        removalRepository = Mockito.mock(DataRemovalRepository.class);
+        scheduler = new ScheduledDataRemoval(connectorConfig, agreementService, artifactService,
+                removalRepository);
+
+        when(connectorConfig.getUcFramework()).thenReturn(UsageControlFramework.INTERNAL);
+        when(artifactService.identifyByRemoteId(target)).thenReturn(Optional.of(artifactId));
+    }
+
+    @Test
+    void schedule_removalDue_deleteDataAndMarkProcessed() {
+        /* ARRANGE */
+        final var removal = getRemoval();
+        when(removalRepository.findAllDue(any(), any())).thenReturn(List.of(removal));
+
+        /* ACT */
+        scheduler.schedule();
+
+        /* ASSERT */
+        verify(artifactService, times(1)).deleteData(artifactId);
+        verify(removalRepository, times(1)).markProcessed(List.of(removal.getId()));
+    }
+
+    @Test
+    void schedule_dataAlreadyDeleted_markProcessedOnly() {
+        /* ARRANGE */
+        final var removal = getRemoval();
+        when(removalRepository.findAllDue(any(), any())).thenReturn(List.of(removal));
+        when(artifactService.isDataDeleted(artifactId)).thenReturn(true);
+
+        /* ACT */
+        scheduler.schedule();
+
+        /* ASSERT */
+        verify(artifactService, never()).deleteData(any());
+        verify(removalRepository, times(1)).markProcessed(List.of(removal.getId()));
+    }
+
+    @Test
+    void schedule_fullBatch_fetchNextBatch() {
+        /* ARRANGE */
+        final var batch = new ArrayList<DataRemoval>();
+        for (int i = 0; i < 100; i++) {
+            batch.add(getRemoval());
+        }
+        when(removalRepository.findAllDue(any(), any()))
+                .thenReturn(batch)
+                .thenReturn(List.of());
+
+        /* ACT */
+        scheduler.schedule();
+
+        /* ASSERT */
+        verify(removalRepository, times(2)).findAllDue(any(), any());
+        verify(removalRepository, times(1)).markProcessed(anyList());
+    }
+
+    @Test
+    void schedule_artifactNotFound_keepRemovalPending() {
+        /* ARRANGE */
+        final var removal = getRemoval();
+        when(removalRepository.findAllDue(any(), any())).thenReturn(List.of(removal));
+        when(artifactService.identifyByRemoteId(target)).thenReturn(Optional.empty());
+
+        /* ACT */
+        scheduler.schedule();
+
+        /* ASSERT */
+        verify(artifactService, never()).deleteData(any());
+        verify(removalRepository, never()).markProcessed(any());
+    }
+
+    @Test
+    void schedule_deletionFails_keepRemovalPending() {
+        /* ARRANGE */
+        final var removal = getRemoval();
+        when(removalRepository.findAllDue(any(), any())).thenReturn(List.of(removal));
+        doThrow(ResourceNotFoundException.class).when(artifactService).deleteData(artifactId);
+
+        /* ACT */
+        scheduler.schedule();
+
+        /* ASSERT */
+        verify(removalRepository, never()).markProcessed(any());
+    }
+
+    @Test
+    void schedule_fullBatchNotFound_skipPendingRemovalsInNextBatch() {
+        /* ARRANGE */
+        final var batch = new ArrayList<DataRemoval>();
+        for (int i = 0; i < 100; i++) {
+            batch.add(getRemoval());
+        }
+        when(removalRepository.findAllDue(any(), any())).thenReturn(batch);
+        when(artifactService.identifyByRemoteId(target)).thenReturn(Optional.empty());
+
+        /* ACT */
+        scheduler.schedule();
+
+        /* ASSERT */
+        verify(removalRepository, times(1)).findAllDue(any(), eq(PageRequest.of(0, 100)));
+        verify(removalRepository, times(1)).findAllDue(any(), eq(PageRequest.of(0, 200)));
+        verify(removalRepository, never()).markProcessed(any());
+    }
+
+    @Test
+    void schedule_calledTwice_indexLegacyAgreementsOnce() {
+        /* ARRANGE */
+        when(removalRepository.findAllDue(any(), any())).thenReturn(List.of());
+
+        /* ACT */
+        scheduler.schedule();
+        scheduler.schedule();
+
+        /* ASSERT */
+        verify(agreementService, times(1)).indexLegacyAgreements();
+    }
+
+    @Test
+    void schedule_otherFramework_doNothing() {
+        /* ARRANGE */
+        when(connectorConfig.getUcFramework()).thenReturn(UsageControlFramework.MY_DATA);
+
+        /* ACT */
+        scheduler.schedule();
+
+        /* ASSERT */
+        verify(removalRepository, never()).findAllDue(any(), any());
+    }
+
+    @Test
+    void handleExpiration_dataRemovalDue_deleteData() {
+        /* ARRANGE */
+        final var removal = getRemoval();
+        when(removalRepository.findAllDue(any(), any())).thenReturn(List.of(removal));
+
+        /* ACT */
+        scheduler.handleExpiration(new PolicyExpirationEvent(
+                PolicyExpirationEvent.Type.DATA_REMOVAL, Set.of(removal.getAgreementId())));
+
+        /* ASSERT */
+        verify(artifactService, times(1)).deleteData(artifactId);
+        verify(agreementService, never()).indexLegacyAgreements();
+    }
+
+    @Test
+    void handleExpiration_ruleExpired_doNothing() {
+        /* ACT */
+        scheduler.handleExpiration(new PolicyExpirationEvent(
+                PolicyExpirationEvent.Type.RULE_EXPIRED, Set.of(UUID.randomUUID())));
+
+        /* ASSERT */
+        verify(removalRepository, never()).findAllDue(any(), any());
+    }
+
+    /***********************************************************************************************
+     * Utilities.                                                                                  *
+     **********************************************************************************************/
+
+    private DataRemoval getRemoval() {
+        return new DataRemoval(UUID.randomUUID(), UUID.randomUUID(), target,
+                ZonedDateTime.now().minusDays(1), false);
+    }
+}